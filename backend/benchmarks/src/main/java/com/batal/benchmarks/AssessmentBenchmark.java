@@ -0,0 +1,76 @@
+package com.batal.benchmarks;
+
+import com.batal.dto.AssessmentResponse;
+import com.batal.entity.Assessment;
+import com.batal.entity.Group;
+import com.batal.entity.Player;
+import com.batal.entity.Skill;
+import com.batal.entity.User;
+import com.batal.service.AssessmentResponseAssembler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Assessment history as served by {@code GET /assessments/player/{id}} (response conversion)
+ * and {@code GET /assessments/analytics/player/{id}} (aggregation), on in-memory entities.
+ *
+ * The required skills are passed in directly, so only the mapping and
+ * aggregation code is measured, not the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AssessmentBenchmark {
+
+    // Assessments in the history (one a month: a new player, a season, five years)
+    @Param({"1", "12", "60"})
+    public int assessmentCount;
+
+    @Param({"20"})
+    public int skillCount;
+
+    private AssessmentResponseAssembler assembler;
+    private List<Skill> skills;
+    private List<Assessment> assessments;
+
+    @Setup
+    public void setUp() {
+        skills = Fixtures.skills(skillCount);
+        User coach = Fixtures.coach(1);
+        Group group = Fixtures.group(1, coach);
+        Player player = Fixtures.player(1, group);
+        assessments = Fixtures.assessments(player, coach, skills, assessmentCount);
+
+        assembler = new AssessmentResponseAssembler();
+    }
+
+    @Benchmark
+    public void convertHistory(Blackhole blackhole) {
+        for (Assessment assessment : assessments) {
+            AssessmentResponse response = assembler.toResponse(assessment, skills);
+            blackhole.consume(response);
+        }
+    }
+
+    @Benchmark
+    public Map<String, Object> progressAnalytics() {
+        return assembler.buildProgressAnalytics(assessments);
+    }
+}
@@ -0,0 +1,81 @@
+package com.batal.benchmarks;
+
+import com.batal.entity.User;
+import com.batal.entity.enums.SkillCategory;
+import com.batal.service.EmailTemplateRenderer;
+import com.batal.service.report.MonthlyParentSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTML rendering of the account setup email and of the monthly parent report (no mail is sent)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailTemplateBenchmark {
+
+    // Children covered by one monthly report
+    @Param({"1", "3"})
+    public int children;
+
+    private EmailTemplateRenderer renderer;
+    private User user;
+    private MonthlyParentSummary summary;
+
+    @Setup
+    public void setUp() {
+        renderer = new EmailTemplateRenderer("https://batal.test");
+
+        user = Fixtures.coach(1);
+
+        summary = new MonthlyParentSummary();
+        summary.setParentId(1L);
+        summary.setParentEmail("parent@batal.test");
+        summary.setParentFirstName("Parent");
+        summary.setMonth(YearMonth.of(2026, 1));
+        for (int i = 0; i < children; i++) {
+            MonthlyParentSummary.ChildEntry child = new MonthlyParentSummary.ChildEntry();
+            child.setPlayerId((long) i + 1);
+            child.setPlayerName("Child " + i);
+            child.setAssessmentDate(LocalDate.of(2026, 1, 15));
+            child.setAssessorName("Coach Number 1");
+            child.setAverageScore(6.4);
+            Map<SkillCategory, Double> averages = new EnumMap<>(SkillCategory.class);
+            for (SkillCategory category : SkillCategory.values()) {
+                averages.put(category, 5.0 + category.ordinal());
+            }
+            child.setCategoryAverages(averages);
+            child.setComments("Works hard in training <and> keeps improving with the weaker foot");
+            summary.getChildren().add(child);
+        }
+    }
+
+    @Benchmark
+    public String passwordSetup() {
+        return renderer.buildPasswordSetupEmailHtml(user, "https://batal.test/setup-password?token=0123456789abcdef");
+    }
+
+    @Benchmark
+    public String monthlyReport() {
+        return renderer.buildMonthlyReportHtml(summary);
+    }
+}
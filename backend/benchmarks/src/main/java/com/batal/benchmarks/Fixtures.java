@@ -0,0 +1,114 @@
+package com.batal.benchmarks;
+
+import com.batal.entity.Assessment;
+import com.batal.entity.Group;
+import com.batal.entity.Player;
+import com.batal.entity.Role;
+import com.batal.entity.Skill;
+import com.batal.entity.SkillScore;
+import com.batal.entity.User;
+import com.batal.entity.enums.AgeGroup;
+import com.batal.entity.enums.AssessmentPeriod;
+import com.batal.entity.enums.Gender;
+import com.batal.entity.enums.Level;
+import com.batal.entity.enums.SkillCategory;
+import com.batal.entity.enums.UserType;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Synthetic entities shaped like production data (seeded, so every run sees the same values)
+ */
+public final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    /**
+     * Active skills, spread over every category
+     */
+    public static List<Skill> skills(int count) {
+        SkillCategory[] categories = SkillCategory.values();
+        List<Skill> skills = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Skill skill = new Skill("Skill " + i, categories[i % categories.length], EnumSet.allOf(Level.class));
+            skill.setId((long) i + 1);
+            skills.add(skill);
+        }
+        return skills;
+    }
+
+    public static User coach(long id) {
+        User coach = new User();
+        coach.setId(id);
+        coach.setEmail("coach" + id + "@batal.test");
+        coach.setFirstName("Coach");
+        coach.setLastName("Number " + id);
+        coach.setPhone("+212600000000");
+        coach.setGender(Gender.MALE);
+        coach.setUserType(UserType.COACH);
+        coach.addRole(new Role("COACH", "Coach"));
+        return coach;
+    }
+
+    public static Group group(long id, User coach) {
+        Group group = new Group(Level.DEVELOPMENT, AgeGroup.TIGERS, "Tigers " + id);
+        group.setId(id);
+        group.setCapacity(20);
+        group.setCoach(coach);
+        group.setZone("North");
+        group.setDescription("Development group " + id);
+        return group;
+    }
+
+    public static Player player(long id, Group group) {
+        Player player = new Player();
+        player.setId(id);
+        player.setFirstName("Player");
+        player.setLastName("Number " + id);
+        player.setEmail("player" + id + "@batal.test");
+        player.setLevel(Level.DEVELOPMENT);
+        player.setGroup(group);
+        return player;
+    }
+
+    /**
+     * A player's assessment history, newest first, each assessment scoring every skill
+     */
+    public static List<Assessment> assessments(Player player, User assessor, List<Skill> skills, int count) {
+        Random random = new Random(42);
+        List<Assessment> assessments = new ArrayList<>(count);
+        long scoreId = 1;
+        for (int i = 0; i < count; i++) {
+            Assessment assessment = new Assessment(player, assessor, LocalDate.of(2026, 1, 1).minusMonths(i), AssessmentPeriod.MONTHLY);
+            assessment.setId((long) i + 1);
+            assessment.setComments("Steady progress on first touch and positioning");
+            for (Skill skill : skills) {
+                SkillScore score = new SkillScore(assessment, skill, 1 + random.nextInt(10));
+                score.setId(scoreId++);
+                score.setPreviousScore(1 + random.nextInt(10));
+                assessment.addSkillScore(score);
+            }
+            assessments.add(assessment);
+        }
+        return assessments;
+    }
+
+    /**
+     * Set an injected field of a bean created outside Spring
+     */
+    public static void inject(Object target, String fieldName, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), fieldName);
+        if (field == null) {
+            throw new IllegalArgumentException(target.getClass().getSimpleName() + " has no field " + fieldName);
+        }
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
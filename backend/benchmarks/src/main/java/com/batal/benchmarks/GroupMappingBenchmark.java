@@ -0,0 +1,100 @@
+package com.batal.benchmarks;
+
+import com.batal.dto.GroupResponse;
+import com.batal.entity.Group;
+import com.batal.repository.projection.GroupListingView;
+import com.batal.service.GroupResponseMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One page of groups mapped to {@link GroupResponse}: from listing rows (Spring Data projections
+ * over a map, as {@code GroupService.getAllGroups} gets them) and from entities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GroupMappingBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private GroupResponseMapper mapper;
+    private List<GroupListingView> rows;
+    private List<Group> groups;
+
+    @Setup
+    public void setUp() {
+        mapper = new GroupResponseMapper();
+        SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+        rows = new ArrayList<>(pageSize);
+        groups = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            Group group = Fixtures.group(id, Fixtures.coach(id));
+            groups.add(group);
+            rows.add(projectionFactory.createProjection(GroupListingView.class, listingRow(group)));
+        }
+    }
+
+    @Benchmark
+    public void mapListingRows(Blackhole blackhole) {
+        for (GroupListingView row : rows) {
+            blackhole.consume(mapper.fromListing(row));
+        }
+    }
+
+    @Benchmark
+    public void mapEntities(Blackhole blackhole) {
+        for (Group group : groups) {
+            blackhole.consume(new GroupResponse(group));
+        }
+    }
+
+    private static Map<String, Object> listingRow(Group group) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", group.getId());
+        row.put("name", group.getName());
+        row.put("level", group.getLevel());
+        row.put("ageGroup", group.getAgeGroup());
+        row.put("minAge", group.getMinAge());
+        row.put("maxAge", group.getMaxAge());
+        row.put("capacity", group.getCapacity());
+        row.put("playerCount", 12);
+        row.put("zone", group.getZone());
+        row.put("description", group.getDescription());
+        row.put("isActive", true);
+        row.put("createdAt", LocalDateTime.of(2026, 1, 1, 9, 0));
+        row.put("updatedAt", LocalDateTime.of(2026, 1, 1, 9, 0));
+        row.put("coachId", group.getCoach().getId());
+        row.put("coachEmail", group.getCoach().getEmail());
+        row.put("coachFirstName", group.getCoach().getFirstName());
+        row.put("coachLastName", group.getCoach().getLastName());
+        row.put("coachPhone", group.getCoach().getPhone());
+        row.put("coachGender", group.getCoach().getGender());
+        row.put("coachUserType", group.getCoach().getUserType());
+        row.put("coachIsActive", true);
+        row.put("coachRoles", "COACH");
+        return row;
+    }
+}
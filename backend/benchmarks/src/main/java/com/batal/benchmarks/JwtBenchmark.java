@@ -0,0 +1,57 @@
+package com.batal.benchmarks;
+
+import com.batal.security.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token signing at login and verification on every authenticated request ({@code JwtRequestFilter})
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        // Same length as the default batal.jwt.secret
+        Fixtures.inject(jwtUtil, "jwtSecret", "benchmark-secret-key-with-the-same-length-as-the-configured-one-12");
+        Fixtures.inject(jwtUtil, "jwtExpirationMs", 28_800_000L);
+        token = jwtUtil.generateJwtToken("coach@batal.test");
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtUtil.generateJwtToken("coach@batal.test");
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return jwtUtil.validateJwtToken(token);
+    }
+
+    /**
+     * What the request filter does after verifying: read the subject
+     */
+    @Benchmark
+    public String verifyAndReadSubject() {
+        return jwtUtil.validateJwtToken(token) ? jwtUtil.getUsernameFromJwtToken(token) : null;
+    }
+}
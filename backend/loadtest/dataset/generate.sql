@@ -0,0 +1,216 @@
+-- =====================================================
+-- Synthetic academy dataset for load tests
+-- Description: Bulk-loads a migrated (Flyway) database with coaches, parents, groups, players
+--              and monthly assessments. Run through ../../scripts/load-test.sh dataset, or:
+--              psql -v players=5000 -v groups=300 -v seasons=5 -v skills=16 \
+--                   -v password='LoadTest-2026!' -f generate.sql batal_db
+--
+-- Every generated account and player has an @loadtest.batal email and every group the
+-- description below, so a rerun first removes the previous dataset and leaves other data alone.
+-- Assessments stop at the previous month: the current month is left for the coach scenario.
+-- =====================================================
+
+\set ON_ERROR_STOP on
+\timing on
+
+BEGIN;
+
+-- bcrypt hash of the shared password (same $2a$ format as BCryptPasswordEncoder)
+CREATE EXTENSION IF NOT EXISTS pgcrypto;
+
+\echo Removing the previous load-test dataset
+CREATE TEMP TABLE lt_old_players ON COMMIT DROP AS
+    SELECT id FROM players WHERE email LIKE '%@loadtest.batal'
+    UNION SELECT id FROM players_archive WHERE email LIKE '%@loadtest.batal';
+
+DELETE FROM skill_scores_archive WHERE assessment_id IN
+    (SELECT id FROM assessments_archive WHERE player_id IN (SELECT id FROM lt_old_players));
+DELETE FROM assessments_archive WHERE player_id IN (SELECT id FROM lt_old_players);
+DELETE FROM player_parents_archive WHERE player_id IN (SELECT id FROM lt_old_players);
+DELETE FROM players_archive WHERE id IN (SELECT id FROM lt_old_players);
+DELETE FROM skill_scores WHERE assessment_id IN
+    (SELECT id FROM assessments WHERE player_id IN (SELECT id FROM lt_old_players));
+DELETE FROM assessments WHERE player_id IN (SELECT id FROM lt_old_players);
+DELETE FROM player_parents WHERE player_id IN (SELECT id FROM lt_old_players);
+DELETE FROM players WHERE id IN (SELECT id FROM lt_old_players);
+DELETE FROM groups WHERE description = 'Generated load-test group';
+DELETE FROM users WHERE email LIKE '%@loadtest.batal';
+
+-- ========== SKILLS ==========
+-- The first :skills active skills of each level are scored; synthetic ones fill any gap
+
+\echo Skills
+INSERT INTO skills (name, category, description, display_order, is_active, created_at, updated_at)
+SELECT 'Load test ' || lower(l.level) || ' skill ' || n,
+       (ARRAY['ATHLETIC', 'TECHNICAL', 'MENTALITY', 'PERSONALITY'])[1 + n % 4],
+       'Generated load-test skill', 1000 + n, true, now(), now()
+FROM (VALUES ('DEVELOPMENT'), ('ADVANCED')) AS l(level)
+CROSS JOIN LATERAL generate_series(1, :skills - (
+    SELECT count(*) FROM skills s JOIN skill_applicable_levels sal ON sal.skill_id = s.id
+    WHERE s.is_active = true AND sal.level = l.level)) AS n
+ON CONFLICT (name) DO NOTHING;
+
+INSERT INTO skill_applicable_levels (skill_id, level)
+SELECT id, CASE WHEN name LIKE 'Load test development%' THEN 'DEVELOPMENT' ELSE 'ADVANCED' END
+FROM skills
+WHERE description = 'Generated load-test skill'
+ON CONFLICT DO NOTHING;
+
+CREATE TEMP TABLE lt_skills ON COMMIT DROP AS
+SELECT level, skill_id, rank
+FROM (SELECT sal.level, s.id AS skill_id,
+             row_number() OVER (PARTITION BY sal.level ORDER BY s.display_order, s.id) AS rank
+      FROM skills s JOIN skill_applicable_levels sal ON sal.skill_id = s.id
+      WHERE s.is_active = true) ranked
+WHERE rank <= :skills;
+
+-- ========== ACCOUNTS ==========
+-- One admin, a coach per three groups, and a parent per one or two children
+
+\echo Accounts
+CREATE TEMP TABLE lt_names ON COMMIT DROP AS
+SELECT ARRAY['Adam', 'Amine', 'Sara', 'Yasmine', 'Omar', 'Lina', 'Youssef', 'Nora', 'Karim', 'Imane',
+             'Mehdi', 'Salma', 'Hamza', 'Rania', 'Ilyas', 'Aya', 'Zakaria', 'Hiba', 'Ayoub', 'Malak'] AS first_names,
+       ARRAY['Alaoui', 'Bennani', 'Chraibi', 'Idrissi', 'El Amrani', 'Tazi', 'Berrada', 'Fassi', 'Kettani',
+             'Lahlou', 'Mansouri', 'Naciri', 'Ouazzani', 'Rahmouni', 'Sqalli', 'Zniber'] AS last_names;
+
+CREATE TEMP TABLE lt_users ON COMMIT DROP AS
+SELECT nextval(pg_get_serial_sequence('users', 'id')) AS id, kind, n
+FROM (SELECT 'ADMIN' AS kind, 1 AS n
+      UNION ALL SELECT 'COACH', generate_series(1, (:groups + 2) / 3)
+      UNION ALL SELECT 'PARENT', generate_series(1, ((:players - 1) * 2) / 3 + 1)) accounts;
+
+INSERT INTO users (id, email, password, first_name, last_name, phone, gender, user_type, title,
+                   is_active, created_at, updated_at, password_set_at)
+SELECT u.id,
+       lower(u.kind) || u.n || '@loadtest.batal',
+       hash.value,
+       names.first_names[1 + u.n % 20],
+       names.last_names[1 + (u.n / 20) % 16],
+       '+2126' || lpad((u.n % 100000000)::text, 8, '0'),
+       CASE WHEN u.n % 2 = 0 THEN 'MALE' ELSE 'FEMALE' END,
+       u.kind,
+       CASE u.kind WHEN 'COACH' THEN 'Coach' WHEN 'ADMIN' THEN 'Administrator' END,
+       true, now() - interval '5 years', now(), now() - interval '5 years'
+FROM lt_users u
+CROSS JOIN lt_names names
+CROSS JOIN (SELECT crypt(:'password', gen_salt('bf', 10)) AS value) hash;
+
+INSERT INTO user_roles (user_id, role_id, assigned_at)
+SELECT u.id, r.id, now() FROM lt_users u JOIN roles r ON r.name = u.kind;
+
+-- ========== GROUPS ==========
+
+\echo Groups
+CREATE TEMP TABLE lt_groups ON COMMIT DROP AS
+SELECT nextval(pg_get_serial_sequence('groups', 'id')) AS id, g AS n,
+       CASE WHEN g % 3 = 0 THEN 'ADVANCED' ELSE 'DEVELOPMENT' END AS level,
+       ages.age_group, ages.min_age, ages.max_age,
+       (SELECT id FROM lt_users WHERE kind = 'COACH' AND n = (g - 1) / 3 + 1) AS coach_id
+FROM generate_series(1, :groups) AS g
+JOIN (VALUES (0, 'COOKIES', 4, 6), (1, 'DOLPHINS', 7, 10), (2, 'TIGERS', 11, 13), (3, 'LIONS', 14, 16))
+    AS ages(slot, age_group, min_age, max_age) ON ages.slot = g % 4;
+
+INSERT INTO groups (id, name, level, age_group, min_age, max_age, capacity, coach_id, zone,
+                    is_active, description, created_at, updated_at)
+SELECT id, initcap(age_group) || ' ' || initcap(level) || ' ' || n, level, age_group, min_age, max_age,
+       20, coach_id, (ARRAY['North', 'South', 'East', 'West'])[1 + n % 4],
+       true, 'Generated load-test group', now() - interval '5 years', now()
+FROM lt_groups;
+
+-- ========== PLAYERS ==========
+-- Joining dates spread over the seasons; one in forty players has left (inactive, no group)
+
+\echo Players
+CREATE TEMP TABLE lt_players ON COMMIT DROP AS
+SELECT nextval(pg_get_serial_sequence('players', 'id')) AS id, i AS n,
+       g.id AS group_id, g.level, g.coach_id, g.min_age, g.max_age,
+       parent.id AS parent_id,
+       i % (:seasons * 12 + 1) AS months_since_joining,
+       i % 40 <> 0 AS active
+FROM generate_series(1, :players) AS i
+JOIN lt_groups g ON g.n = 1 + (i - 1) % :groups
+JOIN lt_users parent ON parent.kind = 'PARENT' AND parent.n = ((i - 1) * 2) / 3 + 1;
+
+INSERT INTO players (id, first_name, last_name, email, date_of_birth, gender, joining_date,
+                     level, basic_foot, group_id, is_active, inactive_reason, parent_id,
+                     emergency_contact_name, emergency_contact_phone, created_at, updated_at)
+SELECT p.id,
+       names.first_names[1 + (p.n * 7) % 20],
+       names.last_names[1 + (p.n / 20) % 16],
+       'player' || p.n || '@loadtest.batal',
+       (current_date - make_interval(years => p.min_age + p.n % (p.max_age - p.min_age + 1), days => p.n % 365))::date,
+       CASE WHEN p.n % 3 = 0 THEN 'FEMALE' ELSE 'MALE' END,
+       (date_trunc('month', current_date) - make_interval(months => p.months_since_joining))::date,
+       p.level,
+       (ARRAY['RIGHT', 'LEFT', 'BOTH'])[1 + p.n % 3],
+       CASE WHEN p.active THEN p.group_id END,
+       p.active,
+       CASE WHEN NOT p.active THEN 'Moved away' END,
+       p.parent_id,
+       'Parent ' || p.parent_id, '+212600000000',
+       now() - make_interval(months => p.months_since_joining), now()
+FROM lt_players p
+CROSS JOIN lt_names names;
+
+INSERT INTO player_parents (player_id, parent_id, created_at)
+SELECT id, parent_id, now() FROM lt_players;
+
+UPDATE groups g
+SET player_count = counts.players, capacity = GREATEST(g.capacity, counts.players)
+FROM (SELECT group_id, count(*) AS players FROM lt_players WHERE active GROUP BY group_id) counts
+WHERE g.id = counts.group_id;
+
+-- ========== ASSESSMENTS ==========
+-- One finalized assessment a month from joining to last month, by the group's coach,
+-- scoring every skill of the level; scores drift upwards with time in the academy
+
+\echo Assessments
+CREATE TEMP TABLE lt_assessments ON COMMIT DROP AS
+SELECT nextval(pg_get_serial_sequence('assessments', 'id')) AS id, p.id AS player_id, p.n AS player_n,
+       p.level, p.coach_id, m AS months_ago, p.months_since_joining - m AS months_in_academy
+FROM lt_players p
+CROSS JOIN LATERAL generate_series(1, p.months_since_joining) AS m;
+
+INSERT INTO assessments (id, player_id, assessor_id, assessment_date, period, comments, coach_notes,
+                         is_finalized, created_at, updated_at)
+SELECT a.id, a.player_id, a.coach_id,
+       (date_trunc('month', current_date) - make_interval(months => a.months_ago))::date + 14,
+       CASE WHEN a.months_ago % 3 = 0 THEN 'QUARTERLY' ELSE 'MONTHLY' END,
+       (ARRAY['Good month, keep working on the weaker foot.',
+              'Great attitude in training and matches.',
+              'Needs to communicate more with teammates.',
+              'Clear progress in positioning and first touch.'])[1 + (a.player_n + a.months_ago) % 4],
+       NULL, true,
+       (date_trunc('month', current_date) - make_interval(months => a.months_ago))::date + 14,
+       (date_trunc('month', current_date) - make_interval(months => a.months_ago))::date + 14
+FROM lt_assessments a;
+
+\echo Skill scores
+INSERT INTO skill_scores (assessment_id, skill_id, score, previous_score, improvement, created_at, updated_at)
+SELECT a.id, s.skill_id, scores.score, scores.previous_score, scores.score - scores.previous_score, now(), now()
+FROM lt_assessments a
+JOIN lt_skills s ON s.level = a.level
+CROSS JOIN LATERAL (
+    SELECT LEAST(10, GREATEST(1, 3 + (a.player_n + s.rank) % 3 + a.months_in_academy / 8
+                                 + (a.player_n * 31 + s.rank * 17 + a.months_ago * 7) % 3 - 1)) AS score,
+           CASE WHEN a.months_in_academy > 0 THEN
+               LEAST(10, GREATEST(1, 3 + (a.player_n + s.rank) % 3 + (a.months_in_academy - 1) / 8
+                                     + (a.player_n * 31 + s.rank * 17 + (a.months_ago + 1) * 7) % 3 - 1))
+           END AS previous_score
+) scores;
+
+COMMIT;
+
+ANALYZE users;
+ANALYZE groups;
+ANALYZE players;
+ANALYZE player_parents;
+ANALYZE assessments;
+ANALYZE skill_scores;
+
+SELECT (SELECT count(*) FROM users WHERE email LIKE '%@loadtest.batal') AS accounts,
+       (SELECT count(*) FROM groups WHERE description = 'Generated load-test group') AS groups,
+       (SELECT count(*) FROM players WHERE email LIKE '%@loadtest.batal') AS players,
+       (SELECT count(*) FROM assessments a JOIN players p ON p.id = a.player_id
+        WHERE p.email LIKE '%@loadtest.batal') AS assessments;
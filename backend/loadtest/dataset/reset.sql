@@ -0,0 +1,13 @@
+-- =====================================================
+-- Load-test reset
+-- Description: Removes the current month's assessments of the generated players, created by
+--              the previous run's coach scenario, so every run assesses the same players
+-- =====================================================
+
+\set ON_ERROR_STOP on
+
+DELETE FROM assessments a
+USING players p
+WHERE p.id = a.player_id
+  AND p.email LIKE '%@loadtest.batal'
+  AND a.assessment_date >= date_trunc('month', current_date);
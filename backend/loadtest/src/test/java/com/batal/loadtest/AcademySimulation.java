@@ -0,0 +1,184 @@
+package com.batal.loadtest;
+
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.FeederBuilder;
+import io.gatling.javaapi.core.PopulationBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Session;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import static io.gatling.javaapi.core.CoreDsl.StringBody;
+import static io.gatling.javaapi.core.CoreDsl.constantUsersPerSec;
+import static io.gatling.javaapi.core.CoreDsl.csv;
+import static io.gatling.javaapi.core.CoreDsl.exec;
+import static io.gatling.javaapi.core.CoreDsl.global;
+import static io.gatling.javaapi.core.CoreDsl.jsonPath;
+import static io.gatling.javaapi.core.CoreDsl.nothingFor;
+import static io.gatling.javaapi.core.CoreDsl.scenario;
+import static io.gatling.javaapi.core.CoreDsl.stressPeakUsers;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+/**
+ * Load scenarios against a running backend loaded with the generated dataset
+ * (loadtest/dataset/generate.sql); feeders are exported from that database by scripts/load-test.sh.
+ *
+ * <ul>
+ *   <li>coach: login, own groups, group roster, skills of the level, a player's history,
+ *       then create and finalize this month's assessment and read the analytics</li>
+ *   <li>parent: login, dashboard, then each child's details and assessment history</li>
+ *   <li>admin: login, then player, staff and group listings, search, cursor paging and summary</li>
+ *   <li>login: a spike of parent logins halfway through the run</li>
+ * </ul>
+ *
+ * Rates, duration and the scenarios to run are system properties (see the constants below).
+ * Requests are named after their endpoint, so the report gives percentiles per endpoint.
+ */
+public class AcademySimulation extends Simulation {
+
+	private static final String BASE_URL = System.getProperty("baseUrl", "http://localhost:8080/api");
+	private static final String PASSWORD = System.getProperty("password", "LoadTest-2026!");
+	private static final String FEEDERS = System.getProperty("feeders", "target/feeders");
+	private static final Duration DURATION = Duration.ofSeconds(Long.getLong("durationSeconds", 300));
+	private static final List<String> SCENARIOS = Arrays.asList(System.getProperty("scenarios", "coach,parent,admin,login").split(","));
+
+	// Arrivals per second; each coach session uses up one player of the feeder
+	private static final double COACH_RATE = Double.parseDouble(System.getProperty("coachRate", "2"));
+	private static final double PARENT_RATE = Double.parseDouble(System.getProperty("parentRate", "10"));
+	private static final double ADMIN_RATE = Double.parseDouble(System.getProperty("adminRate", "1"));
+	private static final int LOGIN_SPIKE_USERS = Integer.getInteger("loginSpikeUsers", 500);
+
+	private static final double MAX_FAILED_PERCENT = Double.parseDouble(System.getProperty("maxFailedPercent", "1"));
+
+	private final HttpProtocolBuilder httpProtocol = http
+			.baseUrl(BASE_URL)
+			.acceptHeader("application/json")
+			.contentTypeHeader("application/json");
+
+	private final FeederBuilder<String> coachAssessments = csv(FEEDERS + "/coach-assessments.csv").queue();
+	private final FeederBuilder<String> parents = csv(FEEDERS + "/parents.csv").random();
+	private final FeederBuilder<String> searchTerms = csv(FEEDERS + "/search-terms.csv").random();
+
+	private static ChainBuilder login(String emailExpression) {
+		return exec(http("POST /auth/login")
+				.post("/auth/login")
+				.body(StringBody("{\"email\":\"" + emailExpression + "\",\"password\":\"" + PASSWORD + "\"}"))
+				.check(status().is(200))
+				.check(jsonPath("$.token").saveAs("token"))
+				.check(jsonPath("$.id").saveAs("userId"))
+				.check(jsonPath("$.children[*].id").findAll().optional().saveAs("childIds")));
+	}
+
+	private final ScenarioBuilder coach = scenario("coach")
+			.feed(coachAssessments)
+			.exec(login("#{coach_email}"))
+			.exec(http("GET /groups/coach/{coachId}").get("/groups/coach/#{userId}")
+					.header("Authorization", "Bearer #{token}"))
+			.exec(http("GET /players/group/{groupId}").get("/players/group/#{group_id}")
+					.header("Authorization", "Bearer #{token}"))
+			.exec(http("GET /skills/list").get("/skills/list?level=#{level}&activeOnly=true")
+					.header("Authorization", "Bearer #{token}")
+					.check(jsonPath("$[*].id").findAll().saveAs("skillIds")))
+			.exec(http("GET /assessments/player/{playerId}").get("/assessments/player/#{player_id}")
+					.header("Authorization", "Bearer #{token}"))
+			// Filling in the form
+			.pause(Duration.ofSeconds(5), Duration.ofSeconds(15))
+			.exec(session -> session.set("assessmentBody", assessmentBody(session)))
+			.exec(http("POST /assessments").post("/assessments")
+					.header("Authorization", "Bearer #{token}")
+					.body(StringBody("#{assessmentBody}"))
+					.check(status().is(201))
+					.check(jsonPath("$.id").saveAs("assessmentId")))
+			.exec(http("PATCH /assessments/{id}/finalize").patch("/assessments/#{assessmentId}/finalize")
+					.header("Authorization", "Bearer #{token}"))
+			.exec(http("GET /assessments/analytics/player/{playerId}").get("/assessments/analytics/player/#{player_id}")
+					.header("Authorization", "Bearer #{token}"));
+
+	private final ScenarioBuilder parent = scenario("parent")
+			.feed(parents)
+			.exec(login("#{parent_email}"))
+			.exec(http("GET /parents/me/dashboard").get("/parents/me/dashboard")
+					.header("Authorization", "Bearer #{token}"))
+			.pause(Duration.ofSeconds(2), Duration.ofSeconds(6))
+			.foreach("#{childIds}", "childId").on(
+					exec(http("GET /parents/me/children/{playerId}").get("/parents/me/children/#{childId}")
+							.header("Authorization", "Bearer #{token}"))
+					.exec(http("GET /parents/me/children/{playerId}/assessments/history")
+							.get("/parents/me/children/#{childId}/assessments/history?page=0&size=10")
+							.header("Authorization", "Bearer #{token}"))
+					.pause(Duration.ofSeconds(2), Duration.ofSeconds(6)));
+
+	private final ScenarioBuilder admin = scenario("admin")
+			.feed(searchTerms)
+			.exec(login("admin1@loadtest.batal"))
+			.exec(session -> session
+					.set("playerPage", ThreadLocalRandom.current().nextInt(0, 200))
+					.set("groupPage", ThreadLocalRandom.current().nextInt(0, 15)))
+			.exec(http("GET /players").get("/players?page=#{playerPage}&size=20")
+					.header("Authorization", "Bearer #{token}"))
+			.pause(Duration.ofSeconds(1), Duration.ofSeconds(4))
+			.exec(http("GET /players?search").get("/players")
+					.queryParam("search", "#{term}")
+					.queryParam("size", "20")
+					.header("Authorization", "Bearer #{token}"))
+			.pause(Duration.ofSeconds(1), Duration.ofSeconds(4))
+			.exec(http("GET /players/scroll").get("/players/scroll?size=20")
+					.header("Authorization", "Bearer #{token}"))
+			.exec(http("GET /users").get("/users?page=0&size=20")
+					.header("Authorization", "Bearer #{token}"))
+			.pause(Duration.ofSeconds(1), Duration.ofSeconds(4))
+			.exec(http("GET /groups").get("/groups?page=#{groupPage}&size=20")
+					.header("Authorization", "Bearer #{token}"))
+			.exec(http("GET /assessments/summary").get("/assessments/summary")
+					.header("Authorization", "Bearer #{token}"));
+
+	private final ScenarioBuilder loginSpike = scenario("login")
+			.feed(parents)
+			.exec(login("#{parent_email}"));
+
+	{
+		List<PopulationBuilder> populations = new ArrayList<>();
+		if (SCENARIOS.contains("coach")) {
+			populations.add(coach.injectOpen(constantUsersPerSec(COACH_RATE).during(DURATION)));
+		}
+		if (SCENARIOS.contains("parent")) {
+			populations.add(parent.injectOpen(constantUsersPerSec(PARENT_RATE).during(DURATION)));
+		}
+		if (SCENARIOS.contains("admin")) {
+			populations.add(admin.injectOpen(constantUsersPerSec(ADMIN_RATE).during(DURATION)));
+		}
+		if (SCENARIOS.contains("login")) {
+			populations.add(loginSpike.injectOpen(
+					nothingFor(DURATION.dividedBy(2)),
+					stressPeakUsers(LOGIN_SPIKE_USERS).during(Duration.ofSeconds(10))));
+		}
+
+		setUp(populations)
+				.protocols(httpProtocol)
+				.assertions(global().failedRequests().percent().lte(MAX_FAILED_PERCENT));
+	}
+
+	/**
+	 * This month's assessment of the fed player, rating every skill of their level
+	 */
+	private static String assessmentBody(Session session) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		String ratings = session.getList("skillIds").stream()
+				.map(skillId -> "{\"skillId\":" + skillId + ",\"score\":" + random.nextInt(1, 11) + "}")
+				.collect(Collectors.joining(","));
+		return "{\"playerId\":" + session.getString("player_id")
+				+ ",\"assessmentDate\":\"" + LocalDate.now() + "\""
+				+ ",\"period\":\"MONTHLY\""
+				+ ",\"comments\":\"Load test assessment\""
+				+ ",\"skillRatings\":[" + ratings + "]}";
+	}
+}
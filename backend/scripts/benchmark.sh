@@ -0,0 +1,66 @@
+#!/bin/bash
+
+# Batal Backend - JMH benchmarks of the hot paths (JWT, password hashing, assessment mapping and
+# analytics, email rendering, group mapping), see benchmarks/src/main/java.
+#
+# Installs the backend classes jar, builds benchmarks/target/benchmarks.jar and runs it, writing the
+# JMH results as JSON to benchmarks/results/<label>.json. Two result files can then be compared.
+#
+# Usage:
+#   ./scripts/benchmark.sh run before                        # all benchmarks
+#   ./scripts/benchmark.sh run after 'Jwt|Assessment' -f 2   # regex filter and extra JMH options
+#   ./scripts/benchmark.sh compare before after
+
+set -e
+
+cd "$(dirname "$0")/.."
+RESULTS_DIR="benchmarks/results"
+
+run() {
+    local label=${1:?label is required}
+    shift
+    mkdir -p "$RESULTS_DIR"
+
+    echo "Building backend classes and benchmarks"
+    ./mvnw -q -B install -DskipTests
+    ./mvnw -q -B -f benchmarks/pom.xml clean package
+
+    java -jar benchmarks/target/benchmarks.jar -rf json -rff "$RESULTS_DIR/$label.json" "$@"
+    echo "Results written to $RESULTS_DIR/$label.json"
+}
+
+compare() {
+    local before="$RESULTS_DIR/${1:?before label is required}.json"
+    local after="$RESULTS_DIR/${2:?after label is required}.json"
+
+    python3 - "$before" "$after" <<'PY'
+import json
+import sys
+
+def load(path):
+    results = {}
+    for result in json.load(open(path)):
+        params = ",".join(f"{k}={v}" for k, v in sorted(result.get("params", {}).items()))
+        name = result["benchmark"].rsplit(".", 2)[-2:]
+        key = ".".join(name) + (f" [{params}]" if params else "")
+        metric = result["primaryMetric"]
+        results[key] = (metric["score"], metric["scoreError"], metric["scoreUnit"])
+    return results
+
+before, after = load(sys.argv[1]), load(sys.argv[2])
+print(f"{'benchmark':<72} {'before':>14} {'after':>14} {'change':>8}  unit")
+for key in sorted(before.keys() | after.keys()):
+    if key not in before or key not in after:
+        print(f"{key:<72} {'only in ' + ('after' if key in after else 'before'):>38}")
+        continue
+    (b, b_err, unit), (a, a_err, _) = before[key], after[key]
+    change = (a - b) / b * 100 if b else float("nan")
+    print(f"{key:<72} {b:>9.3f}±{b_err:<4.2g} {a:>9.3f}±{a_err:<4.2g} {change:>+7.1f}%  {unit}")
+PY
+}
+
+case "$1" in
+    run) shift; run "$@" ;;
+    compare) shift; compare "$@" ;;
+    *) sed -n '3,13p' "$0"; exit 1 ;;
+esac
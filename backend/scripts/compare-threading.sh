@@ -0,0 +1,90 @@
+#!/bin/bash
+
+# Batal Backend - platform vs virtual thread load comparison
+#
+# Builds the Java 21 jar, then runs the same load against the backend once per threading mode
+# and keeps the raw results side by side. Both runs use the same database, data, connection pool
+# size and load, so the only difference is the threading mode.
+#
+# Requirements: Java 21, a running Postgres with the batal_db schema and data (docker compose up postgres),
+# an admin account, and hey (https://github.com/rakyll/hey) on the PATH.
+#
+# Usage: ADMIN_EMAIL=admin@batal.com ADMIN_PASSWORD=... ./scripts/compare-threading.sh
+
+set -e
+
+ADMIN_EMAIL=${ADMIN_EMAIL:?ADMIN_EMAIL is required}
+ADMIN_PASSWORD=${ADMIN_PASSWORD:?ADMIN_PASSWORD is required}
+BASE_URL=${BASE_URL:-http://localhost:8080/api}
+DURATION=${DURATION:-60s}
+WARMUP=${WARMUP:-15s}
+CONCURRENCY_LEVELS=${CONCURRENCY_LEVELS:-"50 200 800"}
+export DB_POOL_SIZE=${DB_POOL_SIZE:-20}
+
+ENDPOINTS=(
+    "/players?page=0&size=20"
+    "/users?page=0&size=20"
+    "/players/scroll?size=20"
+)
+
+cd "$(dirname "$0")/.."
+RESULTS_DIR="target/threading-comparison/$(date +%Y%m%d-%H%M%S)"
+mkdir -p "$RESULTS_DIR"
+
+echo "Building with -Pjava21"
+./mvnw -q -B -Pjava21 clean package -DskipTests
+JAR=$(ls target/batal-backend-*.jar | grep -v original | head -1)
+
+run_mode() {
+    local mode=$1
+    local profile=$2
+    local log="$RESULTS_DIR/$mode-app.log"
+
+    echo "Starting backend ($mode)"
+    SPRING_PROFILES_ACTIVE=$profile java -Xms1g -Xmx1g -jar "$JAR" > "$log" 2>&1 &
+    local pid=$!
+    trap "kill $pid 2>/dev/null" EXIT
+
+    for _ in $(seq 1 60); do
+        curl -sf "$BASE_URL/health" > /dev/null && break
+        sleep 2
+    done
+
+    local token
+    token=$(curl -sf -X POST "$BASE_URL/auth/login" -H "Content-Type: application/json" \
+        -d "{\"email\":\"$ADMIN_EMAIL\",\"password\":\"$ADMIN_PASSWORD\"}" \
+        | sed -E 's/.*"token":"([^"]+)".*/\1/')
+
+    for endpoint in "${ENDPOINTS[@]}"; do
+        hey -z "$WARMUP" -c 50 -H "Authorization: Bearer $token" "$BASE_URL$endpoint" > /dev/null
+        for concurrency in $CONCURRENCY_LEVELS; do
+            local name
+            name=$(echo "$endpoint" | sed -E 's/[^a-z]+/-/g; s/^-//; s/-$//')
+            echo "  $endpoint at $concurrency concurrent requests"
+            hey -z "$DURATION" -c "$concurrency" -H "Authorization: Bearer $token" "$BASE_URL$endpoint" \
+                > "$RESULTS_DIR/$mode-$name-c$concurrency.txt"
+        done
+    done
+
+    # Pinning sites seen during the run (virtual threads only)
+    curl -sf -H "Authorization: Bearer $token" "$BASE_URL/runtime/pinning" > "$RESULTS_DIR/$mode-pinning.json" || true
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+}
+
+run_mode platform default
+run_mode virtual virtual-threads
+
+echo ""
+echo "Requests/sec and p99 latency (details in $RESULTS_DIR)"
+for result in "$RESULTS_DIR"/platform-*-c*.txt; do
+    virtual=${result/platform-/virtual-}
+    printf "%-45s platform %8s rps  p99 %8s s | virtual %8s rps  p99 %8s s\n" \
+        "$(basename "$result" .txt | sed 's/^platform-//')" \
+        "$(grep 'Requests/sec' "$result" | awk '{print $2}')" \
+        "$(grep '99% in' "$result" | awk '{print $3}')" \
+        "$(grep 'Requests/sec' "$virtual" | awk '{print $2}')" \
+        "$(grep '99% in' "$virtual" | awk '{print $3}')"
+done
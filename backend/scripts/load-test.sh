@@ -0,0 +1,82 @@
+#!/bin/bash
+
+# Batal Backend - end-to-end load test against a locally started backend
+#
+# dataset: bulk-loads the synthetic academy (loadtest/dataset/generate.sql) into the database the
+#          backend uses; start the backend once first so Flyway has migrated it
+# run:     resets the previous run's assessments, exports the feeders and runs the Gatling
+#          scenarios (loadtest/), then prints percentiles per endpoint; the HTML report is in
+#          loadtest/target/gatling
+#
+# Requirements: psql, Java 17, a running Postgres (docker compose up postgres) and backend.
+# Database connection from PGHOST, PGPORT, PGUSER, PGPASSWORD and PGDATABASE (dev defaults).
+#
+# Usage:
+#   ./scripts/load-test.sh dataset                                     # 5000 players, 300 groups, 5 seasons
+#   PLAYERS=20000 GROUPS=1200 ./scripts/load-test.sh dataset
+#   ./scripts/load-test.sh run                                         # all scenarios, 5 minutes
+#   ./scripts/load-test.sh run -Dscenarios=parent,login -DparentRate=40 -DdurationSeconds=120
+
+set -e
+
+cd "$(dirname "$0")/.."
+
+export PGHOST=${PGHOST:-localhost}
+export PGPORT=${PGPORT:-5432}
+export PGUSER=${PGUSER:-batal_user}
+export PGPASSWORD=${PGPASSWORD:-batal_password}
+export PGDATABASE=${PGDATABASE:-batal_db}
+LOADTEST_PASSWORD=${LOADTEST_PASSWORD:-LoadTest-2026!}
+FEEDERS_DIR="loadtest/target/feeders"
+
+dataset() {
+    psql -q -v players="${PLAYERS:-5000}" -v groups="${GROUPS:-300}" -v seasons="${SEASONS:-5}" \
+        -v skills="${SKILLS:-16}" -v password="$LOADTEST_PASSWORD" -f loadtest/dataset/generate.sql
+}
+
+export_feeder() {
+    psql -q -c "COPY ($2) TO STDOUT WITH CSV HEADER" > "$FEEDERS_DIR/$1"
+}
+
+run() {
+    psql -q -f loadtest/dataset/reset.sql
+    mkdir -p "$FEEDERS_DIR"
+
+    # One row per active player: their coach assesses them once per run
+    export_feeder coach-assessments.csv "SELECT c.email AS coach_email, g.id AS group_id, p.id AS player_id, p.level
+        FROM players p JOIN groups g ON g.id = p.group_id JOIN users c ON c.id = g.coach_id
+        WHERE p.email LIKE '%@loadtest.batal' AND p.is_active = true ORDER BY md5(p.id::text)"
+    export_feeder parents.csv "SELECT email AS parent_email FROM users WHERE email LIKE 'parent%@loadtest.batal'"
+    export_feeder search-terms.csv "SELECT DISTINCT lower(left(last_name, 4)) AS term FROM players
+        WHERE email LIKE '%@loadtest.batal'"
+
+    ./mvnw -q -B -f loadtest/pom.xml gatling:test \
+        -Dfeeders="$(pwd)/$FEEDERS_DIR" -Dpassword="$LOADTEST_PASSWORD" "$@" || status=$?
+
+    summary "$(ls -td loadtest/target/gatling/*/ | head -1)"
+    return ${status:-0}
+}
+
+# Per-endpoint percentiles from the last run's stats.json (percentiles1-4 are p50, p75, p95, p99)
+summary() {
+    python3 - "$1/js/stats.json" <<'PY'
+import json
+import sys
+
+stats = json.load(open(sys.argv[1]))
+rows = [stats] + [child for child in stats.get("contents", {}).values() if child["type"] == "REQUEST"]
+print(f"{'endpoint':<62} {'count':>7} {'ko':>5} {'p50':>6} {'p75':>6} {'p95':>6} {'p99':>6} {'max':>6}  ms")
+for row in sorted(rows[1:], key=lambda r: r["name"]) + rows[:1]:
+    s = row["stats"]
+    name = "All requests" if row is stats else row["name"]
+    print(f"{name:<62} {s['numberOfRequests']['total']:>7} {s['numberOfRequests']['ko']:>5} "
+          f"{s['percentiles1']['total']:>6} {s['percentiles2']['total']:>6} {s['percentiles3']['total']:>6} "
+          f"{s['percentiles4']['total']:>6} {s['maxResponseTime']['total']:>6}")
+PY
+}
+
+case "$1" in
+    dataset) shift; dataset "$@" ;;
+    run) shift; run "$@" ;;
+    *) sed -n '3,19p' "$0"; exit 1 ;;
+esac
@@ -3,9 +3,11 @@ package com.batal;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @ComponentScan(basePackages = "com.batal")
+@EnableScheduling
 public class BatalApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,42 @@
+package com.batal.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Readiness check against the database the application writes to: runs a query with a short
+ * timeout and reports down when the database is unreachable, slow to answer or read-only
+ * (a primary that has not finished recovery or a standby behind a failed-over address).
+ * Outside a transaction the query always goes to the primary, never the read replica.
+ */
+@Component
+public class DatabaseHealthIndicator extends AbstractHealthIndicator {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public DatabaseHealthIndicator(DataSource dataSource,
+                                   @Value("${batal.health.db-timeout-seconds:2}") int timeoutSeconds) {
+        super("Database health check failed");
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setQueryTimeout(timeoutSeconds);
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        long start = System.currentTimeMillis();
+        Boolean inRecovery = jdbcTemplate.queryForObject("SELECT pg_is_in_recovery()", Boolean.class);
+        builder.withDetail("responseTimeMs", System.currentTimeMillis() - start);
+        if (Boolean.TRUE.equals(inRecovery)) {
+            builder.down().withDetail("error", "Database is read-only (in recovery)");
+        } else {
+            builder.up();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.batal.config;
+
+import com.batal.security.JwtRequestFilter;
+import io.micrometer.common.KeyValues;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+
+/**
+ * Application-specific metrics on top of the Actuator defaults (HTTP requests, Hikari pools,
+ * Hibernate statistics, JVM)
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Tags http.server.requests with the caller's role, so latency can be broken down by
+     * endpoint and role. The security context is already cleared when the request is recorded,
+     * so the role is taken from the request attribute set by {@link JwtRequestFilter}.
+     */
+    @Bean
+    public ServerRequestObservationConvention serverRequestObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                Object role = context.getCarrier().getAttribute(JwtRequestFilter.ROLE_ATTRIBUTE);
+                return super.getLowCardinalityKeyValues(context).and("role", role != null ? role.toString() : "anonymous");
+            }
+        };
+    }
+
+    /**
+     * Read/write routing counts and replica lag, when the read replica is enabled
+     */
+    @Bean
+    public MeterBinder dataSourceRoutingMetrics(ObjectProvider<ReadWriteRoutingDataSource> routingDataSource,
+                                                ObjectProvider<ReplicaLagMonitor> replicaLagMonitor) {
+        return registry -> {
+            routingDataSource.ifAvailable(routing -> {
+                FunctionCounter.builder("batal.datasource.connections", routing, ReadWriteRoutingDataSource::getPrimaryConnections)
+                        .tag("route", "primary").register(registry);
+                FunctionCounter.builder("batal.datasource.connections", routing, ReadWriteRoutingDataSource::getReplicaConnections)
+                        .tag("route", "replica").register(registry);
+                FunctionCounter.builder("batal.datasource.connections", routing, ReadWriteRoutingDataSource::getFallbackConnections)
+                        .tag("route", "fallback").register(registry);
+                Gauge.builder("batal.datasource.replica.available", routing, r -> r.isReplicaAvailable() ? 1 : 0)
+                        .register(registry);
+            });
+            replicaLagMonitor.ifAvailable(monitor ->
+                    Gauge.builder("batal.datasource.replica.lag", monitor,
+                                    m -> m.getLagSeconds() != null ? m.getLagSeconds() : Double.NaN)
+                            .baseUnit("seconds")
+                            .register(registry));
+        };
+    }
+}
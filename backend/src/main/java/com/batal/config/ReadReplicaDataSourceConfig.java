@@ -0,0 +1,70 @@
+package com.batal.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+/**
+ * Primary and replica connection pools behind a read/write routing DataSource.
+ * Enabled with batal.datasource.replica.enabled=true; otherwise Spring Boot's single pool is used.
+ *
+ * The primary pool keeps the spring.datasource.* and spring.datasource.hikari.* settings;
+ * the replica pool is configured under batal.datasource.replica.*.
+ */
+@Configuration
+@ConditionalOnProperty(name = "batal.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("batal-primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("batal.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${batal.datasource.replica.url}") String url,
+                                              @Value("${batal.datasource.replica.username}") String username,
+                                              @Value("${batal.datasource.replica.password}") String password) {
+        // Started on first use, so an unreachable replica does not stop the application from starting
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setPoolName("batal-replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                        @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        // Pool defaults, so the proxy does not fetch a connection just to read them
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return dataSource;
+    }
+}
@@ -0,0 +1,69 @@
+package com.batal.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends connections of read-only transactions to the replica pool and everything else
+ * (write transactions, work outside a transaction, Flyway) to the primary.
+ *
+ * The read-only flag is only known once the transaction has started, so this must sit behind a
+ * LazyConnectionDataSourceProxy that defers fetching the connection to the first statement.
+ * While the replica is unreachable or lagging too far behind, reads fall back to the primary.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private volatile boolean replicaAvailable;
+
+    private final AtomicLong primaryConnections = new AtomicLong();
+    private final AtomicLong replicaConnections = new AtomicLong();
+    private final AtomicLong fallbackConnections = new AtomicLong();
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryConnections.incrementAndGet();
+            return Route.PRIMARY;
+        }
+        if (!replicaAvailable) {
+            fallbackConnections.incrementAndGet();
+            return Route.PRIMARY;
+        }
+        replicaConnections.incrementAndGet();
+        return Route.REPLICA;
+    }
+
+    public void setReplicaAvailable(boolean replicaAvailable) {
+        this.replicaAvailable = replicaAvailable;
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    public long getPrimaryConnections() {
+        return primaryConnections.get();
+    }
+
+    public long getReplicaConnections() {
+        return replicaConnections.get();
+    }
+
+    // Read-only connections sent to the primary because the replica was unavailable
+    public long getFallbackConnections() {
+        return fallbackConnections.get();
+    }
+}
@@ -0,0 +1,165 @@
+package com.batal.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+
+/**
+ * Checks how far the replica is behind the primary and takes it out of the read routing while
+ * it is unreachable, not a standby, or lagging more than batal.datasource.replica.max-lag-seconds,
+ * so reads do not serve data older than that. The replica only receives reads after the first
+ * good check.
+ *
+ * Lag is measured on WAL positions rather than replay timestamps: each check records the primary's
+ * current LSN, and the lag is the age of the oldest recorded position the replica has not replayed
+ * yet. A replica that replays within milliseconds reports (almost) no lag even after the primary
+ * was idle for hours, while one that stopped replaying keeps aging. The measurement is as coarse
+ * as batal.datasource.replica.lag-check-ms.
+ */
+@Component
+@ConditionalOnProperty(name = "batal.datasource.replica.enabled", havingValue = "true")
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final String PRIMARY_LSN_SQL = "SELECT pg_current_wal_lsn()::text";
+
+    // pg_last_wal_replay_lsn() is NULL outside recovery and before anything was replayed
+    private static final String REPLICA_STATE_SQL = "SELECT pg_is_in_recovery() AS in_recovery, pg_last_wal_replay_lsn()::text AS replay_lsn";
+
+    // Positions kept while the replica is behind; past this the oldest are dropped, which only
+    // happens long after the lag has exceeded any sensible limit
+    private static final int MAX_PENDING_POSITIONS = 1000;
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+    private final JdbcTemplate primaryJdbcTemplate;
+    private final JdbcTemplate replicaJdbcTemplate;
+
+    // Primary positions not replayed by the replica yet, oldest first (only touched by check())
+    private final Deque<WalPosition> pendingPositions = new ArrayDeque<>();
+
+    @Value("${batal.datasource.replica.max-lag-seconds:10}")
+    private double maxLagSeconds;
+
+    private volatile Double lagSeconds;
+    private volatile LocalDateTime lastCheckedAt;
+    private volatile String lastError;
+
+    @Autowired
+    public ReplicaLagMonitor(ReadWriteRoutingDataSource routingDataSource,
+                             @Qualifier("primaryDataSource") DataSource primaryDataSource,
+                             @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        this.routingDataSource = routingDataSource;
+        this.primaryJdbcTemplate = new JdbcTemplate(primaryDataSource);
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+    }
+
+    @Scheduled(fixedDelayString = "${batal.datasource.replica.lag-check-ms:5000}")
+    public void check() {
+        String unavailableReason = null;
+        try {
+            long now = System.nanoTime();
+            recordPrimaryPosition(parseLsn(primaryJdbcTemplate.queryForObject(PRIMARY_LSN_SQL, String.class)), now);
+
+            Map<String, Object> state = replicaJdbcTemplate.queryForMap(REPLICA_STATE_SQL);
+            String replayLsn = (String) state.get("replay_lsn");
+            lastError = null;
+            if (!Boolean.TRUE.equals(state.get("in_recovery"))) {
+                // A copy, a promoted or a detached standby never receives the primary's writes
+                lagSeconds = null;
+                lastError = "Replica is not in recovery, so it is not replicating from the primary";
+                unavailableReason = lastError;
+            } else if (replayLsn == null) {
+                lagSeconds = null;
+                unavailableReason = "Replica has not replayed any WAL from the primary";
+            } else {
+                long replayed = parseLsn(replayLsn);
+                while (!pendingPositions.isEmpty() && pendingPositions.peekFirst().lsn <= replayed) {
+                    pendingPositions.pollFirst();
+                }
+                lagSeconds = pendingPositions.isEmpty()
+                        ? 0.0
+                        : (now - pendingPositions.peekFirst().recordedAt) / 1_000_000_000.0;
+                if (lagSeconds > maxLagSeconds) {
+                    unavailableReason = "Replica lag " + lagSeconds + " s exceeds " + maxLagSeconds + " s";
+                }
+            }
+        } catch (RuntimeException e) {
+            lagSeconds = null;
+            lastError = e.getMessage();
+            unavailableReason = "Replica unreachable: " + lastError;
+        }
+        // The replica starts out unavailable, so the first check also reports why it stays that way
+        boolean firstCheck = lastCheckedAt == null;
+        lastCheckedAt = LocalDateTime.now();
+
+        boolean available = unavailableReason == null;
+        if (available != routingDataSource.isReplicaAvailable() || (firstCheck && !available)) {
+            if (available) {
+                log.info("Replica available (lag {} s), routing read-only transactions to it", lagSeconds);
+            } else {
+                log.warn("{}, routing reads to the primary", unavailableReason);
+            }
+            routingDataSource.setReplicaAvailable(available);
+        }
+    }
+
+    private void recordPrimaryPosition(long lsn, long now) {
+        WalPosition newest = pendingPositions.peekLast();
+        if (newest != null && newest.lsn >= lsn) {
+            // No new writes since the last check: the older position is the one that ages
+            return;
+        }
+        if (pendingPositions.size() >= MAX_PENDING_POSITIONS) {
+            pendingPositions.pollFirst();
+        }
+        pendingPositions.addLast(new WalPosition(lsn, now));
+    }
+
+    /**
+     * pg_lsn text form ("16/B374D848") as a comparable number
+     */
+    private static long parseLsn(String lsn) {
+        int slash = lsn.indexOf('/');
+        return (Long.parseLong(lsn.substring(0, slash), 16) << 32) | Long.parseLong(lsn.substring(slash + 1), 16);
+    }
+
+    public Double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    public double getMaxLagSeconds() {
+        return maxLagSeconds;
+    }
+
+    public LocalDateTime getLastCheckedAt() {
+        return lastCheckedAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    private static class WalPosition {
+
+        private final long lsn;
+        private final long recordedAt;
+
+        WalPosition(long lsn, long recordedAt) {
+            this.lsn = lsn;
+            this.recordedAt = recordedAt;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.batal.config;
+
+import com.batal.security.JwtRequestFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * One log line per sampled request with the endpoint pattern, status, duration, caller role and,
+ * when the SQL budget is on, the number of statements executed. Server errors and requests slower
+ * than the threshold are always logged (at WARN); the rest at INFO with the given probability.
+ *
+ * The values are passed as structured arguments, so the JSON appender writes them as fields.
+ */
+public class RequestLogFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestLogFilter.class);
+
+    private final double sampleRate;
+    private final long slowThresholdMs;
+
+    public RequestLogFilter(double sampleRate, long slowThresholdMs) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdMs = slowThresholdMs;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        // An exception escaping the chain becomes a 500 later, on the error dispatch
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        try {
+            filterChain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            long durationMs = (System.nanoTime() - start) / 1_000_000;
+            report(request, status, durationMs);
+        }
+    }
+
+    private void report(HttpServletRequest request, int status, long durationMs) {
+        boolean notable = status >= 500 || durationMs >= slowThresholdMs;
+        if (!notable && !(log.isInfoEnabled() && sampled())) {
+            return;
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Object role = request.getAttribute(JwtRequestFilter.ROLE_ATTRIBUTE);
+        Object stats = request.getAttribute(SqlBudgetFilter.STATS_ATTRIBUTE);
+        Integer statements = stats instanceof SqlStatementStats sqlStats ? sqlStats.getStatements() : null;
+
+        Object[] arguments = {
+                kv("method", request.getMethod()),
+                kv("endpoint", pattern != null ? pattern : "UNKNOWN"),
+                kv("status", status),
+                kv("durationMs", durationMs),
+                kv("role", role != null ? role : "anonymous"),
+                kv("sqlStatements", statements)
+        };
+        if (notable) {
+            log.warn("request {} {} {} {} {} {}", arguments);
+        } else {
+            log.info("request {} {} {} {} {} {}", arguments);
+        }
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+}
@@ -0,0 +1,28 @@
+package com.batal.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Sampled per-request log lines ({@link RequestLogFilter}), enabled with
+ * batal.logging.requests.enabled=true (on in the prod profile).
+ */
+@Configuration
+@ConditionalOnProperty(name = "batal.logging.requests.enabled", havingValue = "true")
+public class RequestLoggingConfig {
+
+    @Bean
+    public FilterRegistrationBean<RequestLogFilter> requestLogFilter(
+            @Value("${batal.logging.requests.sample-rate:1.0}") double sampleRate,
+            @Value("${batal.logging.requests.slow-threshold-ms:1000}") long slowThresholdMs) {
+        FilterRegistrationBean<RequestLogFilter> registration = new FilterRegistrationBean<>(
+                new RequestLogFilter(sampleRate, slowThresholdMs));
+        // Outside the SQL budget filter, so its statement count is complete when the line is written
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+}
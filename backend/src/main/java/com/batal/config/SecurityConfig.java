@@ -3,8 +3,10 @@ package com.batal.config;
 import com.batal.security.JwtAuthenticationEntryPoint;
 import com.batal.security.JwtRequestFilter;
 import com.batal.service.UserDetailsServiceImpl;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -72,6 +74,8 @@ public class SecurityConfig {
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authz -> authz
+                        // Async re-dispatches (SSE, streaming exports) were authorized on the original request
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/auth/login", "/auth/register").permitAll()
                         .requestMatchers("/auth/forgot-password").permitAll()
                         .requestMatchers("/auth/validate-reset-token").permitAll()
@@ -81,6 +85,9 @@ public class SecurityConfig {
                         .requestMatchers("/auth/resend-setup-email-by-email").permitAll()
                         .requestMatchers("/public/**").permitAll()
                         .requestMatchers("/health").permitAll()
+                        // Actuator runs on the management port; probes and the Prometheus scrape are unauthenticated
+                        .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).hasRole("ADMIN")
                         .requestMatchers("/error").permitAll()
                         .anyRequest().authenticated()
                 );
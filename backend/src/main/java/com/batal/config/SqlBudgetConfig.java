@@ -0,0 +1,56 @@
+package com.batal.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Per-request SQL statement budget: the application DataSource is wrapped in a proxy that
+ * counts statements, and {@link SqlBudgetFilter} reports requests that run too many.
+ * Disable with batal.sql-budget.enabled=false.
+ */
+@Configuration
+@ConditionalOnProperty(name = "batal.sql-budget.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlBudgetConfig {
+
+    // Only the DataSource the application uses is wrapped (the routing proxy when a read replica
+    // is configured, not the pools behind it)
+    private static final String APPLICATION_DATA_SOURCE = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor sqlStatementCountingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && APPLICATION_DATA_SOURCE.equals(beanName)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name("batal")
+                            .listener(new SqlStatementListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlBudgetFilter> sqlBudgetFilter(
+            @Value("${batal.sql-budget.max-statements:25}") int maxStatements,
+            @Value("${batal.sql-budget.repeat-threshold:5}") int repeatThreshold,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        FilterRegistrationBean<SqlBudgetFilter> registration = new FilterRegistrationBean<>(
+                new SqlBudgetFilter(maxStatements, repeatThreshold, meterRegistry.getIfAvailable()));
+        // Ahead of Spring Security, so authentication queries are counted too
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,71 @@
+package com.batal.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements each HTTP request executes and reports requests over the budget
+ * or repeating the same statement shape (the usual sign of an N+1 query) with the shapes involved.
+ *
+ * Every request's count is recorded as batal.sql.statements per endpoint; requests over budget
+ * are counted as batal.sql.budget.exceeded. The stats are left on the request
+ * ({@link #STATS_ATTRIBUTE}) so tests can assert on them.
+ */
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlBudgetFilter.class);
+
+    public static final String STATS_ATTRIBUTE = SqlBudgetFilter.class.getName() + ".stats";
+
+    private final int maxStatements;
+    private final int repeatThreshold;
+    private final MeterRegistry meterRegistry;
+
+    public SqlBudgetFilter(int maxStatements, int repeatThreshold, MeterRegistry meterRegistry) {
+        this.maxStatements = maxStatements;
+        this.repeatThreshold = repeatThreshold;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementStats stats = SqlStatementListener.begin();
+        request.setAttribute(STATS_ATTRIBUTE, stats);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementListener.end();
+            report(request, stats);
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatementStats stats) {
+        if (stats.getStatements() == 0) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + (pattern != null ? pattern : "UNKNOWN");
+        if (meterRegistry != null) {
+            meterRegistry.summary("batal.sql.statements", "endpoint", endpoint).record(stats.getStatements());
+        }
+
+        boolean overBudget = stats.getStatements() > maxStatements;
+        if (overBudget && meterRegistry != null) {
+            meterRegistry.counter("batal.sql.budget.exceeded", "endpoint", endpoint).increment();
+        }
+        if (overBudget || !stats.getRepeatedShapes(repeatThreshold).isEmpty()) {
+            log.warn("{} {}: {} (budget {})", endpoint, overBudget ? "over SQL budget" : "repeats SQL statements",
+                    stats.describe(repeatThreshold), maxStatements);
+        }
+    }
+}
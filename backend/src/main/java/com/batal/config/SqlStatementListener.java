@@ -0,0 +1,48 @@
+package com.batal.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * Records executed statements into the {@link SqlStatementStats} of the current thread, if
+ * counting was started for it (see {@link SqlBudgetFilter}). A batch counts as one statement
+ * per query in it, not per parameter set.
+ */
+public class SqlStatementListener implements QueryExecutionListener {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Start counting statements executed on this thread
+     */
+    public static SqlStatementStats begin() {
+        SqlStatementStats stats = new SqlStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Stop counting on this thread
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats == null) {
+            return;
+        }
+        for (QueryInfo queryInfo : queryInfoList) {
+            stats.record(queryInfo.getQuery(), executionInfo.getElapsedTime());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.batal.config;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * SQL statements executed while handling one request, grouped by statement shape
+ * (the SQL with literals and IN-list lengths normalised away), so that the same query
+ * issued once per row of a result shows up as one shape with a high count.
+ */
+public class SqlStatementStats {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+
+    private int statements;
+    private long elapsedMs;
+    private final Map<String, Integer> shapes = new LinkedHashMap<>();
+
+    void record(String sql, long elapsed) {
+        statements++;
+        elapsedMs += elapsed;
+        shapes.merge(shape(sql), 1, Integer::sum);
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    /**
+     * Count per statement shape, in order of first execution
+     */
+    public Map<String, Integer> getShapes() {
+        return shapes;
+    }
+
+    /**
+     * Shapes executed at least {@code threshold} times, most repeated first
+     */
+    public List<Map.Entry<String, Integer>> getRepeatedShapes(int threshold) {
+        return shapes.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Readable summary: statement count and the repeated shapes
+     */
+    public String describe(int repeatThreshold) {
+        StringBuilder description = new StringBuilder()
+                .append(statements).append(" statements in ").append(elapsedMs).append(" ms");
+        for (Map.Entry<String, Integer> repeated : getRepeatedShapes(repeatThreshold)) {
+            description.append("\n\t").append(repeated.getValue()).append("x ").append(abbreviate(repeated.getKey()));
+        }
+        return description.toString();
+    }
+
+    static String shape(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        return IN_LIST.matcher(shape).replaceAll("in (?...)");
+    }
+
+    private static String abbreviate(String shape) {
+        return shape.length() > 300 ? shape.substring(0, 300) + "..." : shape;
+    }
+}
@@ -0,0 +1,71 @@
+package com.batal.controller;
+
+import com.batal.dto.ArchiveResultDTO;
+import com.batal.dto.ArchivedPlayerDTO;
+import com.batal.service.ArchiveService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Controller for archiving inactive players and old assessments, and restoring them
+ */
+@RestController
+@RequestMapping("/archive")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@PreAuthorize("hasRole('ADMIN')")
+public class ArchiveController {
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    /**
+     * Start an archival run in the background
+     * POST /api/archive/runs
+     */
+    @PostMapping("/runs")
+    public ResponseEntity<Map<String, String>> startRun() {
+        archiveService.start();
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "Archival started");
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * Result of the last archival run since startup
+     * GET /api/archive/runs/last
+     */
+    @GetMapping("/runs/last")
+    public ResponseEntity<ArchiveResultDTO> getLastRun() {
+        ArchiveResultDTO lastRun = archiveService.getLastRun();
+        return lastRun != null ? ResponseEntity.ok(lastRun) : ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Archived players, most recently archived first
+     * GET /api/archive/players?search=&page=0&size=20
+     */
+    @GetMapping("/players")
+    public ResponseEntity<Page<ArchivedPlayerDTO>> getArchivedPlayers(
+            @RequestParam(required = false) String search,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(archiveService.getArchivedPlayers(search, pageable));
+    }
+
+    /**
+     * Bring a player and their archived assessments back to the active tables
+     * POST /api/archive/players/{id}/restore
+     */
+    @PostMapping("/players/{id}/restore")
+    public ResponseEntity<ArchiveResultDTO> restorePlayer(@PathVariable Long id) {
+        return ResponseEntity.ok(archiveService.restorePlayer(id));
+    }
+}
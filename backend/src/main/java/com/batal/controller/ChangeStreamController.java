@@ -0,0 +1,50 @@
+package com.batal.controller;
+
+import com.batal.service.ChangeStreamService;
+import com.batal.service.UserDetailsServiceImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Server-sent event stream of assessment and roster changes for dashboards.
+ * Event names are the {@link com.batal.event.ChangeEventType} values, plus
+ * {@code resync} when the client fell behind and some events were dropped.
+ */
+@RestController
+@RequestMapping("/events")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class ChangeStreamController {
+
+    @Autowired
+    private ChangeStreamService changeStreamService;
+
+    /**
+     * Subscribe to changes
+     * - Coaches receive changes for their own groups
+     * - Admins/Managers receive all changes
+     * GET /api/events/stream
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('COACH') or hasRole('ADMIN') or hasRole('MANAGER')")
+    public SseEmitter stream(Authentication authentication) {
+        boolean allChanges = authentication.getAuthorities().stream()
+                .anyMatch(authority -> authority.getAuthority().equals("ROLE_ADMIN")
+                        || authority.getAuthority().equals("ROLE_MANAGER"));
+        return changeStreamService.subscribe(getUserIdFromAuth(authentication), allChanges);
+    }
+
+    /**
+     * Extract user ID from authentication principal
+     */
+    private Long getUserIdFromAuth(Authentication authentication) {
+        Object principal = authentication.getPrincipal();
+        if (!(principal instanceof UserDetailsServiceImpl.UserPrincipal)) {
+            throw new IllegalStateException("Authentication principal is not a UserPrincipal instance");
+        }
+        return ((UserDetailsServiceImpl.UserPrincipal) principal).getId();
+    }
+}
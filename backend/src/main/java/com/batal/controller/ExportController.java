@@ -0,0 +1,105 @@
+package com.batal.controller;
+
+import com.batal.entity.enums.AgeGroup;
+import com.batal.entity.enums.Level;
+import com.batal.service.ExportService;
+import com.batal.service.UserDetailsServiceImpl;
+import com.batal.service.export.ExportFormat;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+/**
+ * Controller for streaming data exports (CSV or XLSX).
+ * Bodies are written on the async request executor, so long exports do not hold a request thread.
+ */
+@RestController
+@RequestMapping("/exports")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class ExportController {
+
+    @Autowired
+    private ExportService exportService;
+
+    /**
+     * Export players
+     * GET /api/exports/players?format=csv|xlsx&search=
+     */
+    @GetMapping("/players")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<StreamingResponseBody> exportPlayers(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String search) {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        return streamingResponse("players", exportFormat,
+                out -> exportService.exportPlayers(exportFormat, search, out));
+    }
+
+    /**
+     * Export groups
+     * GET /api/exports/groups?format=csv|xlsx&level=&ageGroup=&isActive=
+     */
+    @GetMapping("/groups")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<StreamingResponseBody> exportGroups(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) Level level,
+            @RequestParam(required = false) AgeGroup ageGroup,
+            @RequestParam(required = false) Boolean isActive) {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        return streamingResponse("groups", exportFormat,
+                out -> exportService.exportGroups(exportFormat, level, ageGroup, isActive, out));
+    }
+
+    /**
+     * Export assessments with skill scores
+     * - Coaches get assessments for players in their groups
+     * - Admins/Managers get all assessments
+     * GET /api/exports/assessments?format=csv|xlsx&dateFrom=&dateTo=
+     */
+    @GetMapping("/assessments")
+    @PreAuthorize("hasRole('COACH') or hasRole('ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<StreamingResponseBody> exportAssessments(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateTo,
+            Authentication authentication) {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        Long coachId = hasRole(authentication, "COACH") ? getUserIdFromAuth(authentication) : null;
+        return streamingResponse("assessments", exportFormat,
+                out -> exportService.exportAssessments(exportFormat, coachId, dateFrom, dateTo, out));
+    }
+
+    private ResponseEntity<StreamingResponseBody> streamingResponse(String name, ExportFormat format,
+                                                                    StreamingResponseBody body) {
+        String filename = name + "-" + LocalDate.now() + "." + format.getExtension();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .body(body);
+    }
+
+    private boolean hasRole(Authentication authentication, String roleName) {
+        return authentication.getAuthorities().stream()
+                .anyMatch(authority -> authority.getAuthority().equals("ROLE_" + roleName));
+    }
+
+    /**
+     * Extract user ID from authentication principal
+     */
+    private Long getUserIdFromAuth(Authentication authentication) {
+        Object principal = authentication.getPrincipal();
+        if (!(principal instanceof UserDetailsServiceImpl.UserPrincipal)) {
+            throw new IllegalStateException("Authentication principal is not a UserPrincipal instance");
+        }
+        return ((UserDetailsServiceImpl.UserPrincipal) principal).getId();
+    }
+}
@@ -115,6 +115,20 @@ public class GroupController {
         }
     }
 
+    // GET /api/groups/available-for-player/{playerId} - Groups a player can be assigned to, best matches first
+    @GetMapping("/available-for-player/{playerId}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<?> getAvailableGroupsForPlayer(@PathVariable Long playerId) {
+        try {
+            List<GroupResponse> groups = groupService.getAvailableGroupsForPlayer(playerId);
+            return ResponseEntity.ok(groups);
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
     // POST /api/groups/assign-player - Assign player to group
     @PostMapping("/assign-player")
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
@@ -240,6 +254,13 @@ public class GroupController {
         }
     }
 
+    // POST /api/groups/allocate-unassigned - Place every unassigned active player in a group
+    @PostMapping("/allocate-unassigned")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<AllocationResultDTO> allocateUnassignedPlayers() {
+        return ResponseEntity.ok(groupService.allocateUnassignedPlayers());
+    }
+
     // Helper method for security - check if current user is the specific coach
     public boolean isCurrentUserCoach(Long coachId) {
         // This will be implemented similar to UserController.isCurrentUser()
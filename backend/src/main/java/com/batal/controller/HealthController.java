@@ -1,5 +1,10 @@
 package com.batal.controller;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.HealthComponent;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -9,12 +14,22 @@ import java.util.Map;
 
 @RestController
 public class HealthController {
-    
+
+    @Autowired
+    private HealthEndpoint healthEndpoint;
+
+    // Readiness of the application (including a database probe); 503 when not ready
     @GetMapping("/health")
     public ResponseEntity<Map<String, String>> health() {
+        HealthComponent readiness = healthEndpoint.healthForPath("readiness");
+        Status status = readiness != null ? readiness.getStatus() : Status.UNKNOWN;
+
         Map<String, String> response = new HashMap<>();
-        response.put("status", "UP");
-        response.put("message", "Batal Academy Backend is running");
-        return ResponseEntity.ok(response);
+        response.put("status", status.getCode());
+        response.put("message", Status.UP.equals(status)
+                ? "Batal Academy Backend is running"
+                : "Batal Academy Backend is not ready");
+        return ResponseEntity.status(Status.UP.equals(status) ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+                .body(response);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,47 @@
+package com.batal.controller;
+
+import com.batal.entity.MonthlyReportRun;
+import com.batal.service.MonthlyReportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Controller for the monthly parent report job
+ */
+@RestController
+@RequestMapping("/monthly-reports")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@PreAuthorize("hasRole('ADMIN')")
+public class MonthlyReportController {
+
+    @Autowired
+    private MonthlyReportService monthlyReportService;
+
+    /**
+     * Start or resume the report run for a month (defaults to last month)
+     * POST /api/monthly-reports/runs?month=2025-09
+     */
+    @PostMapping("/runs")
+    public ResponseEntity<MonthlyReportRun> startRun(
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        YearMonth reportMonth = month != null ? month : YearMonth.now().minusMonths(1);
+        MonthlyReportRun run = monthlyReportService.start(reportMonth);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(run);
+    }
+
+    /**
+     * Progress and throughput of recent runs
+     * GET /api/monthly-reports/runs
+     */
+    @GetMapping("/runs")
+    public ResponseEntity<List<MonthlyReportRun>> getRecentRuns() {
+        return ResponseEntity.ok(monthlyReportService.getRecentRuns());
+    }
+}
@@ -1,10 +1,17 @@
 package com.batal.controller;
 
+import com.batal.dto.AssessmentHistoryItemDTO;
 import com.batal.dto.AssessmentResponse;
+import com.batal.dto.ChildDashboardDTO;
 import com.batal.dto.PlayerDTO;
 import com.batal.service.UserDetailsServiceImpl;
 import com.batal.service.ParentService;
+import com.batal.service.ReportService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -22,9 +29,14 @@ import java.util.List;
 @PreAuthorize("hasRole('PARENT')")
 public class ParentSelfController {
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 50;
+
     @Autowired
     private ParentService parentService;
 
+    @Autowired
+    private ReportService reportService;
+
     /**
      * Get all my children
      * GET /api/parents/me/children
@@ -36,6 +48,17 @@ public class ParentSelfController {
         return ResponseEntity.ok(children);
     }
 
+    /**
+     * Get dashboard overview for all my children in one round trip
+     * GET /api/parents/me/dashboard
+     */
+    @GetMapping("/dashboard")
+    public ResponseEntity<List<ChildDashboardDTO>> getDashboard(Authentication authentication) {
+        Long userId = getUserIdFromAuth(authentication);
+        List<ChildDashboardDTO> dashboard = parentService.getDashboard(userId);
+        return ResponseEntity.ok(dashboard);
+    }
+
     /**
      * Get specific child details
      * GET /api/parents/me/children/{playerId}
@@ -62,6 +85,23 @@ public class ParentSelfController {
         return ResponseEntity.ok(assessments);
     }
 
+    /**
+     * Get paginated assessment history (summaries only) for a child
+     * GET /api/parents/me/children/{playerId}/assessments/history?page=0&size=10
+     */
+    @GetMapping("/children/{playerId}/assessments/history")
+    public ResponseEntity<Page<AssessmentHistoryItemDTO>> getChildAssessmentHistory(
+            @PathVariable Long playerId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            Authentication authentication) {
+        Long userId = getUserIdFromAuth(authentication);
+        int pageSize = Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+        Page<AssessmentHistoryItemDTO> history = parentService.getChildAssessmentHistory(
+                userId, playerId, PageRequest.of(Math.max(page, 0), pageSize));
+        return ResponseEntity.ok(history);
+    }
+
     /**
      * Get specific assessment for a child
      * GET /api/parents/me/children/{playerId}/assessments/{assessmentId}
@@ -76,6 +116,22 @@ public class ParentSelfController {
         return ResponseEntity.ok(assessment);
     }
 
+    /**
+     * Download a child's progress report as PDF
+     * GET /api/parents/me/children/{playerId}/report
+     */
+    @GetMapping("/children/{playerId}/report")
+    public ResponseEntity<byte[]> getChildReport(
+            @PathVariable Long playerId,
+            Authentication authentication) {
+        Long userId = getUserIdFromAuth(authentication);
+        byte[] report = reportService.getChildReport(userId, playerId);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"progress-report-" + playerId + ".pdf\"")
+                .contentType(MediaType.APPLICATION_PDF)
+                .body(report);
+    }
+
     /**
      * Extract user ID from authentication principal
      */
@@ -1,7 +1,11 @@
 package com.batal.controller;
 
+import com.batal.dto.CursorPageDTO;
 import com.batal.dto.PlayerDTO;
+import com.batal.dto.PlayerStatsDTO;
 import com.batal.service.PlayerService;
+import com.batal.service.PlayerStatsService;
+import com.batal.service.paging.TotalCount;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -25,6 +29,9 @@ public class PlayerController {
     @Autowired
     private PlayerService playerService;
     
+    @Autowired
+    private PlayerStatsService playerStatsService;
+    
     /**
      * Create a new player
      * Only ADMIN and MANAGER can create players
@@ -67,6 +74,24 @@ public class PlayerController {
         return ResponseEntity.ok(players);
     }
     
+    /**
+     * Get players by cursor (infinite scroll): pass nextCursor back to get the next page.
+     * Sorting is limited to id, firstName, lastName and email; count=none|estimate|exact
+     * controls the total returned with the first page.
+     */
+    @GetMapping("/scroll")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('COACH')")
+    public ResponseEntity<CursorPageDTO<PlayerDTO>> scrollPlayers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String count) {
+        return ResponseEntity.ok(playerService.getPlayersByCursor(mapSortField(sortBy),
+                sortDir.equalsIgnoreCase("desc"), cursor, size, search, TotalCount.fromParam(count)));
+    }
+    
     /**
      * Map frontend sort fields to valid Player entity fields
      */
@@ -180,41 +205,13 @@ public class PlayerController {
     }
     
     /**
-     * Get player statistics
-     * All authenticated users can view statistics
+     * Get player statistics (counts, distributions, group occupancy)
+     * All authenticated users can view statistics; results may be up to a few seconds old
      */
     @GetMapping("/stats")
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('COACH')")
-    public ResponseEntity<Map<String, Object>> getPlayerStats() {
-        List<PlayerDTO> allPlayers = playerService.getActivePlayers();
-        
-        long totalActive = allPlayers.size();
-        long totalMale = allPlayers.stream()
-            .filter(p -> p.getGender() != null && p.getGender().toString().equals("MALE"))
-            .count();
-        long totalFemale = allPlayers.stream()
-            .filter(p -> p.getGender() != null && p.getGender().toString().equals("FEMALE"))
-            .count();
-        long developmentLevel = allPlayers.stream()
-            .filter(p -> p.getLevel() != null && p.getLevel().toString().equals("DEVELOPMENT"))
-            .count();
-        long advancedLevel = allPlayers.stream()
-            .filter(p -> p.getLevel() != null && p.getLevel().toString().equals("ADVANCED"))
-            .count();
-        
-        Map<String, Object> stats = Map.of(
-            "totalActivePlayers", totalActive,
-            "genderDistribution", Map.of(
-                "male", totalMale,
-                "female", totalFemale
-            ),
-            "levelDistribution", Map.of(
-                "development", developmentLevel,
-                "advanced", advancedLevel
-            )
-        );
-        
-        return ResponseEntity.ok(stats);
+    public ResponseEntity<PlayerStatsDTO> getPlayerStats() {
+        return ResponseEntity.ok(playerStatsService.getPlayerStats());
     }
     
     /**
@@ -0,0 +1,81 @@
+package com.batal.controller;
+
+import com.batal.entity.PlayerImportError;
+import com.batal.entity.PlayerImportJob;
+import com.batal.service.PlayerImportService;
+import com.batal.service.UserDetailsServiceImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+/**
+ * Controller for bulk player imports from CSV
+ */
+@RestController
+@RequestMapping("/players/imports")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+public class PlayerImportController {
+
+    @Autowired
+    private PlayerImportService playerImportService;
+
+    /**
+     * Upload a CSV file; it is imported in the background
+     * POST /api/players/imports (multipart "file", optional autoAssign=true|false)
+     */
+    @PostMapping
+    public ResponseEntity<PlayerImportJob> startImport(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "true") boolean autoAssign,
+            Authentication authentication) {
+        PlayerImportJob job = playerImportService.submit(file, autoAssign, getUserIdFromAuth(authentication));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    /**
+     * Progress of recent imports
+     * GET /api/players/imports
+     */
+    @GetMapping
+    public ResponseEntity<List<PlayerImportJob>> getRecentImports() {
+        return ResponseEntity.ok(playerImportService.getRecentJobs());
+    }
+
+    /**
+     * Progress of one import
+     * GET /api/players/imports/{id}
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<PlayerImportJob> getImport(@PathVariable Long id) {
+        return ResponseEntity.ok(playerImportService.getJob(id));
+    }
+
+    /**
+     * Rejected rows of an import, in file order
+     * GET /api/players/imports/{id}/errors?page=0&size=50
+     */
+    @GetMapping("/{id}/errors")
+    public ResponseEntity<Page<PlayerImportError>> getImportErrors(
+            @PathVariable Long id,
+            @PageableDefault(size = 50) Pageable pageable) {
+        return ResponseEntity.ok(playerImportService.getErrors(id, pageable));
+    }
+
+    private Long getUserIdFromAuth(Authentication authentication) {
+        Object principal = authentication.getPrincipal();
+        if (!(principal instanceof UserDetailsServiceImpl.UserPrincipal)) {
+            throw new IllegalStateException("Authentication principal is not a UserPrincipal instance");
+        }
+        return ((UserDetailsServiceImpl.UserPrincipal) principal).getId();
+    }
+}
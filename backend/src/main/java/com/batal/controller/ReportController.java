@@ -0,0 +1,61 @@
+package com.batal.controller;
+
+import com.batal.service.ReportService;
+import com.batal.service.UserDetailsServiceImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controller for printable reports
+ */
+@RestController
+@RequestMapping("/reports")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class ReportController {
+
+    @Autowired
+    private ReportService reportService;
+
+    /**
+     * Download a player's progress report as PDF
+     * - Coaches can only download reports for players in their groups
+     * GET /api/reports/players/{playerId}/progress
+     */
+    @GetMapping("/players/{playerId}/progress")
+    @PreAuthorize("hasRole('COACH') or hasRole('ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<byte[]> getPlayerProgressReport(@PathVariable Long playerId, Authentication authentication) {
+        Long coachId = isCoachOnly(authentication) ? getUserIdFromAuth(authentication) : null;
+        byte[] report = reportService.getPlayerReport(playerId, coachId);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"progress-report-" + playerId + ".pdf\"")
+                .contentType(MediaType.APPLICATION_PDF)
+                .body(report);
+    }
+
+    private boolean isCoachOnly(Authentication authentication) {
+        boolean coach = false;
+        boolean staffAdmin = false;
+        for (var authority : authentication.getAuthorities()) {
+            String name = authority.getAuthority();
+            coach |= name.equals("ROLE_COACH");
+            staffAdmin |= name.equals("ROLE_ADMIN") || name.equals("ROLE_MANAGER");
+        }
+        return coach && !staffAdmin;
+    }
+
+    /**
+     * Extract user ID from authentication principal
+     */
+    private Long getUserIdFromAuth(Authentication authentication) {
+        Object principal = authentication.getPrincipal();
+        if (!(principal instanceof UserDetailsServiceImpl.UserPrincipal)) {
+            throw new IllegalStateException("Authentication principal is not a UserPrincipal instance");
+        }
+        return ((UserDetailsServiceImpl.UserPrincipal) principal).getId();
+    }
+}
@@ -0,0 +1,67 @@
+package com.batal.controller;
+
+import com.batal.dto.CacheRegionStatsDTO;
+import com.batal.dto.DataSourceStatsDTO;
+import com.batal.dto.PinningReportDTO;
+import com.batal.service.CacheStatsService;
+import com.batal.service.DataSourceStatsService;
+import com.batal.service.VirtualThreadPinningMonitor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controller for runtime diagnostics
+ */
+@RestController
+@RequestMapping("/runtime")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@PreAuthorize("hasRole('ADMIN')")
+public class RuntimeController {
+
+    @Autowired
+    private DataSourceStatsService dataSourceStatsService;
+
+    @Autowired
+    private CacheStatsService cacheStatsService;
+
+    // Only present in the virtual-thread mode
+    @Autowired(required = false)
+    private VirtualThreadPinningMonitor pinningMonitor;
+
+    /**
+     * Virtual threads pinned to their carrier thread since startup
+     * GET /api/runtime/pinning
+     */
+    @GetMapping("/pinning")
+    public ResponseEntity<PinningReportDTO> getPinning() {
+        if (pinningMonitor != null) {
+            return ResponseEntity.ok(pinningMonitor.getReport());
+        }
+        PinningReportDTO report = new PinningReportDTO();
+        report.setVirtualThreads(false);
+        report.setSites(List.of());
+        return ResponseEntity.ok(report);
+    }
+
+    /**
+     * Connection pools, read/write routing counts and replica lag
+     * GET /api/runtime/datasources
+     */
+    @GetMapping("/datasources")
+    public ResponseEntity<DataSourceStatsDTO> getDataSources() {
+        return ResponseEntity.ok(dataSourceStatsService.getStats());
+    }
+
+    /**
+     * Second-level cache hits, misses and puts per region
+     * GET /api/runtime/caches
+     */
+    @GetMapping("/caches")
+    public ResponseEntity<List<CacheRegionStatsDTO>> getCaches() {
+        return ResponseEntity.ok(cacheStatsService.getRegionStats());
+    }
+}
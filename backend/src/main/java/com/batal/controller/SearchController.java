@@ -0,0 +1,54 @@
+package com.batal.controller;
+
+import com.batal.dto.SearchResultDTO;
+import com.batal.service.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Controller for the unified search box / typeahead
+ */
+@RestController
+@RequestMapping("/search")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class SearchController {
+
+    @Autowired
+    private SearchService searchService;
+
+    /**
+     * Ranked search across players, staff and groups
+     * - Coaches can search players and groups
+     * - Admins/Managers can also search staff
+     * GET /api/search?q=ali&limit=10&types=PLAYER,GROUP
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('COACH')")
+    public ResponseEntity<List<SearchResultDTO>> search(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) Set<SearchResultDTO.Type> types,
+            Authentication authentication) {
+        Set<SearchResultDTO.Type> allowed = allowedTypes(authentication);
+        if (types != null && !types.isEmpty()) {
+            allowed.retainAll(types);
+        }
+        return ResponseEntity.ok(searchService.search(query, allowed, limit));
+    }
+
+    private Set<SearchResultDTO.Type> allowedTypes(Authentication authentication) {
+        boolean canSearchStaff = authentication.getAuthorities().stream()
+                .anyMatch(authority -> authority.getAuthority().equals("ROLE_ADMIN")
+                        || authority.getAuthority().equals("ROLE_MANAGER"));
+        return canSearchStaff
+                ? EnumSet.allOf(SearchResultDTO.Type.class)
+                : EnumSet.of(SearchResultDTO.Type.PLAYER, SearchResultDTO.Type.GROUP);
+    }
+}
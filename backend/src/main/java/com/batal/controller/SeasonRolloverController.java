@@ -0,0 +1,39 @@
+package com.batal.controller;
+
+import com.batal.dto.SeasonRolloverDTO;
+import com.batal.service.SeasonRolloverService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controller for the start-of-season group rollover
+ */
+@RestController
+@RequestMapping("/season-rollover")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@PreAuthorize("hasRole('ADMIN')")
+public class SeasonRolloverController {
+
+    @Autowired
+    private SeasonRolloverService seasonRolloverService;
+
+    /**
+     * Dry run: relabels and moves the rollover would make right now
+     * GET /api/season-rollover/preview
+     */
+    @GetMapping("/preview")
+    public ResponseEntity<SeasonRolloverDTO> preview() {
+        return ResponseEntity.ok(seasonRolloverService.preview());
+    }
+
+    /**
+     * Recompute the plan and apply it
+     * POST /api/season-rollover/apply
+     */
+    @PostMapping("/apply")
+    public ResponseEntity<SeasonRolloverDTO> apply() {
+        return ResponseEntity.ok(seasonRolloverService.apply());
+    }
+}
@@ -1,5 +1,6 @@
 package com.batal.controller;
 
+import com.batal.dto.CursorPageDTO;
 import com.batal.dto.UserCreateRequest;
 import com.batal.dto.UserResponse;
 import com.batal.dto.UserUpdateRequest;
@@ -9,6 +10,7 @@ import com.batal.dto.AssignChildRequest;
 import com.batal.entity.User;
 import com.batal.repository.UserRepository;
 import com.batal.service.UserService;
+import com.batal.service.paging.TotalCount;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -56,6 +58,21 @@ public class UserController {
         return ResponseEntity.ok(users);
     }
     
+    // GET /api/users/scroll - Staff users by cursor (infinite scroll); sortBy id, firstName, lastName or email,
+    // count=none|estimate|exact for the total returned with the first page
+    @GetMapping("/scroll")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<CursorPageDTO<UserResponse>> scrollUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "firstName") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String count) {
+        return ResponseEntity.ok(userService.getStaffUsersByCursor(sortBy, sortDir.equalsIgnoreCase("desc"),
+                cursor, size, search, TotalCount.fromParam(count)));
+    }
+    
     // GET /api/users/{id} - Get user by ID
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or @userController.isCurrentUser(#id)")
@@ -0,0 +1,42 @@
+package com.batal.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a batch allocation of unassigned players to groups
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class AllocationResultDTO {
+
+    private int candidates;
+    private int assigned;
+    private List<String> createdGroups = new ArrayList<>();
+    private List<SkippedPlayer> skipped = new ArrayList<>();
+    private long durationMs;
+
+    /**
+     * A player that could not be placed, with the reason
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class SkippedPlayer {
+
+        private Long playerId;
+        private String playerName;
+        private String reason;
+
+        public SkippedPlayer(Long playerId, String playerName, String reason) {
+            this.playerId = playerId;
+            this.playerName = playerName;
+            this.reason = reason;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.batal.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outcome of an archival run or a restore
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ArchiveResultDTO {
+
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private boolean failed;
+    private String lastError;
+
+    private int playersArchived;
+    private int assessmentsArchived;
+    private int skillScoresArchived;
+
+    private int playersRestored;
+    private int assessmentsRestored;
+    private int skillScoresRestored;
+    // Archived rows whose assessor or skill no longer exists stay in the archive
+    private int assessmentsKeptInArchive;
+
+    private long durationMs;
+}
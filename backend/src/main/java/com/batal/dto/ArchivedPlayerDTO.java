@@ -0,0 +1,30 @@
+package com.batal.dto;
+
+import com.batal.entity.enums.Level;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Listing row of an archived player
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ArchivedPlayerDTO {
+
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private LocalDate dateOfBirth;
+    private Level level;
+    private Long lastGroupId;
+    private String inactiveReason;
+    private LocalDateTime lastUpdatedAt;
+    private LocalDateTime archivedAt;
+    private long archivedAssessments;
+}
@@ -0,0 +1,29 @@
+package com.batal.dto;
+
+import com.batal.entity.enums.AssessmentPeriod;
+import com.batal.entity.enums.SkillCategory;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Lightweight assessment summary for parent-facing lists.
+ * Skill-level detail is only returned by the single-assessment endpoint.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class AssessmentHistoryItemDTO {
+
+    private Long id;
+    private LocalDate assessmentDate;
+    private AssessmentPeriod period;
+    private Boolean isFinalized;
+    private String assessorName;
+    private Double overallAverage;
+    private Integer totalSkillsAssessed;
+    private Map<SkillCategory, Double> categoryAverages;
+}
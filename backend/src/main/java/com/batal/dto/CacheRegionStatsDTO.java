@@ -0,0 +1,22 @@
+package com.batal.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Hit, miss and put counts of one second-level cache region since startup
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class CacheRegionStatsDTO {
+
+    private String region;
+    private long hits;
+    private long misses;
+    private long puts;
+    private Double hitRatio;
+    // -1 when the cache provider does not report it
+    private long entries;
+}
@@ -0,0 +1,41 @@
+package com.batal.dto;
+
+import com.batal.entity.enums.Level;
+import com.batal.entity.enums.SkillCategory;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * One child's entry on the parent dashboard
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ChildDashboardDTO {
+
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private LocalDate dateOfBirth;
+    private Level level;
+    private Boolean isActive;
+
+    // Group info
+    private Long groupId;
+    private String groupName;
+
+    // Assessment overview
+    private Integer totalAssessments;
+    private AssessmentHistoryItemDTO latestAssessment;
+    private Map<SkillCategory, Double> categoryAverages;
+    private Double averageScore;
+    private String progressTrend;
+
+    public String getFullName() {
+        return firstName + " " + lastName;
+    }
+}
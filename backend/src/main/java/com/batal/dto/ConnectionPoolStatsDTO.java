@@ -0,0 +1,24 @@
+package com.batal.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Current state of one connection pool
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ConnectionPoolStatsDTO {
+
+    private String name;
+    // False until the pool hands out its first connection
+    private boolean running;
+    private int maximumPoolSize;
+    private int activeConnections;
+    private int idleConnections;
+    private int totalConnections;
+    // Threads waiting for a connection
+    private int threadsAwaitingConnection;
+}
@@ -0,0 +1,26 @@
+package com.batal.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * One page of a cursor-paged listing. Pass {@code nextCursor} back to get the following page;
+ * it is null on the last page.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class CursorPageDTO<T> {
+
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+    private boolean hasNext;
+
+    // First page only, and only when requested
+    private Long totalElements;
+    private boolean totalExact;
+}
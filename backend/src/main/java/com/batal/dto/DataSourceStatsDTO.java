@@ -0,0 +1,31 @@
+package com.batal.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Connection pools and, when a read replica is configured, how connections were routed
+ * since startup and how far the replica is behind
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class DataSourceStatsDTO {
+
+    private List<ConnectionPoolStatsDTO> pools;
+
+    private boolean replicaEnabled;
+    private boolean replicaAvailable;
+    private Double replicaLagSeconds;
+    private Double maxLagSeconds;
+    private LocalDateTime replicaCheckedAt;
+    private String replicaError;
+
+    private Long primaryConnections;
+    private Long replicaConnections;
+    private Long fallbackConnections;
+}
@@ -14,7 +14,7 @@ public class GroupAssignmentRequest {
     @Size(max = 500, message = "Reason cannot exceed 500 characters")
     private String reason;
     
-    private Boolean forceAssignment = false; // Override capacity/age restrictions
+    private Boolean forceAssignment = false; // Override age restrictions; group capacity is always enforced
     
     // Constructors
     public GroupAssignmentRequest() {}
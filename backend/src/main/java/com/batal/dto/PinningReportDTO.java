@@ -0,0 +1,23 @@
+package com.batal.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Carrier-thread pinning seen since startup, most frequent site first
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class PinningReportDTO {
+
+    private boolean virtualThreads;
+    private long thresholdMs;
+    private LocalDateTime since;
+    private long events;
+    private List<PinningSiteDTO> sites;
+}
@@ -0,0 +1,24 @@
+package com.batal.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Code location that pinned a virtual thread to its carrier, with how often and for how long
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class PinningSiteDTO {
+
+    // First frame outside the JDK, e.g. org.postgresql.core.v3.QueryExecutorImpl.execute:356
+    private String site;
+    private long count;
+    private long totalMs;
+    private long maxMs;
+    // Stack of the first event seen at this site
+    private List<String> sampleStack;
+}
@@ -0,0 +1,47 @@
+package com.batal.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Academy-wide player statistics. Distributions count active players only.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class PlayerStatsDTO {
+
+    private long totalPlayers;
+    private long totalActivePlayers;
+    private long totalInactivePlayers;
+    private long unassignedActivePlayers;
+    private long totalCapacity;
+    private Map<String, Long> genderDistribution = new LinkedHashMap<>();
+    private Map<String, Long> levelDistribution = new LinkedHashMap<>();
+    private Map<String, Long> ageGroupDistribution = new LinkedHashMap<>();
+    private List<GroupOccupancy> groupOccupancy = new ArrayList<>();
+    private LocalDateTime generatedAt;
+
+    /**
+     * Players in one group against its capacity (same count as {@code Group#getCurrentPlayerCount})
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class GroupOccupancy {
+
+        private Long groupId;
+        private String name;
+        private Boolean isActive;
+        private long playerCount;
+        private int capacity;
+        private double occupancyRate;
+    }
+}
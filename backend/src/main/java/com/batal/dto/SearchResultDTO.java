@@ -0,0 +1,23 @@
+package com.batal.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One hit of the unified search (player, staff member or group)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class SearchResultDTO {
+
+    public enum Type { PLAYER, STAFF, GROUP }
+
+    private Type type;
+    private Long id;
+    private String label;
+    private String detail;
+    private Boolean isActive;
+    private Double score;
+}
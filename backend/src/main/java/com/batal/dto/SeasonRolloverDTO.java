@@ -0,0 +1,70 @@
+package com.batal.dto;
+
+import com.batal.entity.enums.AgeGroup;
+import com.batal.entity.enums.Level;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Season rollover plan, and when applied, what was done
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class SeasonRolloverDTO {
+
+    private boolean dryRun;
+    private LocalDateTime generatedAt;
+    private int playersChecked;
+    private int playersMismatched;
+    private List<GroupRelabel> relabels = new ArrayList<>();
+    private List<PlayerMove> moves = new ArrayList<>();
+    private List<PlayerMove> outOfRange = new ArrayList<>();
+    private int newGroupsNeeded;
+
+    // Filled in when the plan is applied
+    private int groupsRelabelled;
+    private int playersMoved;
+    private int playersReallocated;
+    private int movesSkipped;
+    private long durationMs;
+
+    /**
+     * A whole group moving up to the next age group; its players stay together and are not moved
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class GroupRelabel {
+
+        private Long groupId;
+        private String groupName;
+        private String newGroupName;
+        private AgeGroup fromAgeGroup;
+        private AgeGroup toAgeGroup;
+        private int playersKept;
+    }
+
+    /**
+     * One player changing group. A null target group means a new group of the level and age group.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class PlayerMove {
+
+        private Long playerId;
+        private String playerName;
+        private Long fromGroupId;
+        private String fromGroupName;
+        private Long toGroupId;
+        private String toGroupName;
+        private Level level;
+        private AgeGroup targetAgeGroup;
+    }
+}
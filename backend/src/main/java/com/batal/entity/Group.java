@@ -24,6 +24,10 @@ public class Group {
     @Column(nullable = false, length = 100)
     private String name;
     
+    // Generated by the database (lower-cased name), used by indexed search
+    @Column(name = "search_name", columnDefinition = "TEXT", insertable = false, updatable = false)
+    private String searchName;
+    
     @NotNull
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
@@ -50,6 +54,10 @@ public class Group {
     @Column(nullable = false)
     private Integer capacity = 15;
     
+    // Maintained with atomic updates in GroupRepository (see GroupAllocationService#movePlayer), never written by the entity
+    @Column(name = "player_count", nullable = false, insertable = false, updatable = false)
+    private Integer playerCount = 0;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "coach_id")
     private User coach;
@@ -111,6 +119,10 @@ public class Group {
         this.name = name;
     }
     
+    public String getSearchName() {
+        return searchName;
+    }
+    
     public Level getLevel() {
         return level;
     }
@@ -221,7 +233,14 @@ public class Group {
     }
     
     public int getCurrentPlayerCount() {
-        return players.size();
+        return playerCount != null ? playerCount : 0;
+    }
+    
+    /**
+     * Keep the in-memory count in step after an atomic update of player_count
+     */
+    public void adjustPlayerCount(int delta) {
+        this.playerCount = getCurrentPlayerCount() + delta;
     }
     
     public boolean isFull() {
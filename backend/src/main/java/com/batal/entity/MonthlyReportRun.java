@@ -0,0 +1,79 @@
+package com.batal.entity;
+
+import com.batal.entity.enums.MonthlyReportRunStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Progress of the monthly parent report job for one month.
+ * Parents are processed in ascending id order and {@code lastParentId} is saved
+ * after every mail batch, so a restarted run skips everyone already emailed.
+ */
+@Entity
+@Table(name = "monthly_report_runs")
+@Getter
+@Setter
+@NoArgsConstructor
+public class MonthlyReportRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "report_month", nullable = false, unique = true)
+    private LocalDate reportMonth;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MonthlyReportRunStatus status = MonthlyReportRunStatus.RUNNING;
+
+    @Column(name = "last_parent_id", nullable = false)
+    private Long lastParentId = 0L;
+
+    @Column(name = "parents_processed", nullable = false)
+    private Integer parentsProcessed = 0;
+
+    @Column(name = "emails_sent", nullable = false)
+    private Integer emailsSent = 0;
+
+    @Column(name = "emails_failed", nullable = false)
+    private Integer emailsFailed = 0;
+
+    @Column(name = "duration_ms", nullable = false)
+    private Long durationMs = 0L;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        startedAt = LocalDateTime.now();
+        updatedAt = startedAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Parents processed per second of accumulated processing time
+     */
+    public double getParentsPerSecond() {
+        return durationMs > 0 ? parentsProcessed * 1000.0 / durationMs : 0.0;
+    }
+}
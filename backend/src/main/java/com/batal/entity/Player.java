@@ -7,6 +7,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -36,6 +37,11 @@ public class Player {
     @Column(name = "last_name", nullable = false, length = 100)
     private String lastName;
 
+    // Generated by the database (lower-cased "first last"), used by indexed search
+    @Setter(AccessLevel.NONE)
+    @Column(name = "search_name", columnDefinition = "TEXT", insertable = false, updatable = false)
+    private String searchName;
+
     @Email
     @Column(unique = true, nullable = false)
     private String email;
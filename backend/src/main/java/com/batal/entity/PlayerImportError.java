@@ -0,0 +1,39 @@
+package com.batal.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One rejected (or partially applied) row of a player import
+ */
+@Entity
+@Table(name = "player_import_errors")
+@Getter
+@Setter
+@NoArgsConstructor
+public class PlayerImportError {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "row_number", nullable = false)
+    private Integer rowNumber;
+
+    private String email;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String message;
+
+    public PlayerImportError(Long jobId, Integer rowNumber, String email, String message) {
+        this.jobId = jobId;
+        this.rowNumber = rowNumber;
+        this.email = email;
+        this.message = message;
+    }
+}
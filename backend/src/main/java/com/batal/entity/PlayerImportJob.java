@@ -0,0 +1,83 @@
+package com.batal.entity;
+
+import com.batal.entity.enums.PlayerImportStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A background CSV player import. Counters are saved after every chunk, so they show
+ * progress while the job runs; rejected rows are stored as {@link PlayerImportError}.
+ */
+@Entity
+@Table(name = "player_import_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+public class PlayerImportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "file_name")
+    private String fileName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PlayerImportStatus status = PlayerImportStatus.QUEUED;
+
+    @Column(name = "auto_assign", nullable = false)
+    private Boolean autoAssign = true;
+
+    @Column(name = "created_by")
+    private Long createdBy;
+
+    @Column(name = "rows_read", nullable = false)
+    private Integer rowsRead = 0;
+
+    @Column(name = "rows_imported", nullable = false)
+    private Integer rowsImported = 0;
+
+    @Column(name = "rows_failed", nullable = false)
+    private Integer rowsFailed = 0;
+
+    @Column(name = "players_assigned", nullable = false)
+    private Integer playersAssigned = 0;
+
+    @Column(name = "duration_ms", nullable = false)
+    private Long durationMs = 0L;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Rows read per second of processing time
+     */
+    public double getRowsPerSecond() {
+        return durationMs > 0 ? rowsRead * 1000.0 / durationMs : 0.0;
+    }
+}
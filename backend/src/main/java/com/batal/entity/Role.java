@@ -1,12 +1,16 @@
 package com.batal.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
 @Table(name = "roles")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "role")
 public class Role {
     
     @Id
@@ -7,6 +7,10 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
@@ -14,6 +18,8 @@ import java.util.Set;
 @Entity
 @Table(name = "skills", 
        uniqueConstraints = @UniqueConstraint(columnNames = {"name"}))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "skill")
 public class Skill {
     
     @Id
@@ -36,6 +42,9 @@ public class Skill {
                      joinColumns = @JoinColumn(name = "skill_id"))
     @Column(name = "level", nullable = false)
     @Enumerated(EnumType.STRING)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "skill_applicable_levels")
+    // Levels of all skills a query returns are loaded in one statement, not one per skill
+    @Fetch(FetchMode.SUBSELECT)
     private Set<Level> applicableLevels = new HashSet<>();
     
     @Size(max = 500)
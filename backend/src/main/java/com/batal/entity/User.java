@@ -39,6 +39,10 @@ public class User {
     @Column(name = "last_name", nullable = false, length = 100)
     private String lastName;
     
+    // Generated by the database (lower-cased "first last"), used by indexed search
+    @Column(name = "search_name", columnDefinition = "TEXT", insertable = false, updatable = false)
+    private String searchName;
+    
     @Size(max = 20)
     @Column(length = 20)
     private String phone;
@@ -238,6 +242,10 @@ public class User {
         this.passwordSetupEmailLastSentAt = passwordSetupEmailLastSentAt;
     }
 
+    public String getSearchName() {
+        return searchName;
+    }
+
     public Set<Role> getRoles() {
         return roles;
     }
@@ -0,0 +1,21 @@
+package com.batal.entity.enums;
+
+/**
+ * State of a monthly parent report run
+ */
+public enum MonthlyReportRunStatus {
+    /**
+     * In progress, or interrupted (resumes from its checkpoint on the next start)
+     */
+    RUNNING,
+
+    /**
+     * Every parent with finalized assessments in the month has been processed
+     */
+    COMPLETED,
+
+    /**
+     * Stopped on an error; resumes from its checkpoint on the next start
+     */
+    FAILED
+}
@@ -0,0 +1,26 @@
+package com.batal.entity.enums;
+
+/**
+ * State of a background player import
+ */
+public enum PlayerImportStatus {
+    /**
+     * Uploaded, waiting for the import worker
+     */
+    QUEUED,
+
+    /**
+     * Rows are being read and imported chunk by chunk
+     */
+    RUNNING,
+
+    /**
+     * The whole file was read; rejected rows are listed as import errors
+     */
+    COMPLETED,
+
+    /**
+     * Stopped on an unreadable file or an unexpected error; chunks committed before stay imported
+     */
+    FAILED
+}
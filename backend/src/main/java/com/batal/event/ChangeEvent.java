@@ -0,0 +1,79 @@
+package com.batal.event;
+
+import com.batal.entity.Group;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Domain change published by the services and delivered to dashboards after commit.
+ * Carries ids only; clients refetch whatever they display.
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChangeEvent {
+
+    private final ChangeEventType type;
+    private final Long assessmentId;
+    private final Long playerId;
+    private final Long groupId;
+    private final Long previousGroupId;
+    private final Long coachId;
+    private final LocalDateTime occurredAt = LocalDateTime.now();
+
+    // Coaches allowed to see this event (coaches of the groups involved); admins and managers see everything
+    @JsonIgnore
+    private final Set<Long> audienceCoachIds;
+
+    private ChangeEvent(ChangeEventType type, Long assessmentId, Long playerId, Long groupId,
+                        Long previousGroupId, Long coachId, Set<Long> audienceCoachIds) {
+        this.type = type;
+        this.assessmentId = assessmentId;
+        this.playerId = playerId;
+        this.groupId = groupId;
+        this.previousGroupId = previousGroupId;
+        this.coachId = coachId;
+        this.audienceCoachIds = Collections.unmodifiableSet(audienceCoachIds);
+    }
+
+    public static ChangeEvent assessment(ChangeEventType type, Long assessmentId, Long playerId, Group group) {
+        return new ChangeEvent(type, assessmentId, playerId, idOf(group), null, null, coachesOf(group));
+    }
+
+    public static ChangeEvent playerAssigned(Long playerId, Group group, Group previousGroup) {
+        Set<Long> audience = coachesOf(group);
+        audience.addAll(coachesOf(previousGroup));
+        return new ChangeEvent(ChangeEventType.PLAYER_ASSIGNED, null, playerId, idOf(group), idOf(previousGroup),
+                null, audience);
+    }
+
+    public static ChangeEvent coachAssigned(Group group, Long previousCoachId) {
+        Set<Long> audience = coachesOf(group);
+        if (previousCoachId != null) {
+            audience.add(previousCoachId);
+        }
+        Long coachId = group.getCoach() != null ? group.getCoach().getId() : null;
+        return new ChangeEvent(ChangeEventType.COACH_ASSIGNED, null, null, group.getId(), null, coachId, audience);
+    }
+
+    public boolean isVisibleToCoach(Long coachUserId) {
+        return audienceCoachIds.contains(coachUserId);
+    }
+
+    private static Long idOf(Group group) {
+        return group != null ? group.getId() : null;
+    }
+
+    private static Set<Long> coachesOf(Group group) {
+        Set<Long> coachIds = new HashSet<>();
+        if (group != null && group.getCoach() != null) {
+            coachIds.add(group.getCoach().getId());
+        }
+        return coachIds;
+    }
+}
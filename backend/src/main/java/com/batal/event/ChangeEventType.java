@@ -0,0 +1,20 @@
+package com.batal.event;
+
+/**
+ * Kinds of change pushed to coach and admin dashboards
+ */
+public enum ChangeEventType {
+    ASSESSMENT_CREATED,
+    ASSESSMENT_UPDATED,
+    ASSESSMENT_FINALIZED,
+
+    /**
+     * A player joined, left or moved between groups ({@code groupId} is null when unassigned)
+     */
+    PLAYER_ASSIGNED,
+
+    /**
+     * A group's coach changed ({@code coachId} is null when the coach was removed)
+     */
+    COACH_ASSIGNED
+}
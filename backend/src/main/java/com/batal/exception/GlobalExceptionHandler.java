@@ -6,6 +6,7 @@ import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -112,6 +113,24 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
     
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ErrorResponse> handleServiceBusyException(
+            ServiceBusyException ex, HttpServletRequest request) {
+        logger.warn("Service busy: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+            "Service Unavailable",
+            ex.getMessage(),
+            ex.getErrorCode(),
+            request.getRequestURI(),
+            HttpStatus.SERVICE_UNAVAILABLE.value()
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(errorResponse);
+    }
+    
     @ExceptionHandler(com.batal.exception.AuthenticationException.class)
     public ResponseEntity<ErrorResponse> handleCustomAuthenticationException(
             com.batal.exception.AuthenticationException ex, HttpServletRequest request) {
@@ -0,0 +1,17 @@
+package com.batal.exception;
+
+public class ServiceBusyException extends BaseException {
+    
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+    
+    public ServiceBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+    
+    @Override
+    protected String getDefaultErrorCode() {
+        return "SERVICE_BUSY";
+    }
+}
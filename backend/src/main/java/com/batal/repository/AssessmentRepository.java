@@ -3,12 +3,18 @@ package com.batal.repository;
 import com.batal.entity.Assessment;
 import com.batal.entity.User;
 import com.batal.entity.enums.AssessmentPeriod;
+import com.batal.repository.projection.AssessmentAverageView;
+import com.batal.repository.projection.AssessmentCommentView;
+import com.batal.repository.projection.CategoryAverageView;
+import com.batal.repository.projection.MonthlyReportRowView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -62,4 +68,62 @@ public interface AssessmentRepository extends JpaRepository<Assessment, Long> {
             "LEFT JOIN FETCH ss.skill " +
             "WHERE a.id = :assessmentId")
     Optional<Assessment> findByIdWithAllRelations(@Param("assessmentId") Long assessmentId);
+
+    // ========== AGGREGATE PROJECTIONS ==========
+
+    // One row per assessment of the given players, newest first (no skill score rows are loaded)
+    @Query("SELECT a.player.id AS playerId, a.id AS assessmentId, a.assessmentDate AS assessmentDate, " +
+            "a.period AS period, a.isFinalized AS isFinalized, " +
+            "assessor.firstName AS assessorFirstName, assessor.lastName AS assessorLastName, " +
+            "AVG(ss.score) AS averageScore, COUNT(ss) AS skillCount " +
+            "FROM Assessment a JOIN a.assessor assessor LEFT JOIN a.skillScores ss " +
+            "WHERE a.player.id IN :playerIds " +
+            "GROUP BY a.player.id, a.id, a.assessmentDate, a.period, a.isFinalized, " +
+            "assessor.firstName, assessor.lastName " +
+            "ORDER BY a.assessmentDate DESC, a.id DESC")
+    List<AssessmentAverageView> findAverageViewsByPlayerIds(@Param("playerIds") Collection<Long> playerIds);
+
+    // Category breakdown for a set of assessments
+    @Query("SELECT ss.assessment.id AS assessmentId, s.category AS category, AVG(ss.score) AS averageScore " +
+            "FROM SkillScore ss JOIN ss.skill s " +
+            "WHERE ss.assessment.id IN :assessmentIds " +
+            "GROUP BY ss.assessment.id, s.category")
+    List<CategoryAverageView> findCategoryAveragesByAssessmentIds(@Param("assessmentIds") Collection<Long> assessmentIds);
+
+    // Latest non-empty coach comments for one player, newest first
+    @Query("SELECT a.assessmentDate AS assessmentDate, assessor.firstName AS assessorFirstName, " +
+            "assessor.lastName AS assessorLastName, a.comments AS comments " +
+            "FROM Assessment a JOIN a.assessor assessor " +
+            "WHERE a.player.id = :playerId AND a.comments IS NOT NULL AND TRIM(a.comments) <> '' " +
+            "ORDER BY a.assessmentDate DESC, a.id DESC")
+    List<AssessmentCommentView> findCommentViewsByPlayerId(@Param("playerId") Long playerId, Pageable pageable);
+
+    // ========== MONTHLY PARENT REPORTS ==========
+
+    // Next page of active parents (ascending id, after the checkpoint) with finalized assessments in the range
+    @Query("SELECT DISTINCT parent.id FROM Assessment a JOIN a.player p JOIN p.parents parent " +
+            "WHERE a.isFinalized = true AND a.assessmentDate BETWEEN :startDate AND :endDate " +
+            "AND parent.isActive = true AND parent.id > :afterParentId " +
+            "ORDER BY parent.id")
+    List<Long> findParentIdsWithFinalizedAssessments(@Param("startDate") LocalDate startDate,
+                                                     @Param("endDate") LocalDate endDate,
+                                                     @Param("afterParentId") Long afterParentId,
+                                                     Pageable pageable);
+
+    // Finalized assessments in the range for the given parents' children, ordered by parent then child
+    @Query("SELECT parent.id AS parentId, parent.email AS parentEmail, parent.firstName AS parentFirstName, " +
+            "p.id AS playerId, p.firstName AS playerFirstName, p.lastName AS playerLastName, " +
+            "a.id AS assessmentId, a.assessmentDate AS assessmentDate, " +
+            "assessor.firstName AS assessorFirstName, assessor.lastName AS assessorLastName, " +
+            "a.comments AS comments, AVG(ss.score) AS averageScore " +
+            "FROM Assessment a JOIN a.player p JOIN p.parents parent JOIN a.assessor assessor " +
+            "LEFT JOIN a.skillScores ss " +
+            "WHERE parent.id IN :parentIds AND a.isFinalized = true " +
+            "AND a.assessmentDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY parent.id, parent.email, parent.firstName, p.id, p.firstName, p.lastName, " +
+            "a.id, a.assessmentDate, assessor.firstName, assessor.lastName, a.comments " +
+            "ORDER BY parent.id, p.id, a.assessmentDate")
+    List<MonthlyReportRowView> findMonthlyReportRows(@Param("parentIds") Collection<Long> parentIds,
+                                                     @Param("startDate") LocalDate startDate,
+                                                     @Param("endDate") LocalDate endDate);
 }
@@ -4,10 +4,16 @@ import com.batal.entity.Group;
 import com.batal.entity.User;
 import com.batal.entity.enums.AgeGroup;
 import com.batal.entity.enums.Level;
+import com.batal.repository.projection.AvailableGroupView;
+import com.batal.repository.projection.GroupListingView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -17,17 +23,53 @@ import java.util.Optional;
 @Repository
 public interface GroupRepository extends JpaRepository<Group, Long> {
     
+    // Group listing rows (see GroupListingView); grouped by the primary keys, so the other columns follow
+    String GROUP_LISTING_SELECT =
+            "SELECT g.id AS id, g.name AS name, g.level AS level, g.ageGroup AS ageGroup, " +
+            "g.minAge AS minAge, g.maxAge AS maxAge, g.capacity AS capacity, g.playerCount AS playerCount, " +
+            "g.zone AS zone, g.description AS description, g.isActive AS isActive, " +
+            "g.createdAt AS createdAt, g.updatedAt AS updatedAt, " +
+            "c.id AS coachId, c.email AS coachEmail, c.firstName AS coachFirstName, c.lastName AS coachLastName, " +
+            "c.phone AS coachPhone, c.dateOfBirth AS coachDateOfBirth, c.gender AS coachGender, " +
+            "c.address AS coachAddress, c.userType AS coachUserType, c.title AS coachTitle, " +
+            "c.emergencyContactName AS coachEmergencyContactName, c.emergencyContactPhone AS coachEmergencyContactPhone, " +
+            "c.isActive AS coachIsActive, c.inactiveReason AS coachInactiveReason, " +
+            "c.createdAt AS coachCreatedAt, c.updatedAt AS coachUpdatedAt, " +
+            "listagg(r.name, ',') AS coachRoles " +
+            "FROM Group g LEFT JOIN g.coach c LEFT JOIN c.roles r ";
+    
+    String GROUP_LISTING_GROUP_BY = " GROUP BY g.id, c.id";
+    
     List<Group> findByLevelAndAgeGroup(Level level, AgeGroup ageGroup);
+    long countByLevelAndAgeGroup(Level level, AgeGroup ageGroup);
+    boolean existsByName(String name);
     List<Group> findByCoachId(Long coachId);
     @Query("SELECT g FROM Group g LEFT JOIN FETCH g.players LEFT JOIN FETCH g.coach WHERE g.id = :id")
     Optional<Group> findByIdWithPlayersAndCoach(@Param("id") Long id);
     
-    @Query("SELECT g FROM Group g WHERE g.level = :level AND g.ageGroup = :ageGroup AND g.capacity > SIZE(g.players) AND g.isActive = true")
+    @Query("SELECT g FROM Group g WHERE g.level = :level AND g.ageGroup = :ageGroup AND g.playerCount < g.capacity AND g.isActive = true ORDER BY g.id")
     List<Group> findAvailableGroupsByLevelAndAgeGroup(@Param("level") Level level, @Param("ageGroup") AgeGroup ageGroup);
     
-    @Query("SELECT g FROM Group g WHERE SIZE(g.players) < g.capacity AND g.isActive = true")
+    @Query("SELECT g FROM Group g WHERE g.playerCount < g.capacity AND g.isActive = true")
     List<Group> findAvailableGroups();
     
+    /**
+     * Active groups a player can join: a free spot (or the player's current group) and an age range
+     * within one year of the player's age (age 0 = unknown, not checked). Same level first, then most free spots.
+     */
+    @Query("SELECT g.id AS id, g.name AS name, g.level AS level, g.ageGroup AS ageGroup, " +
+           "g.minAge AS minAge, g.maxAge AS maxAge, g.capacity AS capacity, g.playerCount AS playerCount, " +
+           "g.zone AS zone, g.description AS description, g.isActive AS isActive, " +
+           "g.createdAt AS createdAt, g.updatedAt AS updatedAt, c.id AS coachId " +
+           "FROM Group g LEFT JOIN g.coach c " +
+           "WHERE g.isActive = true " +
+           "AND (g.playerCount < g.capacity OR g.id = :currentGroupId) " +
+           "AND (:age <= 0 OR (:age >= g.minAge - 1 AND :age <= g.maxAge + 1)) " +
+           "ORDER BY CASE WHEN g.level = :level THEN 0 ELSE 1 END, (g.capacity - g.playerCount) DESC, g.id")
+    List<AvailableGroupView> findAvailableGroupsForPlayer(@Param("level") Level level,
+                                                          @Param("age") int age,
+                                                          @Param("currentGroupId") Long currentGroupId);
+    
     // Advanced filtering query
     @Query("SELECT g FROM Group g WHERE " +
            "(:level IS NULL OR g.level = :level) AND " +
@@ -37,4 +79,52 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
                                      @Param("ageGroup") AgeGroup ageGroup, 
                                      @Param("isActive") Boolean isActive, 
                                      Pageable pageable);
+    
+    // ========== LISTINGS ==========
+    
+    @Query(value = GROUP_LISTING_SELECT +
+           "WHERE (:level IS NULL OR g.level = :level) AND " +
+           "(:ageGroup IS NULL OR g.ageGroup = :ageGroup) AND " +
+           "(:isActive IS NULL OR g.isActive = :isActive)" + GROUP_LISTING_GROUP_BY,
+           countQuery = "SELECT COUNT(g) FROM Group g WHERE " +
+           "(:level IS NULL OR g.level = :level) AND " +
+           "(:ageGroup IS NULL OR g.ageGroup = :ageGroup) AND " +
+           "(:isActive IS NULL OR g.isActive = :isActive)")
+    Page<GroupListingView> findGroupListing(@Param("level") Level level,
+                                            @Param("ageGroup") AgeGroup ageGroup,
+                                            @Param("isActive") Boolean isActive,
+                                            Pageable pageable);
+    
+    @Query(GROUP_LISTING_SELECT + "WHERE g.playerCount < g.capacity AND g.isActive = true" + GROUP_LISTING_GROUP_BY)
+    List<GroupListingView> findAvailableGroupListing();
+    
+    @Query(GROUP_LISTING_SELECT + "WHERE c.id = :coachId" + GROUP_LISTING_GROUP_BY)
+    List<GroupListingView> findGroupListingByCoachId(@Param("coachId") Long coachId);
+    
+    // ========== OCCUPANCY ==========
+    
+    /**
+     * Take one spot in a group if it has space. The row lock taken by the update is held until
+     * commit, so concurrent assignments to the same group are serialized and cannot overfill it.
+     *
+     * @return 1 if the spot was taken, 0 if the group is full
+     */
+    // Declaring the groups query space keeps the Role and Skill cache regions (native updates evict every region otherwise)
+    @Modifying
+    @Query(value = "UPDATE groups SET player_count = player_count + 1 WHERE id = :id AND player_count < capacity", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "groups"))
+    int reserveSpot(@Param("id") Long id);
+    
+    @Modifying
+    @Query(value = "UPDATE groups SET player_count = player_count - 1 WHERE id = :id AND player_count > 0", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "groups"))
+    int releaseSpot(@Param("id") Long id);
+    
+    // ========== ALLOCATION ==========
+    
+    /**
+     * Transaction-scoped advisory lock; released automatically on commit or rollback
+     */
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(:namespace, hashtext(:key))) AS allocation_lock", nativeQuery = true)
+    Integer lockAllocation(@Param("namespace") int namespace, @Param("key") String key);
 }
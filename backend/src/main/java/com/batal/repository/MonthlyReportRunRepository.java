@@ -0,0 +1,20 @@
+package com.batal.repository;
+
+import com.batal.entity.MonthlyReportRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for monthly parent report run checkpoints
+ */
+@Repository
+public interface MonthlyReportRunRepository extends JpaRepository<MonthlyReportRun, Long> {
+
+    Optional<MonthlyReportRun> findByReportMonth(LocalDate reportMonth);
+
+    List<MonthlyReportRun> findTop12ByOrderByReportMonthDesc();
+}
@@ -0,0 +1,18 @@
+package com.batal.repository;
+
+import com.batal.entity.PlayerImportError;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for rejected rows of player imports
+ */
+@Repository
+public interface PlayerImportErrorRepository extends JpaRepository<PlayerImportError, Long> {
+
+    Page<PlayerImportError> findByJobIdOrderByRowNumberAsc(Long jobId, Pageable pageable);
+
+    long countByJobId(Long jobId);
+}
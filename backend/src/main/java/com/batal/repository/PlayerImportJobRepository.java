@@ -0,0 +1,29 @@
+package com.batal.repository;
+
+import com.batal.entity.PlayerImportJob;
+import com.batal.entity.enums.PlayerImportStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for background player import jobs
+ */
+@Repository
+public interface PlayerImportJobRepository extends JpaRepository<PlayerImportJob, Long> {
+
+    List<PlayerImportJob> findTop20ByOrderByCreatedAtDesc();
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE PlayerImportJob j SET j.status = :failed, j.lastError = :reason WHERE j.status IN :statuses")
+    int failJobs(@Param("statuses") Collection<PlayerImportStatus> statuses,
+                 @Param("failed") PlayerImportStatus failed,
+                 @Param("reason") String reason);
+}
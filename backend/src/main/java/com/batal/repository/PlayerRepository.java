@@ -1,6 +1,8 @@
 package com.batal.repository;
 
 import com.batal.entity.Player;
+import com.batal.repository.projection.ParentChildView;
+import com.batal.repository.projection.ReportVersionView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,12 +30,21 @@ public interface PlayerRepository extends JpaRepository<Player, Long> {
     @Query("SELECT p FROM Player p JOIN p.parents parent LEFT JOIN FETCH p.group WHERE parent.id = :parentId")
     List<Player> findByParentIdWithGroup(@Param("parentId") Long parentId);
 
+    // Children of many parents in one query (staff directory pages)
+    @Query("SELECT parent.id AS parentId, p.id AS id, p.firstName AS firstName, p.lastName AS lastName, " +
+            "p.dateOfBirth AS dateOfBirth, g.name AS groupName, p.level AS level, p.isActive AS isActive " +
+            "FROM Player p JOIN p.parents parent LEFT JOIN p.group g " +
+            "WHERE parent.id IN :parentIds ORDER BY parent.id, p.id")
+    List<ParentChildView> findChildrenByParentIds(@Param("parentIds") Collection<Long> parentIds);
+
     @Query("SELECT p FROM Player p JOIN p.parents parent WHERE p.id = :playerId AND parent.id = :parentId")
     Optional<Player> findByIdAndParentId(@Param("playerId") Long playerId, @Param("parentId") Long parentId);
 
     @Query("SELECT p FROM Player p JOIN p.parents parent LEFT JOIN FETCH p.group WHERE p.id = :playerId AND parent.id = :parentId")
     Optional<Player> findByIdAndParentIdWithGroup(@Param("playerId") Long playerId, @Param("parentId") Long parentId);
 
+    boolean existsByIdAndGroupCoachId(Long playerId, Long coachId);
+
     @Query("SELECT p FROM Player p WHERE p.isActive = true")
     List<Player> findAllActive();
 
@@ -43,19 +55,35 @@ public interface PlayerRepository extends JpaRepository<Player, Long> {
     List<Player> findUnassignedActivePlayers();
 
     // ========== PAGINATION QUERIES ==========
-    @Query("SELECT p FROM Player p LEFT JOIN FETCH p.group")
+    // Listing rows show the group and the (legacy) parent name, so both are fetched with the page
+    @Query("SELECT p FROM Player p LEFT JOIN FETCH p.group LEFT JOIN FETCH p.parent")
     Page<Player> findAllWithGroup(Pageable pageable);
 
-    @Query("SELECT p FROM Player p LEFT JOIN FETCH p.group WHERE " +
-            "LOWER(p.firstName) LIKE LOWER(CONCAT('%', :search, '%')) " +
-            "OR LOWER(p.lastName) LIKE LOWER(CONCAT('%', :search, '%')) " +
-            "OR LOWER(p.email) LIKE LOWER(CONCAT('%', :search, '%')) " +
-            "OR LOWER(CONCAT(p.firstName, ' ', p.lastName)) LIKE LOWER(CONCAT('%', :search, '%'))")
+    // searchName ("first last", lower-cased) and LOWER(email) are trigram-indexed (V45)
+    @Query(value = "SELECT p FROM Player p LEFT JOIN FETCH p.group LEFT JOIN FETCH p.parent WHERE " +
+            "p.searchName LIKE LOWER(CONCAT('%', :search, '%')) " +
+            "OR LOWER(p.email) LIKE LOWER(CONCAT('%', :search, '%'))",
+            countQuery = "SELECT COUNT(p) FROM Player p WHERE " +
+            "p.searchName LIKE LOWER(CONCAT('%', :search, '%')) " +
+            "OR LOWER(p.email) LIKE LOWER(CONCAT('%', :search, '%'))")
     Page<Player> findAllWithGroupAndSearch(@Param("search") String search, Pageable pageable);
 
+    // Second step of cursor paging: load the page's players by id (order is restored by the caller)
+    @Query("SELECT p FROM Player p LEFT JOIN FETCH p.group LEFT JOIN FETCH p.parent WHERE p.id IN :ids")
+    List<Player> findAllWithGroupByIdIn(@Param("ids") Collection<Long> ids);
+
     // ========== SEARCH QUERIES ==========
-    @Query("SELECT p FROM Player p WHERE " +
-            "LOWER(p.firstName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
-            "OR LOWER(p.lastName) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
+    @Query("SELECT p FROM Player p WHERE p.searchName LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     List<Player> searchByName(@Param("searchTerm") String searchTerm);
+
+    // ========== REPORT VERSIONING ==========
+
+    // Everything a progress report depends on changes at least one of these values
+    @Query("SELECT p.updatedAt AS playerUpdatedAt, COUNT(DISTINCT a.id) AS assessmentCount, " +
+            "MAX(a.updatedAt) AS lastAssessmentUpdate, COUNT(ss.id) AS scoreCount, " +
+            "MAX(ss.updatedAt) AS lastScoreUpdate " +
+            "FROM Player p LEFT JOIN p.assessments a LEFT JOIN a.skillScores ss " +
+            "WHERE p.id = :playerId " +
+            "GROUP BY p.id, p.updatedAt")
+    Optional<ReportVersionView> findReportVersion(@Param("playerId") Long playerId);
 }
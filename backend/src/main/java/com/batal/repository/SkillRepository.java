@@ -3,12 +3,16 @@ package com.batal.repository;
 import com.batal.entity.Skill;
 import com.batal.entity.enums.Level;
 import com.batal.entity.enums.SkillCategory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,8 +28,14 @@ public interface SkillRepository extends JpaRepository<Skill, Long>, JpaSpecific
 
     List<Skill> findByApplicableLevelsContainingOrderByDisplayOrderAsc(Level level);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Skill> findByApplicableLevelsContainingAndIsActiveTrue(Level level);
 
+    // Skills rated in an assessment; the same set comes back for every player of a level,
+    // so it is served from the query cache (rows from the Skill region)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Skill> findByIdIn(Collection<Long> ids);
+
     List<Skill> findByCategoryAndApplicableLevelsContainingAndIsActiveTrue(SkillCategory category, Level level);
 
     // Duplicate checking
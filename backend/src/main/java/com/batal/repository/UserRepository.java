@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,15 +35,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u JOIN u.roles r WHERE r.name = :roleName")
     List<User> findAllByRoleName(@Param("roleName") String roleName);
 
-    @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.roles WHERE u.userType IN ('COACH', 'ADMIN', 'MANAGER', 'PARENT')")
-    Page<User> findStaffUsers(Pageable pageable);
+    // Staff paging runs in two steps: page the ids here (sorted and limited in SQL), then load
+    // the page with findAllWithRolesByIdIn. A collection fetch join cannot be limited in SQL.
+    @Query("SELECT u.id FROM User u WHERE u.userType IN ('COACH', 'ADMIN', 'MANAGER', 'PARENT')")
+    Page<Long> findStaffUserIds(Pageable pageable);
 
-    @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.roles WHERE u.userType IN ('COACH', 'ADMIN', 'MANAGER', 'PARENT') " +
-            "AND (LOWER(u.firstName) LIKE LOWER(CONCAT('%', :search, '%')) " +
-            "OR LOWER(u.lastName) LIKE LOWER(CONCAT('%', :search, '%')) " +
-            "OR LOWER(u.email) LIKE LOWER(CONCAT('%', :search, '%')) " +
-            "OR LOWER(CONCAT(u.firstName, ' ', u.lastName)) LIKE LOWER(CONCAT('%', :search, '%')))")
-    Page<User> findStaffUsersWithSearch(@Param("search") String search, Pageable pageable);
+    @Query("SELECT u.id FROM User u WHERE u.userType IN ('COACH', 'ADMIN', 'MANAGER', 'PARENT') " +
+            "AND (u.searchName LIKE LOWER(CONCAT('%', :search, '%')) " +
+            "OR LOWER(u.email) LIKE LOWER(CONCAT('%', :search, '%')))")
+    Page<Long> findStaffUserIdsWithSearch(@Param("search") String search, Pageable pageable);
+
+    // Second step of staff paging: load the page's users by id (order is restored by the caller)
+    @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.roles WHERE u.id IN :ids")
+    List<User> findAllWithRolesByIdIn(@Param("ids") Collection<Long> ids);
 
     @Query("SELECT COUNT(u) FROM User u JOIN u.roles r WHERE r.name = 'ADMIN' AND u.isActive = true")
     long countActiveAdminUsers();
@@ -0,0 +1,30 @@
+package com.batal.repository.projection;
+
+import com.batal.entity.enums.AssessmentPeriod;
+
+import java.time.LocalDate;
+
+/**
+ * Per-assessment aggregate row: header fields plus the average of its skill scores.
+ * Lets summary screens avoid fetch-joining every skill score.
+ */
+public interface AssessmentAverageView {
+
+    Long getPlayerId();
+
+    Long getAssessmentId();
+
+    LocalDate getAssessmentDate();
+
+    AssessmentPeriod getPeriod();
+
+    Boolean getIsFinalized();
+
+    String getAssessorFirstName();
+
+    String getAssessorLastName();
+
+    Double getAverageScore();
+
+    Long getSkillCount();
+}
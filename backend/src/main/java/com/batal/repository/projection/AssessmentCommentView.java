@@ -0,0 +1,17 @@
+package com.batal.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Coach comment of one assessment, without its skill scores.
+ */
+public interface AssessmentCommentView {
+
+    LocalDate getAssessmentDate();
+
+    String getAssessorFirstName();
+
+    String getAssessorLastName();
+
+    String getComments();
+}
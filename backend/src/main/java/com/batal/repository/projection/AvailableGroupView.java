@@ -0,0 +1,41 @@
+package com.batal.repository.projection;
+
+import com.batal.entity.enums.AgeGroup;
+import com.batal.entity.enums.Level;
+
+import java.time.LocalDateTime;
+
+/**
+ * Group columns needed by the assignment screen, read with the denormalized player count
+ * instead of loading the group's players.
+ */
+public interface AvailableGroupView {
+
+    Long getId();
+
+    String getName();
+
+    Level getLevel();
+
+    AgeGroup getAgeGroup();
+
+    Integer getMinAge();
+
+    Integer getMaxAge();
+
+    Integer getCapacity();
+
+    Integer getPlayerCount();
+
+    String getZone();
+
+    String getDescription();
+
+    Boolean getIsActive();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    Long getCoachId();
+}
@@ -0,0 +1,15 @@
+package com.batal.repository.projection;
+
+import com.batal.entity.enums.SkillCategory;
+
+/**
+ * Average skill score of one assessment within one skill category.
+ */
+public interface CategoryAverageView {
+
+    Long getAssessmentId();
+
+    SkillCategory getCategory();
+
+    Double getAverageScore();
+}
@@ -0,0 +1,79 @@
+package com.batal.repository.projection;
+
+import com.batal.entity.enums.AgeGroup;
+import com.batal.entity.enums.Gender;
+import com.batal.entity.enums.Level;
+import com.batal.entity.enums.UserType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One group listing row: group columns, denormalized player count and the coach with
+ * their role names aggregated, so a page of groups is one query regardless of its size.
+ */
+public interface GroupListingView {
+
+    Long getId();
+
+    String getName();
+
+    Level getLevel();
+
+    AgeGroup getAgeGroup();
+
+    Integer getMinAge();
+
+    Integer getMaxAge();
+
+    Integer getCapacity();
+
+    Integer getPlayerCount();
+
+    String getZone();
+
+    String getDescription();
+
+    Boolean getIsActive();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    Long getCoachId();
+
+    String getCoachEmail();
+
+    String getCoachFirstName();
+
+    String getCoachLastName();
+
+    String getCoachPhone();
+
+    LocalDate getCoachDateOfBirth();
+
+    Gender getCoachGender();
+
+    String getCoachAddress();
+
+    UserType getCoachUserType();
+
+    String getCoachTitle();
+
+    String getCoachEmergencyContactName();
+
+    String getCoachEmergencyContactPhone();
+
+    Boolean getCoachIsActive();
+
+    String getCoachInactiveReason();
+
+    LocalDateTime getCoachCreatedAt();
+
+    LocalDateTime getCoachUpdatedAt();
+
+    /**
+     * Comma-separated role names, null without a coach
+     */
+    String getCoachRoles();
+}
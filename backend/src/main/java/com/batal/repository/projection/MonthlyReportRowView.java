@@ -0,0 +1,34 @@
+package com.batal.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * One finalized assessment of a child, paired with one of the child's parents.
+ * Used by the monthly parent report job.
+ */
+public interface MonthlyReportRowView {
+
+    Long getParentId();
+
+    String getParentEmail();
+
+    String getParentFirstName();
+
+    Long getPlayerId();
+
+    String getPlayerFirstName();
+
+    String getPlayerLastName();
+
+    Long getAssessmentId();
+
+    LocalDate getAssessmentDate();
+
+    String getAssessorFirstName();
+
+    String getAssessorLastName();
+
+    String getComments();
+
+    Double getAverageScore();
+}
@@ -0,0 +1,27 @@
+package com.batal.repository.projection;
+
+import com.batal.entity.enums.Level;
+
+import java.time.LocalDate;
+
+/**
+ * A child of a parent, with the columns of a child summary, for listing many parents at once
+ */
+public interface ParentChildView {
+
+    Long getParentId();
+
+    Long getId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    LocalDate getDateOfBirth();
+
+    String getGroupName();
+
+    Level getLevel();
+
+    Boolean getIsActive();
+}
@@ -0,0 +1,20 @@
+package com.batal.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Change markers for a player's progress report: the player row plus the
+ * count and latest update time of their assessments and skill scores.
+ */
+public interface ReportVersionView {
+
+    LocalDateTime getPlayerUpdatedAt();
+
+    Long getAssessmentCount();
+
+    LocalDateTime getLastAssessmentUpdate();
+
+    Long getScoreCount();
+
+    LocalDateTime getLastScoreUpdate();
+}
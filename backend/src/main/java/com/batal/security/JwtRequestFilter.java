@@ -6,6 +6,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,10 +16,18 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Component
 public class JwtRequestFilter extends OncePerRequestFilter {
 
+    // Request attribute with the caller's main role, used to tag request metrics (see MetricsConfig)
+    public static final String ROLE_ATTRIBUTE = JwtRequestFilter.class.getName() + ".role";
+
+    private static final List<String> ROLE_PRECEDENCE = List.of("ADMIN", "MANAGER", "COACH", "PARENT", "PLAYER");
+
     @Autowired
     private JwtUtil jwtUtil;
 
@@ -43,6 +52,7 @@ public class JwtRequestFilter extends OncePerRequestFilter {
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+                request.setAttribute(ROLE_ATTRIBUTE, mainRole(userDetails));
             }
         } catch (Exception e) {
             logger.error("Cannot set user authentication: {}", e);
@@ -51,6 +61,17 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private static String mainRole(UserDetails userDetails) {
+        Set<String> authorities = userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet());
+        return ROLE_PRECEDENCE.stream()
+                .filter(role -> authorities.contains("ROLE_" + role))
+                .findFirst()
+                .map(String::toLowerCase)
+                .orElse("none");
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
 
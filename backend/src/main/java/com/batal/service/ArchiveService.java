@@ -0,0 +1,810 @@
+package com.batal.service;
+
+import com.batal.dto.ArchiveResultDTO;
+import com.batal.dto.ArchivedPlayerDTO;
+import com.batal.entity.Assessment;
+import com.batal.entity.Player;
+import com.batal.entity.Skill;
+import com.batal.entity.SkillScore;
+import com.batal.entity.User;
+import com.batal.entity.enums.AssessmentPeriod;
+import com.batal.entity.enums.BasicFoot;
+import com.batal.entity.enums.Gender;
+import com.batal.entity.enums.Level;
+import com.batal.entity.enums.SkillCategory;
+import com.batal.exception.BusinessRuleException;
+import com.batal.exception.ResourceNotFoundException;
+import com.batal.repository.SkillRepository;
+import com.batal.repository.UserRepository;
+import com.batal.repository.projection.AssessmentAverageView;
+import com.batal.repository.projection.AssessmentCommentView;
+import com.batal.repository.projection.CategoryAverageView;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Moves cold data out of the hot tables: inactive players not updated for a while (with their
+ * parent links, assessments and skill scores) and finalized assessments older than the horizon.
+ *
+ * Rows move into *_archive tables with the same columns, one chunk per transaction, using
+ * DELETE ... RETURNING feeding an INSERT so each row is copied and removed in one statement.
+ * Archived history stays readable through {@link #findArchivedPlayer} and
+ * {@link #findArchivedAssessments}, and a player can be restored with everything archived for them.
+ */
+@Service
+public class ArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(ArchiveService.class);
+
+    // Hot table columns; players.search_name is generated there, so it is only copied one way
+    private static final List<String> PLAYER_COLUMNS = List.of(
+            "id", "first_name", "last_name", "email", "phone", "date_of_birth", "gender", "address",
+            "joining_date", "level", "basic_foot", "group_id", "is_active", "inactive_reason",
+            "emergency_contact_name", "emergency_contact_phone", "parent_id", "player_number", "position",
+            "assessment_notes", "medical_notes", "jersey_size", "equipment_notes", "preferred_training_time",
+            "transportation_notes", "additional_skills", "development_goals", "created_at", "updated_at");
+
+    private static final String PLAYERS = String.join(", ", PLAYER_COLUMNS);
+    private static final String PLAYER_PARENTS = "player_id, parent_id, created_at";
+    private static final String ASSESSMENTS =
+            "id, player_id, assessor_id, assessment_date, period, comments, coach_notes, is_finalized, created_at, updated_at";
+    private static final String SKILL_SCORES =
+            "id, assessment_id, skill_id, score, notes, previous_score, improvement, created_at, updated_at";
+
+    // ========== ARCHIVAL ==========
+
+    private static final String PLAYER_CANDIDATES_SQL =
+            "SELECT id FROM players WHERE is_active = false AND updated_at < :cutoff " +
+            "ORDER BY updated_at, id LIMIT :limit FOR UPDATE SKIP LOCKED";
+
+    private static final String ASSESSMENT_CANDIDATES_SQL =
+            "SELECT id FROM assessments WHERE is_finalized = true AND assessment_date < :cutoff " +
+            "ORDER BY assessment_date, id LIMIT :limit FOR UPDATE SKIP LOCKED";
+
+    private static final String ARCHIVE_PLAYER_SKILL_SCORES_SQL =
+            "WITH moved AS (DELETE FROM skill_scores ss USING assessments a " +
+            "WHERE ss.assessment_id = a.id AND a.player_id IN (:ids) RETURNING " + qualified("ss", SKILL_SCORES) + ") " +
+            "INSERT INTO skill_scores_archive (" + SKILL_SCORES + ") SELECT " + SKILL_SCORES + " FROM moved";
+
+    private static final String ARCHIVE_PLAYER_ASSESSMENTS_SQL =
+            "WITH moved AS (DELETE FROM assessments WHERE player_id IN (:ids) RETURNING " + ASSESSMENTS + ") " +
+            "INSERT INTO assessments_archive (" + ASSESSMENTS + ") SELECT " + ASSESSMENTS + " FROM moved";
+
+    private static final String ARCHIVE_PLAYER_PARENTS_SQL =
+            "WITH moved AS (DELETE FROM player_parents WHERE player_id IN (:ids) RETURNING " + PLAYER_PARENTS + ") " +
+            "INSERT INTO player_parents_archive (" + PLAYER_PARENTS + ") SELECT " + PLAYER_PARENTS + " FROM moved";
+
+    // Inactive players can still hold a spot in their group
+    private static final String RELEASE_GROUP_SPOTS_SQL =
+            "UPDATE groups g SET player_count = g.player_count - c.players " +
+            "FROM (SELECT group_id, COUNT(*) AS players FROM players " +
+            "WHERE id IN (:ids) AND group_id IS NOT NULL GROUP BY group_id) c " +
+            "WHERE g.id = c.group_id";
+
+    private static final String ARCHIVE_PLAYERS_SQL =
+            "WITH moved AS (DELETE FROM players WHERE id IN (:ids) RETURNING " + PLAYERS + ", search_name) " +
+            "INSERT INTO players_archive (" + PLAYERS + ", search_name) SELECT " + PLAYERS + ", search_name FROM moved";
+
+    private static final String ARCHIVE_SKILL_SCORES_SQL =
+            "WITH moved AS (DELETE FROM skill_scores WHERE assessment_id IN (:ids) RETURNING " + SKILL_SCORES + ") " +
+            "INSERT INTO skill_scores_archive (" + SKILL_SCORES + ") SELECT " + SKILL_SCORES + " FROM moved";
+
+    private static final String ARCHIVE_ASSESSMENTS_SQL =
+            "WITH moved AS (DELETE FROM assessments WHERE id IN (:ids) RETURNING " + ASSESSMENTS + ") " +
+            "INSERT INTO assessments_archive (" + ASSESSMENTS + ") SELECT " + ASSESSMENTS + " FROM moved";
+
+    // ========== RESTORE ==========
+
+    // Restored players come back unassigned and count as freshly updated, so the next run does not archive them again
+    private static final String RESTORE_PLAYER_SQL =
+            "WITH restored AS (DELETE FROM players_archive WHERE id = :id RETURNING " + PLAYERS + ") " +
+            "INSERT INTO players (" + PLAYERS + ") SELECT " + restoredPlayerValues() + " FROM restored";
+
+    private static final String RESTORE_PLAYER_PARENTS_SQL =
+            "WITH restored AS (DELETE FROM player_parents_archive pa WHERE pa.player_id = :id " +
+            "AND EXISTS (SELECT 1 FROM users u WHERE u.id = pa.parent_id) RETURNING " + qualified("pa", PLAYER_PARENTS) + ") " +
+            "INSERT INTO player_parents (" + PLAYER_PARENTS + ") SELECT " + PLAYER_PARENTS + " FROM restored";
+
+    private static final String DROP_ORPHAN_PLAYER_PARENTS_SQL =
+            "DELETE FROM player_parents_archive WHERE player_id = :id";
+
+    private static final String RESTORE_ASSESSMENTS_SQL =
+            "WITH restored AS (DELETE FROM assessments_archive aa WHERE aa.player_id = :id " +
+            "AND EXISTS (SELECT 1 FROM users u WHERE u.id = aa.assessor_id) RETURNING " + qualified("aa", ASSESSMENTS) + ") " +
+            "INSERT INTO assessments (" + ASSESSMENTS + ") SELECT " + ASSESSMENTS + " FROM restored";
+
+    private static final String RESTORE_SKILL_SCORES_SQL =
+            "WITH restored AS (DELETE FROM skill_scores_archive sa USING assessments a " +
+            "WHERE sa.assessment_id = a.id AND a.player_id = :id " +
+            "AND EXISTS (SELECT 1 FROM skills s WHERE s.id = sa.skill_id) RETURNING " + qualified("sa", SKILL_SCORES) + ") " +
+            "INSERT INTO skill_scores (" + SKILL_SCORES + ") SELECT " + SKILL_SCORES + " FROM restored";
+
+    // ========== READS ==========
+
+    private static final String ARCHIVED_PLAYER_SQL = "SELECT " + PLAYERS + " FROM players_archive WHERE id = :id";
+
+    private static final String ARCHIVED_ASSESSMENTS_SQL =
+            "SELECT " + ASSESSMENTS + " FROM assessments_archive WHERE player_id = :playerId " +
+            "ORDER BY assessment_date DESC, id DESC";
+
+    private static final String ARCHIVED_ASSESSMENT_SQL =
+            "SELECT " + ASSESSMENTS + " FROM assessments_archive WHERE id = :id AND player_id = :playerId";
+
+    private static final String ARCHIVED_SKILL_SCORES_SQL =
+            "SELECT " + SKILL_SCORES + " FROM skill_scores_archive WHERE assessment_id IN (:ids)";
+
+    // Same rows as the AssessmentRepository aggregate projections. Scores of deleted skills are left out,
+    // as in findArchivedAssessments, and deleted assessors show up as the same placeholder.
+    private static final String ARCHIVED_AVERAGES_SELECT =
+            "SELECT aa.player_id, aa.id AS assessment_id, aa.assessment_date, aa.period, aa.is_finalized, " +
+            "COALESCE(u.first_name, 'Former') AS assessor_first_name, " +
+            "COALESCE(u.last_name, 'staff member') AS assessor_last_name, " +
+            "AVG(sa.score) AS average_score, COUNT(sa.id) AS skill_count " +
+            "FROM assessments_archive aa LEFT JOIN users u ON u.id = aa.assessor_id " +
+            "LEFT JOIN skill_scores_archive sa ON sa.assessment_id = aa.id " +
+            "AND EXISTS (SELECT 1 FROM skills s WHERE s.id = sa.skill_id) " +
+            "WHERE aa.player_id IN (:playerIds) " +
+            "GROUP BY aa.player_id, aa.id, aa.assessment_date, aa.period, aa.is_finalized, u.first_name, u.last_name";
+
+    private static final String ARCHIVED_AVERAGES_SQL =
+            ARCHIVED_AVERAGES_SELECT + " ORDER BY aa.assessment_date DESC, aa.id DESC";
+
+    // One page of a player's hot and archived aggregate rows, merged and sliced by the database
+    private static final String HISTORY_AVERAGES_PAGE_SQL =
+            "SELECT a.player_id, a.id AS assessment_id, a.assessment_date, a.period, a.is_finalized, " +
+            "u.first_name AS assessor_first_name, u.last_name AS assessor_last_name, " +
+            "AVG(ss.score) AS average_score, COUNT(ss.id) AS skill_count " +
+            "FROM assessments a JOIN users u ON u.id = a.assessor_id " +
+            "LEFT JOIN skill_scores ss ON ss.assessment_id = a.id " +
+            "WHERE a.player_id IN (:playerIds) " +
+            "GROUP BY a.player_id, a.id, a.assessment_date, a.period, a.is_finalized, u.first_name, u.last_name " +
+            "UNION ALL " + ARCHIVED_AVERAGES_SELECT + " " +
+            "ORDER BY assessment_date DESC, assessment_id DESC LIMIT :limit OFFSET :offset";
+
+    private static final String HISTORY_COUNT_SQL =
+            "SELECT (SELECT COUNT(*) FROM assessments WHERE player_id = :playerId) " +
+            "+ (SELECT COUNT(*) FROM assessments_archive WHERE player_id = :playerId)";
+
+    private static final String ARCHIVED_CATEGORY_AVERAGES_SQL =
+            "SELECT sa.assessment_id, s.category, AVG(sa.score) AS average_score " +
+            "FROM skill_scores_archive sa JOIN skills s ON s.id = sa.skill_id " +
+            "WHERE sa.assessment_id IN (:ids) GROUP BY sa.assessment_id, s.category";
+
+    private static final String ARCHIVED_COMMENTS_SQL =
+            "SELECT aa.assessment_date, COALESCE(u.first_name, 'Former') AS assessor_first_name, " +
+            "COALESCE(u.last_name, 'staff member') AS assessor_last_name, aa.comments " +
+            "FROM assessments_archive aa LEFT JOIN users u ON u.id = aa.assessor_id " +
+            "WHERE aa.player_id = :playerId AND aa.comments IS NOT NULL AND TRIM(aa.comments) <> '' " +
+            "ORDER BY aa.assessment_date DESC, aa.id DESC LIMIT :limit";
+
+    private static final String ARCHIVED_PLAYER_LIST_SQL =
+            "SELECT pa.id, pa.first_name, pa.last_name, pa.email, pa.date_of_birth, pa.level, pa.group_id, " +
+            "pa.inactive_reason, pa.updated_at, pa.archived_at, " +
+            "(SELECT COUNT(*) FROM assessments_archive aa WHERE aa.player_id = pa.id) AS archived_assessments " +
+            "FROM players_archive pa";
+
+    private static final String ARCHIVED_PLAYER_SEARCH = " WHERE pa.search_name LIKE :search OR lower(pa.email) LIKE :search";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate chunkTransaction;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Value("${batal.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${batal.archive.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${batal.archive.inactive-player-months:12}")
+    private int inactivePlayerMonths;
+
+    @Value("${batal.archive.assessment-horizon-months:24}")
+    private int assessmentHorizonMonths;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private volatile ArchiveResultDTO lastRun;
+
+    private ExecutorService launcher;
+
+    @Autowired
+    public ArchiveService(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void init() {
+        launcher = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "archive-job"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        launcher.shutdownNow();
+    }
+
+    /**
+     * Archive nightly
+     */
+    @Scheduled(cron = "${batal.archive.cron:0 30 2 * * *}")
+    public void runScheduled() {
+        if (!enabled) {
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Scheduled archival skipped: another run is in progress");
+            return;
+        }
+        try {
+            archive();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Start an archival run in the background
+     *
+     * @throws BusinessRuleException if a run is already in progress
+     */
+    public void start() {
+        if (!running.compareAndSet(false, true)) {
+            throw new BusinessRuleException("An archival run is already in progress");
+        }
+        launcher.execute(() -> {
+            try {
+                archive();
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    /**
+     * Result of the last archival run since startup, or null if there was none
+     */
+    public ArchiveResultDTO getLastRun() {
+        return lastRun;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    private void archive() {
+        ArchiveResultDTO result = new ArchiveResultDTO();
+        result.setStartedAt(LocalDateTime.now());
+        long start = System.currentTimeMillis();
+        LocalDateTime playerCutoff = LocalDateTime.now().minusMonths(inactivePlayerMonths);
+        LocalDate assessmentCutoff = LocalDate.now().minusMonths(assessmentHorizonMonths);
+        log.info("Archival started: inactive players not updated since {}, assessments before {}",
+                playerCutoff.toLocalDate(), assessmentCutoff);
+
+        try {
+            // Each chunk only sees rows that are still hot, so the loops end once a chunk comes back empty
+            while (chunkTransaction.execute(status -> archivePlayerChunk(playerCutoff, result)) > 0) {
+                log.debug("Archival: {} players archived so far", result.getPlayersArchived());
+            }
+            while (chunkTransaction.execute(status -> archiveAssessmentChunk(assessmentCutoff, result)) > 0) {
+                log.debug("Archival: {} assessments archived so far", result.getAssessmentsArchived());
+            }
+            result.setCompletedAt(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.error("Archival failed after {} players and {} assessments",
+                    result.getPlayersArchived(), result.getAssessmentsArchived(), e);
+            result.setFailed(true);
+            result.setLastError(e.getMessage());
+        }
+
+        result.setDurationMs(System.currentTimeMillis() - start);
+        lastRun = result;
+        log.info("Archival {}: {} players, {} assessments, {} skill scores in {} ms",
+                result.isFailed() ? "stopped" : "completed", result.getPlayersArchived(),
+                result.getAssessmentsArchived(), result.getSkillScoresArchived(), result.getDurationMs());
+    }
+
+    private int archivePlayerChunk(LocalDateTime cutoff, ArchiveResultDTO result) {
+        List<Long> ids = jdbcTemplate.queryForList(PLAYER_CANDIDATES_SQL, new MapSqlParameterSource()
+                .addValue("cutoff", Timestamp.valueOf(cutoff))
+                .addValue("limit", chunkSize), Long.class);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+        result.setSkillScoresArchived(result.getSkillScoresArchived() + jdbcTemplate.update(ARCHIVE_PLAYER_SKILL_SCORES_SQL, params));
+        result.setAssessmentsArchived(result.getAssessmentsArchived() + jdbcTemplate.update(ARCHIVE_PLAYER_ASSESSMENTS_SQL, params));
+        jdbcTemplate.update(ARCHIVE_PLAYER_PARENTS_SQL, params);
+        jdbcTemplate.update(RELEASE_GROUP_SPOTS_SQL, params);
+        int archived = jdbcTemplate.update(ARCHIVE_PLAYERS_SQL, params);
+        result.setPlayersArchived(result.getPlayersArchived() + archived);
+        return archived;
+    }
+
+    private int archiveAssessmentChunk(LocalDate cutoff, ArchiveResultDTO result) {
+        List<Long> ids = jdbcTemplate.queryForList(ASSESSMENT_CANDIDATES_SQL, new MapSqlParameterSource()
+                .addValue("cutoff", Date.valueOf(cutoff))
+                .addValue("limit", chunkSize), Long.class);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+        result.setSkillScoresArchived(result.getSkillScoresArchived() + jdbcTemplate.update(ARCHIVE_SKILL_SCORES_SQL, params));
+        int archived = jdbcTemplate.update(ARCHIVE_ASSESSMENTS_SQL, params);
+        result.setAssessmentsArchived(result.getAssessmentsArchived() + archived);
+        return archived;
+    }
+
+    // ========== RESTORE ==========
+
+    /**
+     * Move a player and everything archived for them back to the hot tables. Works for players
+     * that are still hot but have archived assessments too. The player comes back without a group
+     * and keeps their inactive status; parent links and assessments whose parent, assessor or
+     * skill no longer exists stay behind.
+     *
+     * @throws ResourceNotFoundException if the player exists neither in the hot nor in the archive tables
+     * @throws BusinessRuleException if the player's email or number now belongs to another player
+     */
+    public ArchiveResultDTO restorePlayer(Long playerId) {
+        ArchiveResultDTO result = new ArchiveResultDTO();
+        result.setStartedAt(LocalDateTime.now());
+        long start = System.currentTimeMillis();
+        MapSqlParameterSource params = new MapSqlParameterSource("id", playerId);
+
+        try {
+            chunkTransaction.executeWithoutResult(status -> {
+                result.setPlayersRestored(jdbcTemplate.update(RESTORE_PLAYER_SQL, params));
+                Integer hot = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM players WHERE id = :id", params, Integer.class);
+                if (hot == null || hot == 0) {
+                    throw new ResourceNotFoundException("Player", playerId);
+                }
+                jdbcTemplate.update(RESTORE_PLAYER_PARENTS_SQL, params);
+                jdbcTemplate.update(DROP_ORPHAN_PLAYER_PARENTS_SQL, params);
+                result.setAssessmentsRestored(jdbcTemplate.update(RESTORE_ASSESSMENTS_SQL, params));
+                result.setSkillScoresRestored(jdbcTemplate.update(RESTORE_SKILL_SCORES_SQL, params));
+                result.setAssessmentsKeptInArchive(jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM assessments_archive WHERE player_id = :id", params, Integer.class));
+            });
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessRuleException("Player " + playerId + " cannot be restored: "
+                    + e.getMostSpecificCause().getMessage());
+        }
+
+        result.setCompletedAt(LocalDateTime.now());
+        result.setDurationMs(System.currentTimeMillis() - start);
+        log.info("Restored player {} from the archive: {} assessments, {} skill scores ({} assessments kept archived)",
+                playerId, result.getAssessmentsRestored(), result.getSkillScoresRestored(), result.getAssessmentsKeptInArchive());
+        return result;
+    }
+
+    // ========== READS ==========
+
+    /**
+     * Archived players, most recently archived first
+     *
+     * @param search Optional name or email fragment
+     */
+    public Page<ArchivedPlayerDTO> getArchivedPlayers(String search, Pageable pageable) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+        String where = "";
+        if (search != null && !search.isBlank()) {
+            where = ARCHIVED_PLAYER_SEARCH;
+            params.addValue("search", "%" + search.trim().toLowerCase(Locale.ROOT) + "%");
+        }
+
+        List<ArchivedPlayerDTO> players = jdbcTemplate.query(
+                ARCHIVED_PLAYER_LIST_SQL + where + " ORDER BY pa.archived_at DESC, pa.id DESC LIMIT :limit OFFSET :offset",
+                params, (rs, rowNum) -> mapArchivedPlayer(rs));
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM players_archive pa" + where, params, Long.class);
+        return new PageImpl<>(players, pageable, total != null ? total : 0);
+    }
+
+    /**
+     * An archived player as a detached entity (no group), for read-only history views
+     */
+    public Optional<Player> findArchivedPlayer(Long playerId) {
+        List<Player> players = jdbcTemplate.query(ARCHIVED_PLAYER_SQL, new MapSqlParameterSource("id", playerId),
+                (rs, rowNum) -> mapPlayer(rs));
+        return players.stream().findFirst();
+    }
+
+    /**
+     * A player's archived assessments as detached entities with their skill scores, newest first.
+     * Assessors and skills that were deleted since show up as placeholders or are left out.
+     *
+     * @param player The (hot or archived) player the assessments belong to
+     */
+    public List<Assessment> findArchivedAssessments(Player player) {
+        return loadArchivedAssessments(player, ARCHIVED_ASSESSMENTS_SQL, new MapSqlParameterSource("playerId", player.getId()));
+    }
+
+    /**
+     * One archived assessment of the player, loaded like {@link #findArchivedAssessments}
+     *
+     * @param player The (hot or archived) player the assessment must belong to
+     */
+    public Optional<Assessment> findArchivedAssessment(Player player, Long assessmentId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", assessmentId)
+                .addValue("playerId", player.getId());
+        return loadArchivedAssessments(player, ARCHIVED_ASSESSMENT_SQL, params).stream().findFirst();
+    }
+
+    private List<Assessment> loadArchivedAssessments(Player player, String sql, MapSqlParameterSource params) {
+        List<Assessment> assessments = new ArrayList<>();
+        Map<Long, Long> assessorIds = new HashMap<>();
+        jdbcTemplate.query(sql, params, rs -> {
+            Assessment assessment = new Assessment();
+            assessment.setId(rs.getLong("id"));
+            assessment.setPlayer(player);
+            assessment.setAssessmentDate(rs.getDate("assessment_date").toLocalDate());
+            assessment.setPeriod(AssessmentPeriod.valueOf(rs.getString("period")));
+            assessment.setComments(rs.getString("comments"));
+            assessment.setCoachNotes(rs.getString("coach_notes"));
+            assessment.setIsFinalized(rs.getBoolean("is_finalized"));
+            assessment.setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")));
+            assessment.setUpdatedAt(toLocalDateTime(rs.getTimestamp("updated_at")));
+            assessments.add(assessment);
+            assessorIds.put(assessment.getId(), rs.getLong("assessor_id"));
+        });
+        if (assessments.isEmpty()) {
+            return assessments;
+        }
+
+        Map<Long, User> assessors = userRepository.findAllById(new HashSet<>(assessorIds.values())).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, Assessment> byId = new HashMap<>();
+        for (Assessment assessment : assessments) {
+            Long assessorId = assessorIds.get(assessment.getId());
+            assessment.setAssessor(assessors.computeIfAbsent(assessorId, this::missingAssessor));
+            byId.put(assessment.getId(), assessment);
+        }
+
+        List<SkillScoreRow> scoreRows = jdbcTemplate.query(ARCHIVED_SKILL_SCORES_SQL,
+                new MapSqlParameterSource("ids", byId.keySet()), (rs, rowNum) -> new SkillScoreRow(rs));
+        Set<Long> skillIds = scoreRows.stream().map(row -> row.skillId).collect(Collectors.toSet());
+        Map<Long, Skill> skills = skillRepository.findAllById(skillIds).stream()
+                .collect(Collectors.toMap(Skill::getId, Function.identity()));
+        for (SkillScoreRow row : scoreRows) {
+            Skill skill = skills.get(row.skillId);
+            if (skill != null) {
+                byId.get(row.assessmentId).getSkillScores().add(row.toSkillScore(byId.get(row.assessmentId), skill));
+            }
+        }
+        return assessments;
+    }
+
+    /**
+     * Per-assessment aggregate rows of the players' archived assessments, newest first
+     */
+    public List<AssessmentAverageView> findArchivedAverageViews(Collection<Long> playerIds) {
+        if (playerIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return jdbcTemplate.query(ARCHIVED_AVERAGES_SQL, new MapSqlParameterSource("playerIds", playerIds),
+                (rs, rowNum) -> new AverageViewRow(rs));
+    }
+
+    /**
+     * One page of a player's aggregate rows, hot and archived together, newest first. Unfinalized
+     * assessments stay hot past the horizon, so the two sources interleave; the database merges
+     * them and each page reads only its own rows.
+     */
+    public Page<AssessmentAverageView> findAverageViewPage(Long playerId, Pageable pageable) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("playerIds", List.of(playerId))
+                .addValue("playerId", playerId)
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+        List<AssessmentAverageView> views = jdbcTemplate.query(HISTORY_AVERAGES_PAGE_SQL, params,
+                (rs, rowNum) -> new AverageViewRow(rs));
+        Long total = jdbcTemplate.queryForObject(HISTORY_COUNT_SQL, params, Long.class);
+        return new PageImpl<>(views, pageable, total != null ? total : 0);
+    }
+
+    /**
+     * Category breakdown of archived assessments; ids of hot assessments simply match nothing
+     */
+    public List<CategoryAverageView> findArchivedCategoryAverages(Collection<Long> assessmentIds) {
+        if (assessmentIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return jdbcTemplate.query(ARCHIVED_CATEGORY_AVERAGES_SQL, new MapSqlParameterSource("ids", assessmentIds),
+                (rs, rowNum) -> new ArchivedCategoryAverageView(rs));
+    }
+
+    /**
+     * The newest {@code limit} non-empty coach comments of one player's archived assessments
+     */
+    public List<AssessmentCommentView> findArchivedCommentViews(Long playerId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("playerId", playerId)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(ARCHIVED_COMMENTS_SQL, params, (rs, rowNum) -> new ArchivedCommentView(rs));
+    }
+
+    // ========== MAPPING ==========
+
+    private Player mapPlayer(ResultSet rs) throws SQLException {
+        Player player = new Player();
+        player.setId(rs.getLong("id"));
+        player.setFirstName(rs.getString("first_name"));
+        player.setLastName(rs.getString("last_name"));
+        player.setEmail(rs.getString("email"));
+        player.setPhone(rs.getString("phone"));
+        player.setDateOfBirth(toLocalDate(rs.getDate("date_of_birth")));
+        player.setGender(rs.getString("gender") != null ? Gender.valueOf(rs.getString("gender")) : null);
+        player.setAddress(rs.getString("address"));
+        player.setJoiningDate(toLocalDate(rs.getDate("joining_date")));
+        player.setLevel(rs.getString("level") != null ? Level.valueOf(rs.getString("level")) : null);
+        player.setBasicFoot(rs.getString("basic_foot") != null ? BasicFoot.valueOf(rs.getString("basic_foot")) : null);
+        player.setIsActive(rs.getBoolean("is_active"));
+        player.setInactiveReason(rs.getString("inactive_reason"));
+        player.setEmergencyContactName(rs.getString("emergency_contact_name"));
+        player.setEmergencyContactPhone(rs.getString("emergency_contact_phone"));
+        player.setPlayerNumber(rs.getString("player_number"));
+        player.setPosition(rs.getString("position"));
+        player.setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")));
+        player.setUpdatedAt(toLocalDateTime(rs.getTimestamp("updated_at")));
+        return player;
+    }
+
+    private ArchivedPlayerDTO mapArchivedPlayer(ResultSet rs) throws SQLException {
+        ArchivedPlayerDTO dto = new ArchivedPlayerDTO();
+        dto.setId(rs.getLong("id"));
+        dto.setFirstName(rs.getString("first_name"));
+        dto.setLastName(rs.getString("last_name"));
+        dto.setEmail(rs.getString("email"));
+        dto.setDateOfBirth(toLocalDate(rs.getDate("date_of_birth")));
+        dto.setLevel(rs.getString("level") != null ? Level.valueOf(rs.getString("level")) : null);
+        long groupId = rs.getLong("group_id");
+        dto.setLastGroupId(rs.wasNull() ? null : groupId);
+        dto.setInactiveReason(rs.getString("inactive_reason"));
+        dto.setLastUpdatedAt(toLocalDateTime(rs.getTimestamp("updated_at")));
+        dto.setArchivedAt(toLocalDateTime(rs.getTimestamp("archived_at")));
+        dto.setArchivedAssessments(rs.getLong("archived_assessments"));
+        return dto;
+    }
+
+    private User missingAssessor(Long assessorId) {
+        User assessor = new User();
+        assessor.setId(assessorId);
+        assessor.setFirstName("Former");
+        assessor.setLastName("staff member");
+        return assessor;
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date != null ? date.toLocalDate() : null;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private static Double toDouble(ResultSet rs, String column) throws SQLException {
+        double value = rs.getDouble(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static String qualified(String alias, String columns) {
+        return List.of(columns.split(", ")).stream()
+                .map(column -> alias + "." + column)
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String restoredPlayerValues() {
+        return PLAYER_COLUMNS.stream()
+                .map(column -> switch (column) {
+                    case "group_id" -> "NULL";
+                    case "parent_id" -> "(SELECT u.id FROM users u WHERE u.id = restored.parent_id)";
+                    case "updated_at" -> "CURRENT_TIMESTAMP";
+                    default -> column;
+                })
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Archived skill score row, kept apart until its skill is loaded
+     */
+    private static class SkillScoreRow {
+
+        private final Long id;
+        private final Long assessmentId;
+        private final Long skillId;
+        private final Integer score;
+        private final String notes;
+        private final Integer previousScore;
+        private final Integer improvement;
+        private final LocalDateTime createdAt;
+        private final LocalDateTime updatedAt;
+
+        SkillScoreRow(ResultSet rs) throws SQLException {
+            id = rs.getLong("id");
+            assessmentId = rs.getLong("assessment_id");
+            skillId = rs.getLong("skill_id");
+            score = rs.getInt("score");
+            notes = rs.getString("notes");
+            previousScore = (Integer) rs.getObject("previous_score");
+            improvement = (Integer) rs.getObject("improvement");
+            createdAt = toLocalDateTime(rs.getTimestamp("created_at"));
+            updatedAt = toLocalDateTime(rs.getTimestamp("updated_at"));
+        }
+
+        SkillScore toSkillScore(Assessment assessment, Skill skill) {
+            SkillScore skillScore = new SkillScore();
+            skillScore.setId(id);
+            skillScore.setAssessment(assessment);
+            skillScore.setSkill(skill);
+            skillScore.setScore(score);
+            skillScore.setNotes(notes);
+            skillScore.setPreviousScore(previousScore);
+            skillScore.setImprovement(improvement);
+            skillScore.setCreatedAt(createdAt);
+            skillScore.setUpdatedAt(updatedAt);
+            return skillScore;
+        }
+    }
+
+    private static class AverageViewRow implements AssessmentAverageView {
+
+        private final Long playerId;
+        private final Long assessmentId;
+        private final LocalDate assessmentDate;
+        private final AssessmentPeriod period;
+        private final Boolean isFinalized;
+        private final String assessorFirstName;
+        private final String assessorLastName;
+        private final Double averageScore;
+        private final Long skillCount;
+
+        AverageViewRow(ResultSet rs) throws SQLException {
+            playerId = rs.getLong("player_id");
+            assessmentId = rs.getLong("assessment_id");
+            assessmentDate = toLocalDate(rs.getDate("assessment_date"));
+            period = AssessmentPeriod.valueOf(rs.getString("period"));
+            isFinalized = rs.getBoolean("is_finalized");
+            assessorFirstName = rs.getString("assessor_first_name");
+            assessorLastName = rs.getString("assessor_last_name");
+            averageScore = toDouble(rs, "average_score");
+            skillCount = rs.getLong("skill_count");
+        }
+
+        public Long getPlayerId() {
+            return playerId;
+        }
+
+        public Long getAssessmentId() {
+            return assessmentId;
+        }
+
+        public LocalDate getAssessmentDate() {
+            return assessmentDate;
+        }
+
+        public AssessmentPeriod getPeriod() {
+            return period;
+        }
+
+        public Boolean getIsFinalized() {
+            return isFinalized;
+        }
+
+        public String getAssessorFirstName() {
+            return assessorFirstName;
+        }
+
+        public String getAssessorLastName() {
+            return assessorLastName;
+        }
+
+        public Double getAverageScore() {
+            return averageScore;
+        }
+
+        public Long getSkillCount() {
+            return skillCount;
+        }
+    }
+
+    private static class ArchivedCategoryAverageView implements CategoryAverageView {
+
+        private final Long assessmentId;
+        private final SkillCategory category;
+        private final Double averageScore;
+
+        ArchivedCategoryAverageView(ResultSet rs) throws SQLException {
+            assessmentId = rs.getLong("assessment_id");
+            category = SkillCategory.valueOf(rs.getString("category"));
+            averageScore = toDouble(rs, "average_score");
+        }
+
+        public Long getAssessmentId() {
+            return assessmentId;
+        }
+
+        public SkillCategory getCategory() {
+            return category;
+        }
+
+        public Double getAverageScore() {
+            return averageScore;
+        }
+    }
+
+    private static class ArchivedCommentView implements AssessmentCommentView {
+
+        private final LocalDate assessmentDate;
+        private final String assessorFirstName;
+        private final String assessorLastName;
+        private final String comments;
+
+        ArchivedCommentView(ResultSet rs) throws SQLException {
+            assessmentDate = toLocalDate(rs.getDate("assessment_date"));
+            assessorFirstName = rs.getString("assessor_first_name");
+            assessorLastName = rs.getString("assessor_last_name");
+            comments = rs.getString("comments");
+        }
+
+        public LocalDate getAssessmentDate() {
+            return assessmentDate;
+        }
+
+        public String getAssessorFirstName() {
+            return assessorFirstName;
+        }
+
+        public String getAssessorLastName() {
+            return assessorLastName;
+        }
+
+        public String getComments() {
+            return comments;
+        }
+    }
+}
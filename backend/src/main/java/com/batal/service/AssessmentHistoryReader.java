@@ -0,0 +1,120 @@
+package com.batal.service;
+
+import com.batal.entity.Assessment;
+import com.batal.entity.Player;
+import com.batal.entity.enums.SkillCategory;
+import com.batal.repository.AssessmentRepository;
+import com.batal.repository.projection.AssessmentAverageView;
+import com.batal.repository.projection.AssessmentCommentView;
+import com.batal.repository.projection.CategoryAverageView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Reads a player's assessment history from both the hot tables and the archive tables
+ * (see {@link ArchiveService}), so totals, averages and trends do not change when old
+ * assessments are moved past the archive horizon. Everything is returned newest first.
+ */
+@Component
+public class AssessmentHistoryReader {
+
+    private static final Comparator<AssessmentAverageView> NEWEST_VIEW_FIRST =
+            Comparator.comparing(AssessmentAverageView::getAssessmentDate)
+                    .thenComparing(AssessmentAverageView::getAssessmentId)
+                    .reversed();
+
+    @Autowired
+    private AssessmentRepository assessmentRepository;
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    /**
+     * Full assessments with assessor and skill scores
+     *
+     * @param player The (hot or archived) player
+     */
+    public List<Assessment> findAssessments(Player player) {
+        List<Assessment> assessments = new ArrayList<>(
+                assessmentRepository.findByPlayerIdWithAllRelationsOrderByAssessmentDateDesc(player.getId()));
+        assessments.addAll(archiveService.findArchivedAssessments(player));
+        assessments.sort(Comparator.comparing(Assessment::getAssessmentDate)
+                .thenComparing(Assessment::getId)
+                .reversed());
+        return assessments;
+    }
+
+    /**
+     * One full assessment of the player, looked up in the hot tables first and then in the archive.
+     * A hot assessment is returned whatever player it belongs to; callers check ownership.
+     */
+    public Optional<Assessment> findAssessment(Player player, Long assessmentId) {
+        Optional<Assessment> hot = assessmentRepository.findByIdWithAllRelations(assessmentId);
+        if (hot.isPresent()) {
+            return hot;
+        }
+        return archiveService.findArchivedAssessment(player, assessmentId);
+    }
+
+    /**
+     * Per-assessment aggregate rows of all the given players
+     */
+    public List<AssessmentAverageView> findAverageViews(Collection<Long> playerIds) {
+        List<AssessmentAverageView> views = new ArrayList<>(assessmentRepository.findAverageViewsByPlayerIds(playerIds));
+        views.addAll(archiveService.findArchivedAverageViews(playerIds));
+        views.sort(NEWEST_VIEW_FIRST);
+        return views;
+    }
+
+    /**
+     * One page of a player's aggregate rows, merged and sliced in a single query so every page
+     * costs the same regardless of its depth
+     */
+    public Page<AssessmentAverageView> findAverageViews(Long playerId, Pageable pageable) {
+        return archiveService.findAverageViewPage(playerId, pageable);
+    }
+
+    /**
+     * Category averages keyed by assessment id, for hot and archived assessments alike
+     */
+    public Map<Long, Map<SkillCategory, Double>> findCategoryAverages(Collection<Long> assessmentIds) {
+        Map<Long, Map<SkillCategory, Double>> result = new HashMap<>();
+        if (assessmentIds.isEmpty()) {
+            return result;
+        }
+
+        List<CategoryAverageView> rows = new ArrayList<>(assessmentRepository.findCategoryAveragesByAssessmentIds(assessmentIds));
+        rows.addAll(archiveService.findArchivedCategoryAverages(assessmentIds));
+        for (CategoryAverageView row : rows) {
+            result.computeIfAbsent(row.getAssessmentId(), id -> new EnumMap<>(SkillCategory.class))
+                    .put(row.getCategory(), row.getAverageScore());
+        }
+        return result;
+    }
+
+    /**
+     * The latest {@code limit} non-empty coach comments of a player
+     */
+    public List<AssessmentCommentView> findComments(Long playerId, int limit) {
+        List<AssessmentCommentView> comments = new ArrayList<>(
+                assessmentRepository.findCommentViewsByPlayerId(playerId, PageRequest.of(0, limit)));
+        comments.addAll(archiveService.findArchivedCommentViews(playerId, limit));
+        return comments.stream()
+                .sorted(Comparator.comparing(AssessmentCommentView::getAssessmentDate).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+}
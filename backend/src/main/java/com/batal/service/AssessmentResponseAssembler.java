@@ -0,0 +1,154 @@
+package com.batal.service;
+
+import com.batal.dto.AssessmentResponse;
+import com.batal.entity.Assessment;
+import com.batal.entity.Skill;
+import com.batal.entity.SkillScore;
+import com.batal.entity.enums.SkillCategory;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Builds assessment responses and progress analytics from loaded assessment entities.
+ * Does no lookups of its own: callers pass in whatever reference data is needed.
+ */
+@Component
+public class AssessmentResponseAssembler {
+
+    /**
+     * Convert an assessment with its skill scores to a response
+     *
+     * @param requiredSkills Active skills of the player's level, to flag partial assessments
+     */
+    public AssessmentResponse toResponse(Assessment assessment, Collection<Skill> requiredSkills) {
+        AssessmentResponse response = new AssessmentResponse();
+        response.setId(assessment.getId());
+        response.setPlayerId(assessment.getPlayer().getId());
+        response.setPlayerName(assessment.getPlayer().getFullName());
+        response.setPlayerGroupName(assessment.getPlayer().getGroup() != null ?
+                assessment.getPlayer().getGroup().getName() : null);
+        response.setAssessorId(assessment.getAssessor().getId());
+        response.setAssessorName(assessment.getAssessor().getFullName());
+        response.setAssessmentDate(assessment.getAssessmentDate());
+        response.setPeriod(assessment.getPeriod());
+        response.setComments(assessment.getComments());
+        response.setCoachNotes(assessment.getCoachNotes());
+        response.setIsFinalized(assessment.getIsFinalized());
+        response.setCreatedAt(assessment.getCreatedAt());
+        response.setUpdatedAt(assessment.getUpdatedAt());
+
+        // Convert skill scores
+        List<AssessmentResponse.SkillScoreResponse> skillScoreResponses = assessment.getSkillScores()
+                .stream()
+                .map(this::toSkillScoreResponse)
+                .sorted(Comparator.comparing((AssessmentResponse.SkillScoreResponse ss) -> ss.getSkillCategory().toString())
+                        .thenComparing(AssessmentResponse.SkillScoreResponse::getSkillName))
+                .collect(Collectors.toList());
+
+        response.setSkillScores(skillScoreResponses);
+
+        // Calculate statistics
+        response.setOverallAverage(assessment.getAverageScore());
+        response.setTotalSkillsAssessed(assessment.getSkillScores().size());
+
+        // Calculate category averages
+        Map<SkillCategory, Double> categoryAverages = Arrays.stream(SkillCategory.values())
+                .collect(Collectors.toMap(
+                        category -> category,
+                        category -> assessment.getCategoryAverageScore(category)
+                ));
+        response.setCategoryAverages(categoryAverages);
+
+        // Check if assessment is partial
+        response.setIsPartialAssessment(!isComplete(assessment, requiredSkills));
+
+        return response;
+    }
+
+    /**
+     * Whether the assessment scores every one of the required skills
+     */
+    public boolean isComplete(Assessment assessment, Collection<Skill> requiredSkills) {
+        Set<Long> assessedSkillIds = assessment.getSkillScores().stream()
+                .map(ss -> ss.getSkill().getId())
+                .collect(Collectors.toSet());
+
+        return requiredSkills.stream()
+                .allMatch(skill -> assessedSkillIds.contains(skill.getId()));
+    }
+
+    /**
+     * Aggregate a player's assessments (newest first) into overall and per-category averages and a trend
+     */
+    public Map<String, Object> buildProgressAnalytics(List<Assessment> assessments) {
+        Map<String, Object> analytics = new HashMap<>();
+
+        if (assessments.isEmpty()) {
+            analytics.put("totalAssessments", 0);
+            analytics.put("averageScore", 0.0);
+            analytics.put("categoryAverages", new HashMap<>());
+            analytics.put("progressTrend", "No data available");
+            return analytics;
+        }
+
+        // Calculate overall statistics
+        double overallAverage = assessments.stream()
+                .mapToDouble(Assessment::getAverageScore)
+                .average()
+                .orElse(0.0);
+
+        // Calculate category averages
+        Map<SkillCategory, Double> categoryAverages = Arrays.stream(SkillCategory.values())
+                .collect(Collectors.toMap(
+                        category -> category,
+                        category -> assessments.stream()
+                                .mapToDouble(a -> a.getCategoryAverageScore(category))
+                                .filter(score -> score > 0)
+                                .average()
+                                .orElse(0.0)
+                ));
+
+        // Calculate improvement trend (comparing latest vs earliest)
+        String progressTrend = "Stable";
+        if (assessments.size() > 1) {
+            double latestAverage = assessments.get(0).getAverageScore();
+            double earliestAverage = assessments.get(assessments.size() - 1).getAverageScore();
+            double improvement = latestAverage - earliestAverage;
+
+            if (improvement > 0.5) {
+                progressTrend = "Improving";
+            } else if (improvement < -0.5) {
+                progressTrend = "Declining";
+            }
+        }
+
+        analytics.put("totalAssessments", assessments.size());
+        analytics.put("averageScore", Math.round(overallAverage * 100.0) / 100.0);
+        analytics.put("categoryAverages", categoryAverages);
+        analytics.put("progressTrend", progressTrend);
+        analytics.put("latestAssessmentDate", assessments.get(0).getAssessmentDate());
+
+        return analytics;
+    }
+
+    private AssessmentResponse.SkillScoreResponse toSkillScoreResponse(SkillScore skillScore) {
+        return new AssessmentResponse.SkillScoreResponse(
+                skillScore.getId(),
+                skillScore.getSkill().getId(),
+                skillScore.getSkill().getName(),
+                skillScore.getSkill().getCategory(),
+                skillScore.getScore(),
+                skillScore.getNotes(),
+                skillScore.getPreviousScore(),
+                skillScore.getImprovement()
+        );
+    }
+}
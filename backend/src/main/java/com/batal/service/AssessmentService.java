@@ -3,12 +3,18 @@ package com.batal.service;
 import com.batal.dto.*;
 import com.batal.entity.*;
 import com.batal.entity.enums.*;
+import com.batal.event.ChangeEvent;
+import com.batal.event.ChangeEventType;
 import com.batal.exception.AccessDeniedException;
 import com.batal.exception.BusinessRuleException;
 import com.batal.exception.ValidationException;
 import com.batal.repository.*;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -23,6 +29,8 @@ import java.util.stream.Collectors;
 @Transactional
 public class AssessmentService {
 
+    private static final Logger log = LoggerFactory.getLogger(AssessmentService.class);
+
     @Autowired
     private AssessmentRepository assessmentRepository;
 
@@ -38,9 +46,22 @@ public class AssessmentService {
     @Autowired
     private SkillScoreRepository skillScoreRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    @Autowired
+    private AssessmentHistoryReader assessmentHistoryReader;
+
+    @Autowired
+    private AssessmentResponseAssembler assessmentResponseAssembler;
+
     // ===== CREATE OPERATIONS =====
 
     @PreAuthorize("hasRole('COACH') or hasRole('ADMIN') or hasRole('MANAGER')")
+    @Timed("batal.service")
     public AssessmentResponse createAssessment(AssessmentCreateRequest request) {
         // Get current authenticated user
         User currentUser = getCurrentAuthenticatedUser();
@@ -73,12 +94,14 @@ public class AssessmentService {
         // Create skill scores
         createSkillScores(assessment, request.getSkillRatings());
 
+        publishAssessmentEvent(ChangeEventType.ASSESSMENT_CREATED, assessment);
         return convertToAssessmentResponse(assessment);
     }
 
     // ===== READ OPERATIONS =====
 
     @PreAuthorize("hasRole('COACH') or hasRole('ADMIN') or hasRole('MANAGER')")
+    @Transactional(readOnly = true)
     public AssessmentResponse getAssessmentById(Long assessmentId) {
         Assessment assessment = findAssessmentById(assessmentId);
         User currentUser = getCurrentAuthenticatedUser();
@@ -90,21 +113,28 @@ public class AssessmentService {
     }
 
     @PreAuthorize("hasRole('COACH') or hasRole('ADMIN') or hasRole('MANAGER')")
+    @Transactional(readOnly = true)
+    @Timed("batal.service")
     public List<AssessmentResponse> getAssessmentsByPlayerId(Long playerId) {
         User currentUser = getCurrentAuthenticatedUser();
+        // Archived players have no group, so only admins and managers pass the check below
         Player player = playerRepository.findById(playerId)
+                .or(() -> archiveService.findArchivedPlayer(playerId))
                 .orElseThrow(() -> new EntityNotFoundException("Player not found with ID: " + playerId));
 
         // Validate permissions
         validateCanViewPlayerAssessments(currentUser, player);
 
-        List<Assessment> assessments = assessmentRepository.findByPlayerIdOrderByAssessmentDateDesc(playerId);
+        // Full history: older assessments may have been moved to the archive tables.
+        // Assessor and scores are fetched with the assessments, so the statement count does not grow with the history.
+        List<Assessment> assessments = assessmentHistoryReader.findAssessments(player);
         return assessments.stream()
                 .map(this::convertToAssessmentResponse)
                 .collect(Collectors.toList());
     }
 
     @PreAuthorize("hasRole('COACH') or hasRole('ADMIN') or hasRole('MANAGER')")
+    @Transactional(readOnly = true)
     public List<AssessmentResponse> getAssessmentsByCoachId(Long coachId) {
         User currentUser = getCurrentAuthenticatedUser();
 
@@ -124,6 +154,7 @@ public class AssessmentService {
     }
 
     @PreAuthorize("hasRole('COACH') or hasRole('ADMIN') or hasRole('MANAGER')")
+    @Transactional(readOnly = true)
     public List<AssessmentResponse> getAssessmentsByDateRange(LocalDate startDate, LocalDate endDate) {
         User currentUser = getCurrentAuthenticatedUser();
         List<Assessment> assessments;
@@ -142,6 +173,8 @@ public class AssessmentService {
     }
 
     @PreAuthorize("hasRole('COACH') or hasRole('ADMIN') or hasRole('MANAGER')")
+    @Transactional(readOnly = true)
+    @Timed("batal.service")
     public List<AssessmentResponse> getMyAssessments() {
         User currentUser = getCurrentAuthenticatedUser();
 
@@ -162,6 +195,7 @@ public class AssessmentService {
     // ===== UPDATE OPERATIONS =====
 
     @PreAuthorize("hasRole('COACH') or hasRole('ADMIN') or hasRole('MANAGER')")
+    @Timed("batal.service")
     public AssessmentResponse updateAssessment(Long assessmentId, AssessmentUpdateRequest request) {
         Assessment assessment = findAssessmentById(assessmentId);
         User currentUser = getCurrentAuthenticatedUser();
@@ -190,10 +224,12 @@ public class AssessmentService {
         }
 
         assessment = assessmentRepository.save(assessment);
+        publishAssessmentEvent(ChangeEventType.ASSESSMENT_UPDATED, assessment);
         return convertToAssessmentResponse(assessment);
     }
 
     @PreAuthorize("hasRole('COACH') or hasRole('ADMIN') or hasRole('MANAGER')")
+    @Timed("batal.service")
     public AssessmentResponse finalizeAssessment(Long assessmentId) {
         Assessment assessment = findAssessmentById(assessmentId);
         User currentUser = getCurrentAuthenticatedUser();
@@ -208,14 +244,13 @@ public class AssessmentService {
         // Allow partial assessments - just log a warning if incomplete
         if (!isAssessmentComplete(assessment)) {
             // Log warning but don't block finalization
-            System.out.println("Warning: Finalizing partial assessment for player " +
-                    assessment.getPlayer().getFirstName() + " " +
-                    assessment.getPlayer().getLastName() +
-                    " - Not all skills have been assessed");
+            log.warn("Finalizing partial assessment {} for player {}: not all skills have been assessed",
+                    assessment.getId(), assessment.getPlayer().getId());
         }
 
         assessment.setIsFinalized(true);
         assessment = assessmentRepository.save(assessment);
+        publishAssessmentEvent(ChangeEventType.ASSESSMENT_FINALIZED, assessment);
 
         return convertToAssessmentResponse(assessment);
     }
@@ -245,66 +280,22 @@ public class AssessmentService {
     // ===== ANALYTICS OPERATIONS =====
 
     @PreAuthorize("hasRole('COACH') or hasRole('ADMIN') or hasRole('MANAGER')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getPlayerProgressAnalytics(Long playerId) {
         User currentUser = getCurrentAuthenticatedUser();
         Player player = playerRepository.findById(playerId)
+                .or(() -> archiveService.findArchivedPlayer(playerId))
                 .orElseThrow(() -> new EntityNotFoundException("Player not found with ID: " + playerId));
 
         validateCanViewPlayerAssessments(currentUser, player);
 
-        List<Assessment> assessments = assessmentRepository.findByPlayerIdOrderByAssessmentDateDesc(playerId);
-
-        Map<String, Object> analytics = new HashMap<>();
-
-        if (assessments.isEmpty()) {
-            analytics.put("totalAssessments", 0);
-            analytics.put("averageScore", 0.0);
-            analytics.put("categoryAverages", new HashMap<>());
-            analytics.put("progressTrend", "No data available");
-            return analytics;
-        }
-
-        // Calculate overall statistics
-        double overallAverage = assessments.stream()
-                .mapToDouble(Assessment::getAverageScore)
-                .average()
-                .orElse(0.0);
-
-        // Calculate category averages
-        Map<SkillCategory, Double> categoryAverages = Arrays.stream(SkillCategory.values())
-                .collect(Collectors.toMap(
-                        category -> category,
-                        category -> assessments.stream()
-                                .mapToDouble(a -> a.getCategoryAverageScore(category))
-                                .filter(score -> score > 0)
-                                .average()
-                                .orElse(0.0)
-                ));
-
-        // Calculate improvement trend (comparing latest vs earliest)
-        String progressTrend = "Stable";
-        if (assessments.size() > 1) {
-            double latestAverage = assessments.get(0).getAverageScore();
-            double earliestAverage = assessments.get(assessments.size() - 1).getAverageScore();
-            double improvement = latestAverage - earliestAverage;
-
-            if (improvement > 0.5) {
-                progressTrend = "Improving";
-            } else if (improvement < -0.5) {
-                progressTrend = "Declining";
-            }
-        }
-
-        analytics.put("totalAssessments", assessments.size());
-        analytics.put("averageScore", Math.round(overallAverage * 100.0) / 100.0);
-        analytics.put("categoryAverages", categoryAverages);
-        analytics.put("progressTrend", progressTrend);
-        analytics.put("latestAssessmentDate", assessments.get(0).getAssessmentDate());
-
-        return analytics;
+        // Same history as getAssessmentsByPlayerId, so archival does not change the figures
+        return assessmentResponseAssembler.buildProgressAnalytics(assessmentHistoryReader.findAssessments(player));
     }
 
     @PreAuthorize("hasRole('COACH') or hasRole('ADMIN') or hasRole('MANAGER')")
+    @Transactional(readOnly = true)
+    @Timed("batal.service")
     public AssessmentSummaryResponse getAssessmentSummary(Long playerId, Long groupId, String period,
                                                           LocalDate dateFrom, LocalDate dateTo) {
         User currentUser = getCurrentAuthenticatedUser();
@@ -384,6 +375,14 @@ public class AssessmentService {
 
     // ===== HELPER METHODS =====
 
+    /**
+     * Publish a change for dashboards; delivered only if the transaction commits
+     */
+    private void publishAssessmentEvent(ChangeEventType type, Assessment assessment) {
+        Player player = assessment.getPlayer();
+        eventPublisher.publishEvent(ChangeEvent.assessment(type, assessment.getId(), player.getId(), player.getGroup()));
+    }
+
     private Assessment findAssessmentById(Long assessmentId) {
         return assessmentRepository.findById(assessmentId)
                 .orElseThrow(() -> new EntityNotFoundException("Assessment not found with ID: " + assessmentId));
@@ -511,7 +510,7 @@ public class AssessmentService {
                 .map(SkillRatingRequest::getSkillId)
                 .collect(Collectors.toList());
 
-        List<Skill> skills = skillRepository.findAllById(skillIds);
+        List<Skill> skills = skillRepository.findByIdIn(skillIds);
 
         if (skills.size() != skillIds.size()) {
             throw new EntityNotFoundException("One or more skills not found");
@@ -530,19 +529,11 @@ public class AssessmentService {
     }
 
     private boolean isAssessmentComplete(Assessment assessment) {
-        Level playerLevel = assessment.getPlayer().getLevel();
-        List<Skill> requiredSkills = skillRepository.findByApplicableLevelsContainingAndIsActiveTrue(playerLevel);
-
-        Set<Long> assessedSkillIds = assessment.getSkillScores().stream()
-                .map(ss -> ss.getSkill().getId())
-                .collect(Collectors.toSet());
-
-        List<String> missingSkills = requiredSkills.stream()
-                .filter(skill -> !assessedSkillIds.contains(skill.getId()))
-                .map(Skill::getName)
-                .collect(Collectors.toList());
+        return assessmentResponseAssembler.isComplete(assessment, requiredSkills(assessment));
+    }
 
-        return missingSkills.isEmpty();
+    private List<Skill> requiredSkills(Assessment assessment) {
+        return skillRepository.findByApplicableLevelsContainingAndIsActiveTrue(assessment.getPlayer().getLevel());
     }
 
     private void validateAssessmentComplete(Assessment assessment) {
@@ -654,60 +645,6 @@ public class AssessmentService {
     }
 
     private AssessmentResponse convertToAssessmentResponse(Assessment assessment) {
-        AssessmentResponse response = new AssessmentResponse();
-        response.setId(assessment.getId());
-        response.setPlayerId(assessment.getPlayer().getId());
-        response.setPlayerName(assessment.getPlayer().getFullName());
-        response.setPlayerGroupName(assessment.getPlayer().getGroup() != null ?
-                assessment.getPlayer().getGroup().getName() : null);
-        response.setAssessorId(assessment.getAssessor().getId());
-        response.setAssessorName(assessment.getAssessor().getFullName());
-        response.setAssessmentDate(assessment.getAssessmentDate());
-        response.setPeriod(assessment.getPeriod());
-        response.setComments(assessment.getComments());
-        response.setCoachNotes(assessment.getCoachNotes());
-        response.setIsFinalized(assessment.getIsFinalized());
-        response.setCreatedAt(assessment.getCreatedAt());
-        response.setUpdatedAt(assessment.getUpdatedAt());
-
-        // Convert skill scores
-        List<AssessmentResponse.SkillScoreResponse> skillScoreResponses = assessment.getSkillScores()
-                .stream()
-                .map(this::convertToSkillScoreResponse)
-                .sorted(Comparator.comparing((AssessmentResponse.SkillScoreResponse ss) -> ss.getSkillCategory().toString())
-                        .thenComparing(AssessmentResponse.SkillScoreResponse::getSkillName))
-                .collect(Collectors.toList());
-
-        response.setSkillScores(skillScoreResponses);
-
-        // Calculate statistics
-        response.setOverallAverage(assessment.getAverageScore());
-        response.setTotalSkillsAssessed(assessment.getSkillScores().size());
-
-        // Calculate category averages
-        Map<SkillCategory, Double> categoryAverages = Arrays.stream(SkillCategory.values())
-                .collect(Collectors.toMap(
-                        category -> category,
-                        category -> assessment.getCategoryAverageScore(category)
-                ));
-        response.setCategoryAverages(categoryAverages);
-
-        // Check if assessment is partial
-        response.setIsPartialAssessment(!isAssessmentComplete(assessment));
-
-        return response;
-    }
-
-    private AssessmentResponse.SkillScoreResponse convertToSkillScoreResponse(SkillScore skillScore) {
-        return new AssessmentResponse.SkillScoreResponse(
-                skillScore.getId(),
-                skillScore.getSkill().getId(),
-                skillScore.getSkill().getName(),
-                skillScore.getSkill().getCategory(),
-                skillScore.getScore(),
-                skillScore.getNotes(),
-                skillScore.getPreviousScore(),
-                skillScore.getImprovement()
-        );
+        return assessmentResponseAssembler.toResponse(assessment, requiredSkills(assessment));
     }
-}
\ No newline at end of file
+}
@@ -24,6 +24,7 @@ import com.batal.repository.PlayerRepository;
 import com.batal.repository.RoleRepository;
 import com.batal.repository.UserRepository;
 import com.batal.security.JwtUtil;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -74,6 +75,7 @@ public class AuthService {
     private int tokenExpiryHours;
 
     @Transactional
+    @Timed("batal.service")
     public UserResponse register(RegisterRequest registerRequest) {
         // Check if user already exists
         if (userRepository.existsByEmail(registerRequest.getEmail())) {
@@ -109,6 +111,7 @@ public class AuthService {
         return new UserResponse(savedUser, roleNames);
     }
     
+    @Timed("batal.service")
     public LoginResponse login(LoginRequest loginRequest) {
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
@@ -182,6 +185,7 @@ public class AuthService {
      * Set password for first-time users via email token
      */
     @Transactional
+    @Timed("batal.service")
     public LoginResponse setPasswordWithToken(SetPasswordRequest request) {
         // Validate passwords match
         if (!request.isPasswordMatching()) {
@@ -372,6 +376,7 @@ public class AuthService {
      * Note: For security, we don't reveal if the email exists or not
      */
     @Transactional
+    @Timed("batal.service")
     public void initiatePasswordReset(ForgotPasswordRequest request) {
         // Find user by email - if not found, silently succeed (security best practice)
         var userOpt = userRepository.findByEmail(request.getEmail());
@@ -0,0 +1,52 @@
+package com.batal.service;
+
+import com.batal.dto.CacheRegionStatsDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Second-level cache statistics per region, from Hibernate's statistics
+ */
+@Service
+public class CacheStatsService {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    public List<CacheRegionStatsDTO> getRegionStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        List<String> regions = new ArrayList<>(Arrays.asList(statistics.getSecondLevelCacheRegionNames()));
+        regions.sort(null);
+        if (!regions.contains(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME)) {
+            regions.add(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+        }
+
+        List<CacheRegionStatsDTO> result = new ArrayList<>();
+        for (String region : regions) {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            if (regionStatistics == null) {
+                continue;
+            }
+            CacheRegionStatsDTO dto = new CacheRegionStatsDTO();
+            dto.setRegion(region);
+            dto.setHits(regionStatistics.getHitCount());
+            dto.setMisses(regionStatistics.getMissCount());
+            dto.setPuts(regionStatistics.getPutCount());
+            long lookups = dto.getHits() + dto.getMisses();
+            dto.setHitRatio(lookups > 0 ? Math.round(dto.getHits() * 1000.0 / lookups) / 1000.0 : null);
+            dto.setEntries(regionStatistics.getElementCountInMemory());
+            result.add(dto);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,207 @@
+package com.batal.service;
+
+import com.batal.event.ChangeEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes committed {@link ChangeEvent}s to dashboard subscribers over server-sent events.
+ *
+ * Each subscriber has a bounded buffer; when a client falls behind, the oldest events are
+ * dropped and the client gets a {@code resync} event telling it to reload. Sending happens on
+ * a small dispatch pool, never on the thread that committed the change.
+ */
+@Service
+public class ChangeStreamService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeStreamService.class);
+
+    @Value("${batal.events.buffer-size:100}")
+    private int bufferSize;
+
+    @Value("${batal.events.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${batal.events.dispatch-threads:4}")
+    private int dispatchThreads;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private ExecutorService dispatcher;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        dispatcher = Executors.newFixedThreadPool(dispatchThreads, runnable -> {
+            Thread thread = new Thread(runnable, "change-stream-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+        dispatcher.shutdownNow();
+    }
+
+    /**
+     * Open a stream for a user
+     *
+     * @param userId The subscriber's user ID
+     * @param allChanges true for admins and managers; coaches only get changes touching their groups
+     */
+    public SseEmitter subscribe(Long userId, boolean allChanges) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(userId, allChanges, emitter, bufferSize);
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> {
+            subscribers.remove(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(error -> subscribers.remove(subscriber));
+
+        try {
+            emitter.send(SseEmitter.event().comment("connected"));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            return emitter;
+        }
+
+        subscribers.add(subscriber);
+        log.debug("Change stream opened for user {} ({} subscribers)", userId, subscribers.size());
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onChange(ChangeEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.allChanges || event.isVisibleToCoach(subscriber.userId)) {
+                subscriber.offer(event);
+                schedule(subscriber);
+            }
+        }
+    }
+
+    /**
+     * Keep idle connections open through proxies and notice clients that went away
+     */
+    @Scheduled(fixedRateString = "${batal.events.heartbeat-ms:25000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatDue.set(true);
+            schedule(subscriber);
+        }
+    }
+
+    // ========== DISPATCH ==========
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.scheduled.set(false);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            while (true) {
+                int dropped = subscriber.takeDropped();
+                if (dropped > 0) {
+                    subscriber.emitter.send(SseEmitter.event().name("resync").data(Map.of("dropped", dropped)));
+                }
+                ChangeEvent event = subscriber.poll();
+                if (event == null) {
+                    break;
+                }
+                subscriber.emitter.send(SseEmitter.event().name(event.getType().name()).data(event));
+            }
+            if (subscriber.heartbeatDue.getAndSet(false)) {
+                subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client disconnected or emitter already completed
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return;
+        } finally {
+            subscriber.scheduled.set(false);
+        }
+
+        // An event may have arrived after the last poll but before the flag was cleared
+        if (subscriber.hasPending() && subscribers.contains(subscriber)) {
+            schedule(subscriber);
+        }
+    }
+
+    /**
+     * One open stream with its bounded, drop-oldest buffer
+     */
+    private static final class Subscriber {
+
+        private final Long userId;
+        private final boolean allChanges;
+        private final SseEmitter emitter;
+        private final int capacity;
+        private final ArrayDeque<ChangeEvent> buffer;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean heartbeatDue = new AtomicBoolean();
+        private int dropped;
+
+        Subscriber(Long userId, boolean allChanges, SseEmitter emitter, int capacity) {
+            this.userId = userId;
+            this.allChanges = allChanges;
+            this.emitter = emitter;
+            this.capacity = capacity;
+            this.buffer = new ArrayDeque<>(capacity);
+        }
+
+        synchronized void offer(ChangeEvent event) {
+            if (buffer.size() >= capacity) {
+                buffer.pollFirst();
+                dropped++;
+            }
+            buffer.addLast(event);
+        }
+
+        synchronized ChangeEvent poll() {
+            return buffer.pollFirst();
+        }
+
+        synchronized int takeDropped() {
+            int count = dropped;
+            dropped = 0;
+            return count;
+        }
+
+        synchronized boolean hasPending() {
+            return !buffer.isEmpty() || dropped > 0;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.batal.service;
+
+import com.batal.config.ReadWriteRoutingDataSource;
+import com.batal.config.ReplicaLagMonitor;
+import com.batal.dto.ConnectionPoolStatsDTO;
+import com.batal.dto.DataSourceStatsDTO;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Connection pool and read/write routing statistics
+ */
+@Service
+public class DataSourceStatsService {
+
+    // Pools may sit behind proxies (routing, statement counting); each is reported once
+    @Autowired
+    private List<DataSource> dataSources;
+
+    // Only present when the read replica is enabled
+    @Autowired(required = false)
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @Autowired(required = false)
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    public DataSourceStatsDTO getStats() {
+        DataSourceStatsDTO stats = new DataSourceStatsDTO();
+        stats.setPools(dataSources.stream()
+                .map(dataSource -> DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class))
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(this::toPoolStats)
+                .collect(Collectors.toList()));
+
+        stats.setReplicaEnabled(routingDataSource != null);
+        if (routingDataSource != null) {
+            stats.setReplicaAvailable(routingDataSource.isReplicaAvailable());
+            stats.setPrimaryConnections(routingDataSource.getPrimaryConnections());
+            stats.setReplicaConnections(routingDataSource.getReplicaConnections());
+            stats.setFallbackConnections(routingDataSource.getFallbackConnections());
+        }
+        if (replicaLagMonitor != null) {
+            stats.setReplicaLagSeconds(replicaLagMonitor.getLagSeconds());
+            stats.setMaxLagSeconds(replicaLagMonitor.getMaxLagSeconds());
+            stats.setReplicaCheckedAt(replicaLagMonitor.getLastCheckedAt());
+            stats.setReplicaError(replicaLagMonitor.getLastError());
+        }
+        return stats;
+    }
+
+    private ConnectionPoolStatsDTO toPoolStats(HikariDataSource dataSource) {
+        ConnectionPoolStatsDTO pool = new ConnectionPoolStatsDTO();
+        pool.setName(dataSource.getPoolName());
+        pool.setMaximumPoolSize(dataSource.getMaximumPoolSize());
+        HikariPoolMXBean mxBean = dataSource.isRunning() ? dataSource.getHikariPoolMXBean() : null;
+        pool.setRunning(mxBean != null);
+        if (mxBean != null) {
+            pool.setActiveConnections(mxBean.getActiveConnections());
+            pool.setIdleConnections(mxBean.getIdleConnections());
+            pool.setTotalConnections(mxBean.getTotalConnections());
+            pool.setThreadsAwaitingConnection(mxBean.getThreadsAwaitingConnection());
+        }
+        return pool;
+    }
+}
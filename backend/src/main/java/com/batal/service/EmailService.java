@@ -1,17 +1,27 @@
 package com.batal.service;
 
 import com.batal.entity.User;
+import com.batal.service.report.MonthlyParentSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
 /**
  * Service for sending emails
  */
@@ -20,9 +30,17 @@ public class EmailService {
 
     private static final Logger log = LoggerFactory.getLogger(EmailService.class);
 
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("MMMM yyyy", Locale.ENGLISH);
+
     @Autowired
     private JavaMailSender mailSender;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EmailTemplateRenderer emailTemplateRenderer;
+
     @Value("${batal.mail.from}")
     private String fromEmail;
 
@@ -48,10 +66,10 @@ public class EmailService {
             String setupLink = String.format("%s/setup-password?token=%s",
                     frontendUrl, token);
 
-            String htmlContent = buildPasswordSetupEmailHtml(user, setupLink);
+            String htmlContent = emailTemplateRenderer.buildPasswordSetupEmailHtml(user, setupLink);
             helper.setText(htmlContent, true);
 
-            mailSender.send(message);
+            send("password_setup", message);
 
             log.info("Password setup email sent successfully");
         } catch (Exception e) {
@@ -60,134 +78,6 @@ public class EmailService {
         }
     }
 
-    /**
-     * Build HTML content for password setup email
-     */
-    private String buildPasswordSetupEmailHtml(User user, String setupLink) {
-        return String.format("""
-            <!DOCTYPE html>
-            <html lang="en">
-            <head>
-                <meta charset="UTF-8">
-                <meta name="viewport" content="width=device-width, initial-scale=1.0">
-                <title>Set Your Password</title>
-                <style>
-                    body {
-                        font-family: 'Segoe UI', Tahoma, Geneva, Verdana, sans-serif;
-                        line-height: 1.6;
-                        color: #333;
-                        margin: 0;
-                        padding: 0;
-                        background-color: #f4f4f4;
-                    }
-                    .container {
-                        max-width: 600px;
-                        margin: 20px auto;
-                        background: white;
-                        border-radius: 10px;
-                        overflow: hidden;
-                        box-shadow: 0 4px 6px rgba(0,0,0,0.1);
-                    }
-                    .header {
-                        background: linear-gradient(135deg, #667eea 0%%, #764ba2 100%%);
-                        color: white;
-                        padding: 40px 30px;
-                        text-align: center;
-                    }
-                    .header h1 {
-                        margin: 0;
-                        font-size: 28px;
-                    }
-                    .content {
-                        padding: 40px 30px;
-                    }
-                    .content p {
-                        margin: 15px 0;
-                        font-size: 16px;
-                    }
-                    .button {
-                        display: inline-block;
-                        padding: 15px 40px;
-                        background: #667eea;
-                        color: white !important;
-                        text-decoration: none;
-                        border-radius: 5px;
-                        font-weight: bold;
-                        margin: 20px 0;
-                        text-align: center;
-                    }
-                    .button:hover {
-                        background: #5568d3;
-                    }
-                    .link-box {
-                        background: #f9f9f9;
-                        border: 1px solid #e0e0e0;
-                        padding: 15px;
-                        border-radius: 5px;
-                        margin: 20px 0;
-                        word-break: break-all;
-                        font-size: 14px;
-                        color: #666;
-                    }
-                    .warning {
-                        background: #fff3cd;
-                        border-left: 4px solid #ffc107;
-                        padding: 15px;
-                        margin: 20px 0;
-                        border-radius: 4px;
-                    }
-                    .warning strong {
-                        color: #856404;
-                    }
-                    .footer {
-                        background: #f4f4f4;
-                        text-align: center;
-                        padding: 20px;
-                        font-size: 12px;
-                        color: #666;
-                    }
-                    .footer p {
-                        margin: 5px 0;
-                    }
-                </style>
-            </head>
-            <body>
-                <div class="container">
-                    <div class="header">
-                        <h1>⚽ Welcome to Batal Football Academy</h1>
-                    </div>
-                    <div class="content">
-                        <p>Hello <strong>%s</strong>,</p>
-
-                        <p>Your account has been created successfully! To get started and access your dashboard, you need to set your password.</p>
-
-                        <p style="text-align: center;">
-                            <a href="%s" class="button">Set Your Password</a>
-                        </p>
-
-                        <p>Or copy and paste this link into your browser:</p>
-                        <div class="link-box">%s</div>
-
-                        <div class="warning">
-                            <strong>⏰ This link will expire in 48 hours</strong><br>
-                            For security reasons, please set your password as soon as possible.
-                        </div>
-
-                        <p>If you didn't request this account or believe this email was sent in error, please contact the academy administrator immediately.</p>
-
-                        <p>Best regards,<br>
-                        <strong>Batal Football Academy Team</strong></p>
-                    </div>
-                    <div class="footer">
-                        <p>This is an automated message, please do not reply to this email.</p>
-                        <p>© 2025 Batal Football Academy. All rights reserved.</p>
-                    </div>
-                </div>
-            </body>
-            </html>
-            """, user.getFirstName(), setupLink, setupLink);
-    }
-
     /**
      * Send password reset email to a user who forgot their password
      */
@@ -204,10 +94,10 @@ public class EmailService {
             String resetLink = String.format("%s/reset-password?token=%s",
                     frontendUrl, token);
 
-            String htmlContent = buildPasswordResetEmailHtml(user, resetLink);
+            String htmlContent = emailTemplateRenderer.buildPasswordResetEmailHtml(user, resetLink);
             helper.setText(htmlContent, true);
 
-            mailSender.send(message);
+            send("password_reset", message);
 
             log.info("Password reset email sent successfully");
         } catch (Exception e) {
@@ -217,145 +107,68 @@ public class EmailService {
     }
 
     /**
-     * Build HTML content for password reset email
+     * Send a batch of monthly parent summaries over a single mail session.
+     * Summaries must already carry their HTML body (see {@link EmailTemplateRenderer#buildMonthlyReportHtml}).
+     *
+     * @return Number of emails accepted by the mail server; the rest failed
      */
-    private String buildPasswordResetEmailHtml(User user, String resetLink) {
-        return String.format("""
-            <!DOCTYPE html>
-            <html lang="en">
-            <head>
-                <meta charset="UTF-8">
-                <meta name="viewport" content="width=device-width, initial-scale=1.0">
-                <title>Reset Your Password</title>
-                <style>
-                    body {
-                        font-family: 'Segoe UI', Tahoma, Geneva, Verdana, sans-serif;
-                        line-height: 1.6;
-                        color: #333;
-                        margin: 0;
-                        padding: 0;
-                        background-color: #f4f4f4;
-                    }
-                    .container {
-                        max-width: 600px;
-                        margin: 20px auto;
-                        background: white;
-                        border-radius: 10px;
-                        overflow: hidden;
-                        box-shadow: 0 4px 6px rgba(0,0,0,0.1);
-                    }
-                    .header {
-                        background: linear-gradient(135deg, #667eea 0%%, #764ba2 100%%);
-                        color: white;
-                        padding: 40px 30px;
-                        text-align: center;
-                    }
-                    .header h1 {
-                        margin: 0;
-                        font-size: 28px;
-                    }
-                    .content {
-                        padding: 40px 30px;
-                    }
-                    .content p {
-                        margin: 15px 0;
-                        font-size: 16px;
-                    }
-                    .button {
-                        display: inline-block;
-                        padding: 15px 40px;
-                        background: #667eea;
-                        color: white !important;
-                        text-decoration: none;
-                        border-radius: 5px;
-                        font-weight: bold;
-                        margin: 20px 0;
-                        text-align: center;
-                    }
-                    .button:hover {
-                        background: #5568d3;
-                    }
-                    .link-box {
-                        background: #f9f9f9;
-                        border: 1px solid #e0e0e0;
-                        padding: 15px;
-                        border-radius: 5px;
-                        margin: 20px 0;
-                        word-break: break-all;
-                        font-size: 14px;
-                        color: #666;
-                    }
-                    .warning {
-                        background: #fff3cd;
-                        border-left: 4px solid #ffc107;
-                        padding: 15px;
-                        margin: 20px 0;
-                        border-radius: 4px;
-                    }
-                    .warning strong {
-                        color: #856404;
-                    }
-                    .security-notice {
-                        background: #e7f3ff;
-                        border-left: 4px solid #2196F3;
-                        padding: 15px;
-                        margin: 20px 0;
-                        border-radius: 4px;
-                    }
-                    .security-notice strong {
-                        color: #0d47a1;
-                    }
-                    .footer {
-                        background: #f4f4f4;
-                        text-align: center;
-                        padding: 20px;
-                        font-size: 12px;
-                        color: #666;
-                    }
-                    .footer p {
-                        margin: 5px 0;
-                    }
-                </style>
-            </head>
-            <body>
-                <div class="container">
-                    <div class="header">
-                        <h1>🔐 Password Reset Request</h1>
-                    </div>
-                    <div class="content">
-                        <p>Hello <strong>%s</strong>,</p>
-
-                        <p>We received a request to reset the password for your Batal Football Academy account.</p>
-
-                        <p style="text-align: center;">
-                            <a href="%s" class="button">Reset Your Password</a>
-                        </p>
-
-                        <p>Or copy and paste this link into your browser:</p>
-                        <div class="link-box">%s</div>
-
-                        <div class="warning">
-                            <strong>⏰ This link will expire in 48 hours</strong><br>
-                            For security reasons, please reset your password as soon as possible.
-                        </div>
+    public int sendMonthlyReports(List<MonthlyParentSummary> summaries) {
+        List<MimeMessage> messages = new ArrayList<>(summaries.size());
+        for (MonthlyParentSummary summary : summaries) {
+            try {
+                MimeMessage message = mailSender.createMimeMessage();
+                MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+
+                helper.setFrom(new InternetAddress(fromEmail, fromName));
+                helper.setTo(summary.getParentEmail());
+                helper.setSubject("Batal Football Academy - Monthly Progress Summary "
+                        + summary.getMonth().format(MONTH_FORMAT));
+                helper.setText(summary.getHtmlBody(), true);
+
+                messages.add(message);
+            } catch (Exception e) {
+                log.error("Failed to build monthly report email for parent {}", summary.getParentId(), e);
+            }
+        }
 
-                        <div class="security-notice">
-                            <strong>🛡️ Didn't request this?</strong><br>
-                            If you didn't request a password reset, you can safely ignore this email. Your password will remain unchanged.
-                        </div>
+        if (messages.isEmpty()) {
+            return 0;
+        }
 
-                        <p>For security reasons, never share this link with anyone.</p>
+        try {
+            send("monthly_report", messages.toArray(new MimeMessage[0]));
+            return messages.size();
+        } catch (MailSendException e) {
+            log.error("{} of {} monthly report emails failed", e.getFailedMessages().size(), messages.size());
+            return messages.size() - e.getFailedMessages().size();
+        } catch (MailException e) {
+            log.error("Failed to send monthly report batch of {} emails", messages.size(), e);
+            return 0;
+        }
+    }
 
-                        <p>Best regards,<br>
-                        <strong>Batal Football Academy Team</strong></p>
-                    </div>
-                    <div class="footer">
-                        <p>This is an automated message, please do not reply to this email.</p>
-                        <p>© 2025 Batal Football Academy. All rights reserved.</p>
-                    </div>
-                </div>
-            </body>
-            </html>
-            """, user.getFirstName(), resetLink, resetLink);
+    /**
+     * Hand messages to the mail server in one session, recording the time taken
+     * (batal.mail.send) and how many messages were accepted or failed (batal.mail.messages)
+     */
+    private void send(String type, MimeMessage... messages) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        int failed = messages.length;
+        try {
+            mailSender.send(messages);
+            outcome = "success";
+            failed = 0;
+        } catch (MailSendException e) {
+            if (!e.getFailedMessages().isEmpty() && e.getFailedMessages().size() < messages.length) {
+                outcome = "partial";
+                failed = e.getFailedMessages().size();
+            }
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("batal.mail.send", "type", type, "outcome", outcome));
+            meterRegistry.counter("batal.mail.messages", "type", type, "result", "sent").increment(messages.length - failed);
+            meterRegistry.counter("batal.mail.messages", "type", type, "result", "failed").increment(failed);
+        }
     }
 }
@@ -0,0 +1,426 @@
+package com.batal.service;
+
+import com.batal.entity.User;
+import com.batal.entity.enums.SkillCategory;
+import com.batal.service.report.MonthlyParentSummary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Renders the HTML bodies of the academy emails; sending is left to {@link EmailService}
+ */
+@Component
+public class EmailTemplateRenderer {
+
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("MMMM yyyy", Locale.ENGLISH);
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("d MMMM yyyy", Locale.ENGLISH);
+
+    private final String frontendUrl;
+
+    public EmailTemplateRenderer(@Value("${batal.frontend.url}") String frontendUrl) {
+        this.frontendUrl = frontendUrl;
+    }
+
+    /**
+     * Build HTML content for password setup email
+     */
+    public String buildPasswordSetupEmailHtml(User user, String setupLink) {
+        return String.format("""
+            <!DOCTYPE html>
+            <html lang="en">
+            <head>
+                <meta charset="UTF-8">
+                <meta name="viewport" content="width=device-width, initial-scale=1.0">
+                <title>Set Your Password</title>
+                <style>
+                    body {
+                        font-family: 'Segoe UI', Tahoma, Geneva, Verdana, sans-serif;
+                        line-height: 1.6;
+                        color: #333;
+                        margin: 0;
+                        padding: 0;
+                        background-color: #f4f4f4;
+                    }
+                    .container {
+                        max-width: 600px;
+                        margin: 20px auto;
+                        background: white;
+                        border-radius: 10px;
+                        overflow: hidden;
+                        box-shadow: 0 4px 6px rgba(0,0,0,0.1);
+                    }
+                    .header {
+                        background: linear-gradient(135deg, #667eea 0%%, #764ba2 100%%);
+                        color: white;
+                        padding: 40px 30px;
+                        text-align: center;
+                    }
+                    .header h1 {
+                        margin: 0;
+                        font-size: 28px;
+                    }
+                    .content {
+                        padding: 40px 30px;
+                    }
+                    .content p {
+                        margin: 15px 0;
+                        font-size: 16px;
+                    }
+                    .button {
+                        display: inline-block;
+                        padding: 15px 40px;
+                        background: #667eea;
+                        color: white !important;
+                        text-decoration: none;
+                        border-radius: 5px;
+                        font-weight: bold;
+                        margin: 20px 0;
+                        text-align: center;
+                    }
+                    .button:hover {
+                        background: #5568d3;
+                    }
+                    .link-box {
+                        background: #f9f9f9;
+                        border: 1px solid #e0e0e0;
+                        padding: 15px;
+                        border-radius: 5px;
+                        margin: 20px 0;
+                        word-break: break-all;
+                        font-size: 14px;
+                        color: #666;
+                    }
+                    .warning {
+                        background: #fff3cd;
+                        border-left: 4px solid #ffc107;
+                        padding: 15px;
+                        margin: 20px 0;
+                        border-radius: 4px;
+                    }
+                    .warning strong {
+                        color: #856404;
+                    }
+                    .footer {
+                        background: #f4f4f4;
+                        text-align: center;
+                        padding: 20px;
+                        font-size: 12px;
+                        color: #666;
+                    }
+                    .footer p {
+                        margin: 5px 0;
+                    }
+                </style>
+            </head>
+            <body>
+                <div class="container">
+                    <div class="header">
+                        <h1>⚽ Welcome to Batal Football Academy</h1>
+                    </div>
+                    <div class="content">
+                        <p>Hello <strong>%s</strong>,</p>
+
+                        <p>Your account has been created successfully! To get started and access your dashboard, you need to set your password.</p>
+
+                        <p style="text-align: center;">
+                            <a href="%s" class="button">Set Your Password</a>
+                        </p>
+
+                        <p>Or copy and paste this link into your browser:</p>
+                        <div class="link-box">%s</div>
+
+                        <div class="warning">
+                            <strong>⏰ This link will expire in 48 hours</strong><br>
+                            For security reasons, please set your password as soon as possible.
+                        </div>
+
+                        <p>If you didn't request this account or believe this email was sent in error, please contact the academy administrator immediately.</p>
+
+                        <p>Best regards,<br>
+                        <strong>Batal Football Academy Team</strong></p>
+                    </div>
+                    <div class="footer">
+                        <p>This is an automated message, please do not reply to this email.</p>
+                        <p>© 2025 Batal Football Academy. All rights reserved.</p>
+                    </div>
+                </div>
+            </body>
+            </html>
+            """, user.getFirstName(), setupLink, setupLink);
+    }
+
+    /**
+     * Build HTML content for password reset email
+     */
+    public String buildPasswordResetEmailHtml(User user, String resetLink) {
+        return String.format("""
+            <!DOCTYPE html>
+            <html lang="en">
+            <head>
+                <meta charset="UTF-8">
+                <meta name="viewport" content="width=device-width, initial-scale=1.0">
+                <title>Reset Your Password</title>
+                <style>
+                    body {
+                        font-family: 'Segoe UI', Tahoma, Geneva, Verdana, sans-serif;
+                        line-height: 1.6;
+                        color: #333;
+                        margin: 0;
+                        padding: 0;
+                        background-color: #f4f4f4;
+                    }
+                    .container {
+                        max-width: 600px;
+                        margin: 20px auto;
+                        background: white;
+                        border-radius: 10px;
+                        overflow: hidden;
+                        box-shadow: 0 4px 6px rgba(0,0,0,0.1);
+                    }
+                    .header {
+                        background: linear-gradient(135deg, #667eea 0%%, #764ba2 100%%);
+                        color: white;
+                        padding: 40px 30px;
+                        text-align: center;
+                    }
+                    .header h1 {
+                        margin: 0;
+                        font-size: 28px;
+                    }
+                    .content {
+                        padding: 40px 30px;
+                    }
+                    .content p {
+                        margin: 15px 0;
+                        font-size: 16px;
+                    }
+                    .button {
+                        display: inline-block;
+                        padding: 15px 40px;
+                        background: #667eea;
+                        color: white !important;
+                        text-decoration: none;
+                        border-radius: 5px;
+                        font-weight: bold;
+                        margin: 20px 0;
+                        text-align: center;
+                    }
+                    .button:hover {
+                        background: #5568d3;
+                    }
+                    .link-box {
+                        background: #f9f9f9;
+                        border: 1px solid #e0e0e0;
+                        padding: 15px;
+                        border-radius: 5px;
+                        margin: 20px 0;
+                        word-break: break-all;
+                        font-size: 14px;
+                        color: #666;
+                    }
+                    .warning {
+                        background: #fff3cd;
+                        border-left: 4px solid #ffc107;
+                        padding: 15px;
+                        margin: 20px 0;
+                        border-radius: 4px;
+                    }
+                    .warning strong {
+                        color: #856404;
+                    }
+                    .security-notice {
+                        background: #e7f3ff;
+                        border-left: 4px solid #2196F3;
+                        padding: 15px;
+                        margin: 20px 0;
+                        border-radius: 4px;
+                    }
+                    .security-notice strong {
+                        color: #0d47a1;
+                    }
+                    .footer {
+                        background: #f4f4f4;
+                        text-align: center;
+                        padding: 20px;
+                        font-size: 12px;
+                        color: #666;
+                    }
+                    .footer p {
+                        margin: 5px 0;
+                    }
+                </style>
+            </head>
+            <body>
+                <div class="container">
+                    <div class="header">
+                        <h1>🔐 Password Reset Request</h1>
+                    </div>
+                    <div class="content">
+                        <p>Hello <strong>%s</strong>,</p>
+
+                        <p>We received a request to reset the password for your Batal Football Academy account.</p>
+
+                        <p style="text-align: center;">
+                            <a href="%s" class="button">Reset Your Password</a>
+                        </p>
+
+                        <p>Or copy and paste this link into your browser:</p>
+                        <div class="link-box">%s</div>
+
+                        <div class="warning">
+                            <strong>⏰ This link will expire in 48 hours</strong><br>
+                            For security reasons, please reset your password as soon as possible.
+                        </div>
+
+                        <div class="security-notice">
+                            <strong>🛡️ Didn't request this?</strong><br>
+                            If you didn't request a password reset, you can safely ignore this email. Your password will remain unchanged.
+                        </div>
+
+                        <p>For security reasons, never share this link with anyone.</p>
+
+                        <p>Best regards,<br>
+                        <strong>Batal Football Academy Team</strong></p>
+                    </div>
+                    <div class="footer">
+                        <p>This is an automated message, please do not reply to this email.</p>
+                        <p>© 2025 Batal Football Academy. All rights reserved.</p>
+                    </div>
+                </div>
+            </body>
+            </html>
+            """, user.getFirstName(), resetLink, resetLink);
+    }
+
+    /**
+     * Build HTML content for a monthly parent summary email
+     */
+    public String buildMonthlyReportHtml(MonthlyParentSummary summary) {
+        StringBuilder children = new StringBuilder();
+        for (MonthlyParentSummary.ChildEntry child : summary.getChildren()) {
+            StringBuilder categories = new StringBuilder();
+            for (SkillCategory category : SkillCategory.values()) {
+                Double average = child.getCategoryAverages().get(category);
+                categories.append(String.format(Locale.ROOT, "<td>%s<br><strong>%s</strong></td>",
+                        category, average != null ? String.format(Locale.ROOT, "%.1f", average) : "-"));
+            }
+
+            String comments = child.getComments() != null && !child.getComments().isBlank()
+                    ? "<p class=\"comments\">" + HtmlUtils.htmlEscape(child.getComments()) + "</p>"
+                    : "";
+
+            children.append(String.format(Locale.ROOT, """
+                    <div class="child">
+                        <h2>%s</h2>
+                        <p class="meta">Assessed on %s by %s &middot; Overall average <strong>%.1f / 10</strong></p>
+                        <table><tr>%s</tr></table>
+                        %s
+                    </div>
+                    """,
+                    HtmlUtils.htmlEscape(child.getPlayerName()),
+                    child.getAssessmentDate().format(DAY_FORMAT),
+                    HtmlUtils.htmlEscape(child.getAssessorName()),
+                    child.getAverageScore() != null ? child.getAverageScore() : 0.0,
+                    categories,
+                    comments));
+        }
+
+        return String.format("""
+            <!DOCTYPE html>
+            <html lang="en">
+            <head>
+                <meta charset="UTF-8">
+                <meta name="viewport" content="width=device-width, initial-scale=1.0">
+                <title>Monthly Progress Summary</title>
+                <style>
+                    body {
+                        font-family: 'Segoe UI', Tahoma, Geneva, Verdana, sans-serif;
+                        line-height: 1.6;
+                        color: #333;
+                        margin: 0;
+                        padding: 0;
+                        background-color: #f4f4f4;
+                    }
+                    .container {
+                        max-width: 600px;
+                        margin: 20px auto;
+                        background: white;
+                        border-radius: 10px;
+                        overflow: hidden;
+                        box-shadow: 0 4px 6px rgba(0,0,0,0.1);
+                    }
+                    .header {
+                        background: linear-gradient(135deg, #667eea 0%%, #764ba2 100%%);
+                        color: white;
+                        padding: 30px;
+                        text-align: center;
+                    }
+                    .header h1 {
+                        margin: 0;
+                        font-size: 24px;
+                    }
+                    .content {
+                        padding: 30px;
+                    }
+                    .child {
+                        border-top: 1px solid #e0e0e0;
+                        padding: 15px 0;
+                    }
+                    .child h2 {
+                        margin: 0 0 5px 0;
+                        font-size: 18px;
+                        color: #764ba2;
+                    }
+                    .meta {
+                        font-size: 14px;
+                        color: #666;
+                    }
+                    table {
+                        width: 100%%;
+                        text-align: center;
+                        font-size: 13px;
+                    }
+                    .comments {
+                        background: #f9f9f9;
+                        border-left: 4px solid #667eea;
+                        padding: 10px 15px;
+                        font-style: italic;
+                    }
+                    .footer {
+                        background: #f4f4f4;
+                        text-align: center;
+                        padding: 20px;
+                        font-size: 12px;
+                        color: #666;
+                    }
+                </style>
+            </head>
+            <body>
+                <div class="container">
+                    <div class="header">
+                        <h1>Monthly Progress Summary - %s</h1>
+                    </div>
+                    <div class="content">
+                        <p>Hello <strong>%s</strong>,</p>
+                        <p>Here is how your children progressed this month. The full history is available on your dashboard at <a href="%s">%s</a>.</p>
+                        %s
+                        <p>Best regards,<br>
+                        <strong>Batal Football Academy Team</strong></p>
+                    </div>
+                    <div class="footer">
+                        <p>This is an automated message, please do not reply to this email.</p>
+                    </div>
+                </div>
+            </body>
+            </html>
+            """,
+                summary.getMonth().format(MONTH_FORMAT),
+                HtmlUtils.htmlEscape(summary.getParentFirstName()),
+                frontendUrl, frontendUrl,
+                children);
+    }
+}
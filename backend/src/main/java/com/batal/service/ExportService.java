@@ -0,0 +1,205 @@
+package com.batal.service;
+
+import com.batal.entity.enums.AgeGroup;
+import com.batal.entity.enums.Level;
+import com.batal.service.export.ExportFormat;
+import com.batal.service.export.TabularWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Streams players, groups and assessments to CSV/XLSX.
+ * Rows are read from a forward-only server-side cursor (fetch size {@value #FETCH_SIZE})
+ * and written straight to the output, so memory use does not grow with the export size.
+ */
+@Service
+public class ExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportService.class);
+
+    private static final int FETCH_SIZE = 500;
+
+    private static final List<String> PLAYER_COLUMNS = List.of(
+            "id", "first_name", "last_name", "email", "phone", "date_of_birth", "gender", "level",
+            "basic_foot", "joining_date", "group_name", "player_number", "position", "is_active", "inactive_reason");
+
+    private static final List<String> GROUP_COLUMNS = List.of(
+            "id", "name", "level", "age_group", "min_age", "max_age", "capacity", "player_count",
+            "coach_name", "zone", "is_active");
+
+    private static final List<String> ASSESSMENT_COLUMNS = List.of(
+            "assessment_id", "assessment_date", "period", "is_finalized", "player_id", "player_name",
+            "group_name", "assessor_name", "skill_name", "skill_category", "score", "score_notes", "comments");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Autowired
+    public ExportService(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Export players, optionally filtered by the same search term as GET /players
+     */
+    public void exportPlayers(ExportFormat format, String search, OutputStream out) throws IOException {
+        StringBuilder sql = new StringBuilder(
+                "SELECT p.id, p.first_name, p.last_name, p.email, p.phone, p.date_of_birth, p.gender, p.level, " +
+                "p.basic_foot, p.joining_date, g.name, p.player_number, p.position, p.is_active, p.inactive_reason " +
+                "FROM players p LEFT JOIN groups g ON g.id = p.group_id");
+        List<Object> params = new ArrayList<>();
+
+        if (search != null && !search.trim().isEmpty()) {
+            // Same trigram-indexed condition as the player listing (V45)
+            String pattern = "%" + search.trim().toLowerCase(Locale.ROOT) + "%";
+            sql.append(" WHERE p.search_name LIKE ? OR lower(p.email) LIKE ?");
+            params.add(pattern);
+            params.add(pattern);
+        }
+        sql.append(" ORDER BY p.id");
+
+        stream(format, "Players", PLAYER_COLUMNS, sql.toString(), params, out);
+    }
+
+    /**
+     * Export groups with their occupancy, using the same filters as GET /groups
+     */
+    public void exportGroups(ExportFormat format, Level level, AgeGroup ageGroup, Boolean isActive,
+                             OutputStream out) throws IOException {
+        StringBuilder sql = new StringBuilder(
+                "SELECT g.id, g.name, g.level, g.age_group, g.min_age, g.max_age, g.capacity, " +
+                "g.player_count, " +
+                "u.first_name || ' ' || u.last_name, g.zone, g.is_active " +
+                "FROM groups g LEFT JOIN users u ON u.id = g.coach_id WHERE 1 = 1");
+        List<Object> params = new ArrayList<>();
+
+        if (level != null) {
+            sql.append(" AND g.level = ?");
+            params.add(level.name());
+        }
+        if (ageGroup != null) {
+            sql.append(" AND g.age_group = ?");
+            params.add(ageGroup.name());
+        }
+        if (isActive != null) {
+            sql.append(" AND g.is_active = ?");
+            params.add(isActive);
+        }
+        sql.append(" ORDER BY g.id");
+
+        stream(format, "Groups", GROUP_COLUMNS, sql.toString(), params, out);
+    }
+
+    /**
+     * Export assessments with one row per skill score.
+     *
+     * @param coachId when not null, only assessments of players in this coach's groups
+     *                (same scope as GET /assessments/my-assessments for coaches)
+     */
+    public void exportAssessments(ExportFormat format, Long coachId, LocalDate dateFrom, LocalDate dateTo,
+                                  OutputStream out) throws IOException {
+        StringBuilder sql = new StringBuilder(
+                "SELECT a.id, a.assessment_date, a.period, a.is_finalized, p.id, " +
+                "p.first_name || ' ' || p.last_name, g.name, u.first_name || ' ' || u.last_name, " +
+                "s.name, s.category, ss.score, ss.notes, a.comments " +
+                "FROM assessments a " +
+                "JOIN players p ON p.id = a.player_id " +
+                "LEFT JOIN groups g ON g.id = p.group_id " +
+                "JOIN users u ON u.id = a.assessor_id " +
+                "LEFT JOIN skill_scores ss ON ss.assessment_id = a.id " +
+                "LEFT JOIN skills s ON s.id = ss.skill_id " +
+                "WHERE 1 = 1");
+        List<Object> params = new ArrayList<>();
+
+        if (coachId != null) {
+            sql.append(" AND g.coach_id = ?");
+            params.add(coachId);
+        }
+        if (dateFrom != null) {
+            sql.append(" AND a.assessment_date >= ?");
+            params.add(Date.valueOf(dateFrom));
+        }
+        if (dateTo != null) {
+            sql.append(" AND a.assessment_date <= ?");
+            params.add(Date.valueOf(dateTo));
+        }
+        sql.append(" ORDER BY a.assessment_date DESC, a.id, s.category, s.name");
+
+        stream(format, "Assessments", ASSESSMENT_COLUMNS, sql.toString(), params, out);
+    }
+
+    // ========== HELPER METHODS ==========
+
+    /**
+     * Run the query inside a read-only transaction (required for the PostgreSQL driver
+     * to use a cursor instead of materializing the result) and write each row as it arrives.
+     */
+    private void stream(ExportFormat format, String sheetName, List<String> columns, String sql,
+                        List<Object> params, OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+        long[] rowCount = {0};
+
+        try (TabularWriter writer = format.open(out, sheetName)) {
+            writer.writeHeader(columns);
+
+            RowCallbackHandler rowHandler = rs -> {
+                Object[] values = new Object[columns.size()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = readValue(rs, i + 1);
+                }
+                try {
+                    writer.writeRow(values);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rowCount[0]++;
+            };
+
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(FETCH_SIZE);
+                for (int i = 0; i < params.size(); i++) {
+                    statement.setObject(i + 1, params.get(i));
+                }
+                return statement;
+            }, rowHandler));
+        } catch (UncheckedIOException e) {
+            // Client went away mid-download
+            throw e.getCause();
+        }
+
+        log.info("Exported {} {} rows as {} in {} ms",
+                rowCount[0], sheetName.toLowerCase(), format, System.currentTimeMillis() - start);
+    }
+
+    private Object readValue(ResultSet rs, int index) throws SQLException {
+        Object value = rs.getObject(index);
+        if (value instanceof Date date) {
+            return date.toLocalDate();
+        }
+        return value;
+    }
+}
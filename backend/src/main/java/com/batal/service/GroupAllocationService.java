@@ -0,0 +1,243 @@
+package com.batal.service;
+
+import com.batal.dto.AllocationResultDTO;
+import com.batal.entity.Group;
+import com.batal.entity.Player;
+import com.batal.entity.enums.AgeGroup;
+import com.batal.entity.enums.Level;
+import com.batal.event.ChangeEvent;
+import com.batal.exception.BusinessRuleException;
+import com.batal.repository.GroupRepository;
+import com.batal.repository.PlayerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Places players into groups.
+ *
+ * Occupancy changes go through {@link #movePlayer}/{@link #tryMovePlayer}, which keep
+ * groups.player_count in step with one conditional UPDATE per group. Auto-assignment additionally
+ * holds a transaction-scoped advisory lock per (level, age group), so concurrent registrations
+ * for the same bucket pick groups one after the other and never create the same next group twice.
+ */
+@Service
+@Transactional
+public class GroupAllocationService {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupAllocationService.class);
+
+    // First key of pg_advisory_xact_lock(int, int); the second is the hashed bucket
+    private static final int ALLOCATION_LOCK_NAMESPACE = 41001;
+
+    public static final int DEFAULT_CAPACITY = 15;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Assign a player to the first group of their level and age group that has a spot,
+     * creating the next group of the bucket when all are full
+     *
+     * @return The group the player was placed in
+     * @throws BusinessRuleException if the player has no date of birth or level, or is outside the supported ages
+     */
+    public Group allocate(Player player) {
+        AgeGroup ageGroup = resolveAgeGroup(player);
+        List<String> createdGroups = new ArrayList<>();
+        allocateBucket(player.getLevel(), ageGroup, List.of(player), createdGroups);
+        if (!createdGroups.isEmpty()) {
+            log.info("Created group '{}' for player {}", createdGroups.get(0), player.getId());
+        }
+        return player.getGroup();
+    }
+
+    /**
+     * The age group {@link #allocate} would place a player in, without throwing. Callers that want to
+     * carry on when a player cannot be placed must check this first: a BusinessRuleException thrown
+     * by allocate marks the caller's transaction rollback-only, even if the caller catches it.
+     *
+     * @return empty if the player has no date of birth or level, or is outside the supported ages
+     */
+    public Optional<AgeGroup> findAgeGroup(Player player) {
+        if (player.getDateOfBirth() == null || player.getLevel() == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(AgeGroup.getByAge(ageOf(player)));
+    }
+
+    /**
+     * Place every active player without a group in one pass
+     */
+    public AllocationResultDTO allocateUnassigned() {
+        long start = System.currentTimeMillis();
+        AllocationResultDTO result = allocatePlayers(playerRepository.findUnassignedActivePlayers());
+        result.setDurationMs(System.currentTimeMillis() - start);
+        log.info("Allocated {} of {} unassigned players in {} ms ({} groups created, {} skipped)",
+                result.getAssigned(), result.getCandidates(), result.getDurationMs(),
+                result.getCreatedGroups().size(), result.getSkipped().size());
+        return result;
+    }
+
+    /**
+     * Place players that have no group. Players are bucketed by level and age group;
+     * each bucket is locked once and filled group by group.
+     */
+    public AllocationResultDTO allocatePlayers(List<Player> players) {
+        AllocationResultDTO result = new AllocationResultDTO();
+        List<Player> sorted = new ArrayList<>(players);
+        sorted.sort(Comparator.comparing(Player::getId));
+        result.setCandidates(sorted.size());
+
+        // Enum maps iterate in declaration order, so buckets are always locked in the same order
+        Map<Level, Map<AgeGroup, List<Player>>> buckets = new EnumMap<>(Level.class);
+        for (Player player : sorted) {
+            try {
+                AgeGroup ageGroup = resolveAgeGroup(player);
+                buckets.computeIfAbsent(player.getLevel(), level -> new EnumMap<>(AgeGroup.class))
+                        .computeIfAbsent(ageGroup, group -> new ArrayList<>())
+                        .add(player);
+            } catch (BusinessRuleException e) {
+                result.getSkipped().add(new AllocationResultDTO.SkippedPlayer(
+                        player.getId(), player.getFirstName() + " " + player.getLastName(), e.getMessage()));
+            }
+        }
+
+        for (Map.Entry<Level, Map<AgeGroup, List<Player>>> levelEntry : buckets.entrySet()) {
+            for (Map.Entry<AgeGroup, List<Player>> bucket : levelEntry.getValue().entrySet()) {
+                allocateBucket(levelEntry.getKey(), bucket.getKey(), bucket.getValue(), result.getCreatedGroups());
+                for (Player player : bucket.getValue()) {
+                    eventPublisher.publishEvent(ChangeEvent.playerAssigned(player.getId(), player.getGroup(), null));
+                }
+                result.setAssigned(result.getAssigned() + bucket.getValue().size());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Move a player to another group, or out of their group when target is null, keeping
+     * player_count of both groups in step. Every change of a player's group goes through here.
+     *
+     * @throws BusinessRuleException if the target group is full
+     */
+    public void movePlayer(Player player, Group target) {
+        if (!tryMovePlayer(player, target)) {
+            throw new BusinessRuleException("Group is at full capacity (" + target.getCapacity() + " players)");
+        }
+    }
+
+    /**
+     * Same as {@link #movePlayer} but reports a full target group instead of throwing
+     *
+     * @return false if the target group is full; the player is then left where they were
+     */
+    public boolean tryMovePlayer(Player player, Group target) {
+        Group current = player.getGroup();
+        Long currentId = current != null ? current.getId() : null;
+        Long targetId = target != null ? target.getId() : null;
+        if (Objects.equals(currentId, targetId)) {
+            return true;
+        }
+
+        if (target != null) {
+            if (groupRepository.reserveSpot(targetId) == 0) {
+                return false;
+            }
+            target.adjustPlayerCount(1);
+        }
+        if (current != null) {
+            groupRepository.releaseSpot(currentId);
+            current.adjustPlayerCount(-1);
+        }
+        player.setGroup(target);
+        return true;
+    }
+
+    // ========== ALLOCATION ==========
+
+    /**
+     * Fill the bucket's groups in id order under the bucket lock, opening new groups as needed
+     */
+    private void allocateBucket(Level level, AgeGroup ageGroup, List<Player> players, List<String> createdGroups) {
+        groupRepository.lockAllocation(ALLOCATION_LOCK_NAMESPACE, level.name() + ":" + ageGroup.name());
+
+        Deque<Group> candidates = new ArrayDeque<>(groupRepository.findAvailableGroupsByLevelAndAgeGroup(level, ageGroup));
+        for (Player player : players) {
+            while (true) {
+                Group candidate = candidates.peekFirst();
+                if (candidate == null) {
+                    candidate = createNextGroup(level, ageGroup);
+                    candidates.addFirst(candidate);
+                    createdGroups.add(candidate.getName());
+                }
+                if (tryMovePlayer(player, candidate)) {
+                    break;
+                }
+                // Full (possibly filled by a manual assignment meanwhile): try the next one
+                candidates.pollFirst();
+            }
+        }
+    }
+
+    /**
+     * Create the next numbered group of a bucket, e.g. "Development Dolphins 2". Runs under the bucket lock.
+     */
+    private Group createNextGroup(Level level, AgeGroup ageGroup) {
+        String baseName = level.getDisplayName() + " " + ageGroup.getDisplayName();
+        long number = groupRepository.countByLevelAndAgeGroup(level, ageGroup) + 1;
+        String name = number > 1 ? baseName + " " + number : baseName;
+        // Groups can be renamed or deleted, so the count alone does not guarantee a free name
+        while (groupRepository.existsByName(name)) {
+            number++;
+            name = baseName + " " + number;
+        }
+
+        Group group = new Group();
+        group.setName(name);
+        group.setLevel(level);
+        group.setAgeGroup(ageGroup);
+        group.setCapacity(DEFAULT_CAPACITY);
+        group.setMinAge(ageGroup.getMinAge());
+        group.setMaxAge(ageGroup.getMaxAge());
+        group.setIsActive(true);
+        return groupRepository.save(group);
+    }
+
+    private AgeGroup resolveAgeGroup(Player player) {
+        if (player.getDateOfBirth() == null || player.getLevel() == null) {
+            throw new BusinessRuleException("Player must have date of birth and level to be auto-assigned");
+        }
+
+        int playerAge = ageOf(player);
+        AgeGroup ageGroup = AgeGroup.getByAge(playerAge);
+        if (ageGroup == null) {
+            throw new BusinessRuleException("Player age (" + playerAge + ") is not within supported age range (4-16 years)");
+        }
+        return ageGroup;
+    }
+
+    private static int ageOf(Player player) {
+        return LocalDate.now().getYear() - player.getDateOfBirth().getYear();
+    }
+}
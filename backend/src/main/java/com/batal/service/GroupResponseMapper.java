@@ -0,0 +1,64 @@
+package com.batal.service;
+
+import com.batal.dto.GroupResponse;
+import com.batal.dto.UserResponse;
+import com.batal.repository.projection.GroupListingView;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Maps group listing rows to {@link GroupResponse}, same shape as {@code GroupResponse(Group)}
+ */
+@Component
+public class GroupResponseMapper {
+
+    public GroupResponse fromListing(GroupListingView group) {
+        int playerCount = group.getPlayerCount() != null ? group.getPlayerCount() : 0;
+
+        GroupResponse response = new GroupResponse();
+        response.setId(group.getId());
+        response.setName(group.getName());
+        response.setLevel(group.getLevel());
+        response.setAgeGroup(group.getAgeGroup());
+        response.setMinAge(group.getMinAge());
+        response.setMaxAge(group.getMaxAge());
+        response.setCapacity(group.getCapacity());
+        response.setCurrentPlayerCount(playerCount);
+        response.setAvailableSpots(Math.max(0, group.getCapacity() - playerCount));
+        response.setIsFull(playerCount >= group.getCapacity());
+        response.setZone(group.getZone());
+        response.setDescription(group.getDescription());
+        response.setIsActive(group.getIsActive());
+        response.setCreatedAt(group.getCreatedAt());
+        response.setUpdatedAt(group.getUpdatedAt());
+        response.setPlayers(List.of());
+
+        if (group.getCoachId() != null) {
+            UserResponse coach = new UserResponse();
+            coach.setId(group.getCoachId());
+            coach.setEmail(group.getCoachEmail());
+            coach.setFirstName(group.getCoachFirstName());
+            coach.setLastName(group.getCoachLastName());
+            coach.setPhone(group.getCoachPhone());
+            coach.setDateOfBirth(group.getCoachDateOfBirth());
+            coach.setGender(group.getCoachGender());
+            coach.setAddress(group.getCoachAddress());
+            coach.setUserType(group.getCoachUserType());
+            coach.setTitle(group.getCoachTitle());
+            coach.setEmergencyContactName(group.getCoachEmergencyContactName());
+            coach.setEmergencyContactPhone(group.getCoachEmergencyContactPhone());
+            coach.setIsActive(group.getCoachIsActive());
+            coach.setInactiveReason(group.getCoachInactiveReason());
+            coach.setCreatedAt(group.getCoachCreatedAt());
+            coach.setUpdatedAt(group.getCoachUpdatedAt());
+            coach.setRoles(group.getCoachRoles() != null
+                    ? Arrays.asList(group.getCoachRoles().split(","))
+                    : List.of());
+            response.setCoach(coach);
+        }
+
+        return response;
+    }
+}
@@ -7,10 +7,15 @@ import com.batal.entity.User;
 import com.batal.entity.enums.AgeGroup;
 import com.batal.entity.enums.Level;
 import com.batal.entity.enums.UserType;
+import com.batal.event.ChangeEvent;
+import com.batal.exception.BusinessRuleException;
 import com.batal.repository.GroupRepository;
 import com.batal.repository.PlayerRepository;
 import com.batal.repository.UserRepository;
+import com.batal.repository.projection.AvailableGroupView;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -34,6 +39,15 @@ public class GroupService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private GroupAllocationService groupAllocationService;
+
+    @Autowired
+    private GroupResponseMapper groupResponseMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     // Create new group
     public GroupResponse createGroup(GroupCreateRequest request) {
         Group group = new Group();
@@ -64,20 +78,17 @@ public class GroupService {
         return new GroupResponse(savedGroup);
     }
 
-    // Get all groups with optional filters
+    // Get all groups with optional filters (one listing query plus the page count)
+    @Transactional(readOnly = true)
+    @Timed("batal.service")
     public Page<GroupResponse> getAllGroups(Level level, AgeGroup ageGroup, Boolean isActive, Pageable pageable) {
-        Page<Group> groups;
-
-        if (level != null || ageGroup != null || isActive != null) {
-            groups = groupRepository.findGroupsWithFilters(level, ageGroup, isActive, pageable);
-        } else {
-            groups = groupRepository.findAll(pageable);
-        }
-
-        return groups.map(GroupResponse::new);
+        return groupRepository.findGroupListing(level, ageGroup, isActive, pageable)
+                .map(groupResponseMapper::fromListing);
     }
 
     // Get group by ID
+    @Transactional(readOnly = true)
+    @Timed("batal.service")
     public GroupResponse getGroupById(Long id) {
         Group group = groupRepository.findByIdWithPlayersAndCoach(id)
                 .orElseThrow(() -> new RuntimeException("Group not found"));
@@ -116,6 +127,10 @@ public class GroupService {
             group.setMaxAge(request.getMaxAge());
         }
         if (request.getCapacity() != null) {
+            if (request.getCapacity() < group.getCurrentPlayerCount()) {
+                throw new BusinessRuleException("Capacity cannot be lower than the number of assigned players ("
+                        + group.getCurrentPlayerCount() + ")");
+            }
             group.setCapacity(request.getCapacity());
         }
         if (request.getZone() != null) {
@@ -146,10 +161,10 @@ public class GroupService {
 
     // Delete group
     public void deleteGroup(Long id) {
-        Group group = groupRepository.findByIdWithPlayersAndCoach(id)
+        Group group = groupRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Group not found"));
 
-        if (!group.getPlayers().isEmpty()) {
+        if (group.getCurrentPlayerCount() > 0) {
             throw new RuntimeException("Cannot delete group with assigned players. Please reassign players first.");
         }
 
@@ -157,41 +172,26 @@ public class GroupService {
     }
 
     // Assign player to group
+    @Timed("batal.service")
     public GroupResponse assignPlayerToGroup(GroupAssignmentRequest request) {
         Player player = playerRepository.findById(request.getPlayerId())
                 .orElseThrow(() -> new RuntimeException("Player not found"));
 
-        Group group = groupRepository.findByIdWithPlayersAndCoach(request.getGroupId())
+        Group group = groupRepository.findById(request.getGroupId())
                 .orElseThrow(() -> new RuntimeException("Group not found"));
 
-        // Validation checks (unless forced)
-        if (!request.getForceAssignment()) {
-            // Check if group has capacity
-            if (group.isFull()) {
-                throw new RuntimeException("Group is at full capacity (" + group.getCapacity() + " players)");
-            }
-        }
-
-        // Remove player from current group if assigned
-        if (player.getGroup() != null) {
-            Group currentGroup = player.getGroup();
-            currentGroup.removePlayer(player);
-            groupRepository.save(currentGroup);
-        }
-
-        // Assign player to new group
-        group.addPlayer(player);
-        player.setGroup(group);
-
+        // Capacity is enforced by movePlayer even for forced assignments: player_count can never exceed it
+        Group previousGroup = player.getGroup();
+        groupAllocationService.movePlayer(player, group);
         playerRepository.save(player);
-        Group savedGroup = groupRepository.save(group);
 
-        return new GroupResponse(savedGroup);
+        eventPublisher.publishEvent(ChangeEvent.playerAssigned(player.getId(), group, previousGroup));
+        return new GroupResponse(group);
     }
 
     // Remove player from group
     public GroupResponse removePlayerFromGroup(Long groupId, Long playerId) {
-        Group group = groupRepository.findByIdWithPlayersAndCoach(groupId)
+        Group group = groupRepository.findById(groupId)
                 .orElseThrow(() -> new RuntimeException("Group not found"));
 
         Player player = playerRepository.findById(playerId)
@@ -201,13 +201,11 @@ public class GroupService {
             throw new RuntimeException("Player is not assigned to this group");
         }
 
-        group.removePlayer(player);
-        player.setGroup(null);
-
+        groupAllocationService.movePlayer(player, null);
         playerRepository.save(player);
-        Group savedGroup = groupRepository.save(group);
 
-        return new GroupResponse(savedGroup);
+        eventPublisher.publishEvent(ChangeEvent.playerAssigned(player.getId(), null, group));
+        return new GroupResponse(group);
     }
 
     // Assign coach to group
@@ -222,10 +220,12 @@ public class GroupService {
         Group group = groupRepository.findById(request.getGroupId())
                 .orElseThrow(() -> new RuntimeException("Group not found"));
 
+        Long previousCoachId = group.getCoach() != null ? group.getCoach().getId() : null;
         group.setCoach(coach);
         group.setUpdatedAt(LocalDateTime.now());
 
         Group savedGroup = groupRepository.save(group);
+        eventPublisher.publishEvent(ChangeEvent.coachAssigned(savedGroup, previousCoachId));
         return new GroupResponse(savedGroup);
     }
 
@@ -234,22 +234,25 @@ public class GroupService {
         Group group = groupRepository.findById(groupId)
                 .orElseThrow(() -> new RuntimeException("Group not found"));
 
+        Long previousCoachId = group.getCoach() != null ? group.getCoach().getId() : null;
         group.setCoach(null);
         group.setUpdatedAt(LocalDateTime.now());
 
         Group savedGroup = groupRepository.save(group);
+        eventPublisher.publishEvent(ChangeEvent.coachAssigned(savedGroup, previousCoachId));
         return new GroupResponse(savedGroup);
     }
 
     // Get available groups (with capacity)
+    @Transactional(readOnly = true)
     public List<GroupResponse> getAvailableGroups() {
-        List<Group> groups = groupRepository.findAvailableGroups();
-        return groups.stream()
-                .map(GroupResponse::new)
+        return groupRepository.findAvailableGroupListing().stream()
+                .map(groupResponseMapper::fromListing)
                 .collect(Collectors.toList());
     }
 
     // Get coach's assigned groups
+    @Transactional(readOnly = true)
     public List<GroupResponse> getCoachGroups(Long coachId) {
         User coach = userRepository.findById(coachId)
                 .orElseThrow(() -> new RuntimeException("Coach not found"));
@@ -258,9 +261,8 @@ public class GroupService {
             throw new RuntimeException("User is not a coach");
         }
 
-        List<Group> groups = groupRepository.findByCoachId(coachId);
-        return groups.stream()
-                .map(GroupResponse::new)
+        return groupRepository.findGroupListingByCoachId(coachId).stream()
+                .map(groupResponseMapper::fromListing)
                 .collect(Collectors.toList());
     }
 
@@ -293,51 +295,25 @@ public class GroupService {
         Player player = playerRepository.findById(playerId)
                 .orElseThrow(() -> new RuntimeException("Player not found"));
 
-        // Calculate player age
-        int playerAge = LocalDate.now().getYear() - player.getDateOfBirth().getYear();
-        AgeGroup ageGroup = AgeGroup.getByAge(playerAge);
-
-        if (ageGroup == null) {
-            throw new RuntimeException("Player age (" + playerAge + ") is not within supported age range");
-        }
-
-        // Use the player's actual level, not hardcoded level
-        Level playerLevel = player.getLevel();
-
-        // Find available group with matching level and age group
-        List<Group> availableGroups = groupRepository.findAvailableGroupsByLevelAndAgeGroup(
-                playerLevel, ageGroup);
+        Group previousGroup = player.getGroup();
+        Group group = groupAllocationService.allocate(player);
+        playerRepository.save(player);
 
-        if (availableGroups.isEmpty()) {
-            // Create new group if none available  
-            List<Group> existingGroups = groupRepository.findByLevelAndAgeGroup(playerLevel, ageGroup);
-            int nextGroupNumber = existingGroups.size() + 1;
-            String groupName = playerLevel.getDisplayName() + " " + ageGroup.getDisplayName();
-            if (nextGroupNumber > 1) {
-                groupName += " " + nextGroupNumber;
-            }
+        eventPublisher.publishEvent(ChangeEvent.playerAssigned(player.getId(), group, previousGroup));
+        return new GroupResponse(group);
+    }
 
-            GroupCreateRequest groupRequest = new GroupCreateRequest(groupName, playerLevel, ageGroup);
-            GroupResponse newGroup = createGroup(groupRequest);
-
-            // Assign player to the new group with force assignment for flexibility
-            GroupAssignmentRequest assignmentRequest = new GroupAssignmentRequest(
-                    playerId, newGroup.getId(), "Auto-assigned to new " + playerLevel + " group");
-            assignmentRequest.setForceAssignment(true);
-            return assignPlayerToGroup(assignmentRequest);
-        } else {
-            // Assign to first available group
-            Group targetGroup = availableGroups.get(0);
-            GroupAssignmentRequest assignmentRequest = new GroupAssignmentRequest(
-                    playerId, targetGroup.getId(), "Auto-assigned to existing " + playerLevel + " group");
-            assignmentRequest.setForceAssignment(true);
-            return assignPlayerToGroup(assignmentRequest);
-        }
+    // Assign every unassigned active player in one pass
+    @Timed("batal.service")
+    public AllocationResultDTO allocateUnassignedPlayers() {
+        return groupAllocationService.allocateUnassigned();
     }
 
     // Get available groups for a specific player (based on age, level, capacity)
+    @Transactional(readOnly = true)
+    @Timed("batal.service")
     public List<GroupResponse> getAvailableGroupsForPlayer(Long playerId) {
-        Player player = playerRepository.findByIdWithGroup(playerId)
+        Player player = playerRepository.findById(playerId)
                 .orElseThrow(() -> new RuntimeException("Player not found with ID: " + playerId));
 
         // Calculate player age
@@ -346,40 +322,11 @@ public class GroupService {
         // Get player's current level (default to DEVELOPMENT if null)
         Level playerLevel = player.getLevel() != null ? player.getLevel() : Level.DEVELOPMENT;
 
-        // Find all active groups that can accommodate this player
-        List<Group> availableGroups = groupRepository.findAll().stream()
-                .filter(group -> {
-                    // Group must be active
-                    if (!group.getIsActive()) return false;
-
-                    // Group must have capacity (unless it's the player's current group)
-                    if (group.isFull() && !group.equals(player.getGroup())) return false;
-
-                    // Age must be within group's age range (with some flexibility)
-                    if (playerAge > 0) { // Only check if we have a valid age
-                        if (playerAge < group.getMinAge() - 1 || playerAge > group.getMaxAge() + 1) {
-                            return false;
-                        }
-                    }
+        // Current group stays selectable even when full; filtering and ordering happen in the query
+        Long currentGroupId = player.getGroup() != null ? player.getGroup().getId() : null;
 
-                    return true;
-                })
-                .collect(Collectors.toList());
-
-        // Convert to DTOs and sort by relevance (same level first, then by age group match)
-        return availableGroups.stream()
+        return groupRepository.findAvailableGroupsForPlayer(playerLevel, playerAge, currentGroupId).stream()
                 .map(this::mapToGroupResponse)
-                .sorted((g1, g2) -> {
-                    // Prioritize groups of the same level
-                    boolean g1SameLevel = g1.getLevel().equals(playerLevel);
-                    boolean g2SameLevel = g2.getLevel().equals(playerLevel);
-
-                    if (g1SameLevel && !g2SameLevel) return -1;
-                    if (!g1SameLevel && g2SameLevel) return 1;
-
-                    // Then prioritize by available spots (more spots = better)
-                    return Integer.compare(g2.getAvailableSpots(), g1.getAvailableSpots());
-                })
                 .collect(Collectors.toList());
     }
 
@@ -391,8 +338,10 @@ public class GroupService {
         return LocalDate.now().getYear() - dateOfBirth.getYear();
     }
 
-    // Helper method to map Group to GroupResponse (simplified version)
-    private GroupResponse mapToGroupResponse(Group group) {
+    // Helper method to map a group projection to GroupResponse (simplified version)
+    private GroupResponse mapToGroupResponse(AvailableGroupView group) {
+        int playerCount = group.getPlayerCount() != null ? group.getPlayerCount() : 0;
+
         GroupResponse response = new GroupResponse();
         response.setId(group.getId());
         response.setName(group.getName());
@@ -401,9 +350,9 @@ public class GroupService {
         response.setMinAge(group.getMinAge());
         response.setMaxAge(group.getMaxAge());
         response.setCapacity(group.getCapacity());
-        response.setCurrentPlayerCount(group.getCurrentPlayerCount());
-        response.setAvailableSpots(group.getAvailableSpots());
-        response.setIsFull(group.isFull());
+        response.setCurrentPlayerCount(playerCount);
+        response.setAvailableSpots(Math.max(0, group.getCapacity() - playerCount));
+        response.setIsFull(playerCount >= group.getCapacity());
         response.setZone(group.getZone());
         response.setDescription(group.getDescription());
         response.setIsActive(group.getIsActive());
@@ -411,10 +360,10 @@ public class GroupService {
         response.setUpdatedAt(group.getUpdatedAt());
 
         // Simplified mapping - coach and players would need more complex mapping if needed
-        if (group.getCoach() != null) {
+        if (group.getCoachId() != null) {
             response.setCoach(new UserResponse()); // Simplified - you'd map coach details here
         }
 
         return response;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,306 @@
+package com.batal.service;
+
+import com.batal.entity.MonthlyReportRun;
+import com.batal.entity.enums.MonthlyReportRunStatus;
+import com.batal.entity.enums.SkillCategory;
+import com.batal.exception.BusinessRuleException;
+import com.batal.repository.AssessmentRepository;
+import com.batal.repository.MonthlyReportRunRepository;
+import com.batal.repository.projection.CategoryAverageView;
+import com.batal.repository.projection.MonthlyReportRowView;
+import com.batal.service.report.MonthlyParentSummary;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Batch job that emails every parent a summary of their children's finalized assessments for a month.
+ *
+ * Parents are read in chunks (ascending id) with two aggregate queries per chunk plus one for
+ * category averages, summaries are built on a fork-join pool, and emails go out in batches.
+ * After each batch the checkpoint in {@link MonthlyReportRun} is saved, so a crashed or failed
+ * run resumes after the last parent emailed; at most one mail batch can be sent twice.
+ */
+@Service
+public class MonthlyReportService {
+
+    private static final Logger log = LoggerFactory.getLogger(MonthlyReportService.class);
+
+    @Autowired
+    private AssessmentRepository assessmentRepository;
+
+    @Autowired
+    private MonthlyReportRunRepository monthlyReportRunRepository;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private EmailTemplateRenderer emailTemplateRenderer;
+
+    @Value("${batal.monthly-reports.enabled:false}")
+    private boolean enabled;
+
+    @Value("${batal.monthly-reports.parent-chunk-size:500}")
+    private int parentChunkSize;
+
+    @Value("${batal.monthly-reports.mail-batch-size:50}")
+    private int mailBatchSize;
+
+    @Value("${batal.monthly-reports.parallelism:4}")
+    private int parallelism;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private ForkJoinPool summaryPool;
+    private ExecutorService launcher;
+
+    @PostConstruct
+    public void init() {
+        summaryPool = new ForkJoinPool(parallelism);
+        launcher = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "monthly-report-job"));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        launcher.shutdownNow();
+        summaryPool.shutdown();
+        summaryPool.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Send last month's reports on the first day of each month
+     */
+    @Scheduled(cron = "${batal.monthly-reports.cron:0 0 6 1 * *}")
+    public void runScheduled() {
+        if (!enabled) {
+            return;
+        }
+        YearMonth month = YearMonth.now().minusMonths(1);
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Monthly reports for {} skipped: another run is in progress", month);
+            return;
+        }
+        try {
+            MonthlyReportRun run = prepareRun(month);
+            if (run.getStatus() != MonthlyReportRunStatus.COMPLETED) {
+                process(run);
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Start (or resume) the run for a month in the background
+     *
+     * @param month Month whose finalized assessments are reported
+     * @return The run as it stands when processing starts
+     * @throws BusinessRuleException if a run is in progress or the month was already sent
+     */
+    public MonthlyReportRun start(YearMonth month) {
+        if (!running.compareAndSet(false, true)) {
+            throw new BusinessRuleException("A monthly report run is already in progress");
+        }
+
+        MonthlyReportRun run;
+        try {
+            run = prepareRun(month);
+            if (run.getStatus() == MonthlyReportRunStatus.COMPLETED) {
+                throw new BusinessRuleException("Monthly reports for " + month + " have already been sent");
+            }
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+
+        MonthlyReportRun startedRun = run;
+        launcher.execute(() -> {
+            try {
+                process(startedRun);
+            } finally {
+                running.set(false);
+            }
+        });
+        return run;
+    }
+
+    /**
+     * Most recent runs, newest month first
+     */
+    public List<MonthlyReportRun> getRecentRuns() {
+        return monthlyReportRunRepository.findTop12ByOrderByReportMonthDesc();
+    }
+
+    // ========== PROCESSING ==========
+
+    private MonthlyReportRun prepareRun(YearMonth month) {
+        MonthlyReportRun run = monthlyReportRunRepository.findByReportMonth(month.atDay(1))
+                .orElseGet(() -> {
+                    MonthlyReportRun created = new MonthlyReportRun();
+                    created.setReportMonth(month.atDay(1));
+                    return created;
+                });
+
+        if (run.getStatus() != MonthlyReportRunStatus.COMPLETED) {
+            run.setStatus(MonthlyReportRunStatus.RUNNING);
+            run.setLastError(null);
+            run = monthlyReportRunRepository.save(run);
+        }
+        return run;
+    }
+
+    private void process(MonthlyReportRun run) {
+        YearMonth month = YearMonth.from(run.getReportMonth());
+        LocalDate startDate = month.atDay(1);
+        LocalDate endDate = month.atEndOfMonth();
+        long previousDurationMs = run.getDurationMs();
+        long attemptStart = System.currentTimeMillis();
+
+        log.info("Monthly reports for {}: starting after parent {} ({} parents already processed)",
+                month, run.getLastParentId(), run.getParentsProcessed());
+
+        try {
+            while (true) {
+                long chunkStart = System.currentTimeMillis();
+                List<Long> parentIds = assessmentRepository.findParentIdsWithFinalizedAssessments(
+                        startDate, endDate, run.getLastParentId(), PageRequest.of(0, parentChunkSize));
+                if (parentIds.isEmpty()) {
+                    break;
+                }
+
+                List<MonthlyReportRowView> rows = assessmentRepository.findMonthlyReportRows(parentIds, startDate, endDate);
+                List<MonthlyParentSummary> summaries = buildSummaries(month, rows);
+
+                for (int from = 0; from < summaries.size(); from += mailBatchSize) {
+                    List<MonthlyParentSummary> batch = summaries.subList(from, Math.min(from + mailBatchSize, summaries.size()));
+                    int sent = emailService.sendMonthlyReports(batch);
+
+                    run.setParentsProcessed(run.getParentsProcessed() + batch.size());
+                    run.setEmailsSent(run.getEmailsSent() + sent);
+                    run.setEmailsFailed(run.getEmailsFailed() + batch.size() - sent);
+                    run.setLastParentId(batch.get(batch.size() - 1).getParentId());
+                    run = checkpoint(run, previousDurationMs, attemptStart);
+                }
+
+                // Also covers parents whose rows disappeared between the two queries
+                run.setLastParentId(parentIds.get(parentIds.size() - 1));
+                run = checkpoint(run, previousDurationMs, attemptStart);
+
+                long chunkMs = Math.max(1, System.currentTimeMillis() - chunkStart);
+                log.info("Monthly reports for {}: {} parents in {} ms ({} parents/s), {} processed so far",
+                        month, summaries.size(), chunkMs,
+                        String.format("%.1f", summaries.size() * 1000.0 / chunkMs), run.getParentsProcessed());
+            }
+
+            run.setStatus(MonthlyReportRunStatus.COMPLETED);
+            run.setCompletedAt(LocalDateTime.now());
+            run = checkpoint(run, previousDurationMs, attemptStart);
+
+            log.info("Monthly reports for {} completed: {} parents, {} emails sent, {} failed in {} ms ({} parents/s)",
+                    month, run.getParentsProcessed(), run.getEmailsSent(), run.getEmailsFailed(),
+                    run.getDurationMs(), String.format("%.1f", run.getParentsPerSecond()));
+        } catch (RuntimeException e) {
+            log.error("Monthly reports for {} failed after parent {}", month, run.getLastParentId(), e);
+            run.setStatus(MonthlyReportRunStatus.FAILED);
+            run.setLastError(e.getMessage());
+            checkpoint(run, previousDurationMs, attemptStart);
+        }
+    }
+
+    private MonthlyReportRun checkpoint(MonthlyReportRun run, long previousDurationMs, long attemptStart) {
+        run.setDurationMs(previousDurationMs + System.currentTimeMillis() - attemptStart);
+        return monthlyReportRunRepository.save(run);
+    }
+
+    /**
+     * Group rows by parent (rows arrive ordered by parent id) and build each parent's
+     * summary and email body on the fork-join pool, keeping parent order.
+     */
+    private List<MonthlyParentSummary> buildSummaries(YearMonth month, List<MonthlyReportRowView> rows) {
+        Map<Long, Map<SkillCategory, Double>> categoryAverages = loadCategoryAverages(rows);
+
+        Map<Long, List<MonthlyReportRowView>> rowsByParent = new LinkedHashMap<>();
+        for (MonthlyReportRowView row : rows) {
+            rowsByParent.computeIfAbsent(row.getParentId(), id -> new ArrayList<>()).add(row);
+        }
+
+        List<List<MonthlyReportRowView>> parentGroups = new ArrayList<>(rowsByParent.values());
+        return summaryPool.submit(() -> parentGroups.parallelStream()
+                        .map(parentRows -> buildSummary(month, parentRows, categoryAverages))
+                        .collect(Collectors.toList()))
+                .join();
+    }
+
+    private MonthlyParentSummary buildSummary(YearMonth month, List<MonthlyReportRowView> parentRows,
+                                              Map<Long, Map<SkillCategory, Double>> categoryAverages) {
+        MonthlyReportRowView first = parentRows.get(0);
+        MonthlyParentSummary summary = new MonthlyParentSummary();
+        summary.setParentId(first.getParentId());
+        summary.setParentEmail(first.getParentEmail());
+        summary.setParentFirstName(first.getParentFirstName());
+        summary.setMonth(month);
+
+        for (MonthlyReportRowView row : parentRows) {
+            MonthlyParentSummary.ChildEntry child = new MonthlyParentSummary.ChildEntry();
+            child.setPlayerId(row.getPlayerId());
+            child.setPlayerName(row.getPlayerFirstName() + " " + row.getPlayerLastName());
+            child.setAssessmentDate(row.getAssessmentDate());
+            child.setAssessorName(row.getAssessorFirstName() + " " + row.getAssessorLastName());
+            child.setAverageScore(row.getAverageScore() != null ? round(row.getAverageScore()) : null);
+            child.setCategoryAverages(categoryAverages.getOrDefault(row.getAssessmentId(), Collections.emptyMap()));
+            child.setComments(row.getComments());
+            summary.getChildren().add(child);
+        }
+
+        summary.setHtmlBody(emailTemplateRenderer.buildMonthlyReportHtml(summary));
+        return summary;
+    }
+
+    /**
+     * Category averages for every assessment in the chunk, in one query
+     */
+    private Map<Long, Map<SkillCategory, Double>> loadCategoryAverages(List<MonthlyReportRowView> rows) {
+        List<Long> assessmentIds = rows.stream()
+                .map(MonthlyReportRowView::getAssessmentId)
+                .distinct()
+                .collect(Collectors.toList());
+        if (assessmentIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, Map<SkillCategory, Double>> result = new HashMap<>();
+        for (CategoryAverageView row : assessmentRepository.findCategoryAveragesByAssessmentIds(assessmentIds)) {
+            result.computeIfAbsent(row.getAssessmentId(), id -> new EnumMap<>(SkillCategory.class))
+                    .put(row.getCategory(), round(row.getAverageScore()));
+        }
+        return result;
+    }
+
+    private double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
@@ -1,17 +1,26 @@
 package com.batal.service;
 
+import com.batal.dto.AssessmentHistoryItemDTO;
 import com.batal.dto.AssessmentResponse;
+import com.batal.dto.ChildDashboardDTO;
 import com.batal.dto.PlayerDTO;
 import com.batal.entity.Assessment;
 import com.batal.entity.Player;
+import com.batal.entity.enums.SkillCategory;
 import com.batal.exception.ResourceNotFoundException;
-import com.batal.repository.AssessmentRepository;
 import com.batal.repository.PlayerRepository;
+import com.batal.repository.projection.AssessmentAverageView;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -25,7 +34,10 @@ public class ParentService {
     private PlayerRepository playerRepository;
 
     @Autowired
-    private AssessmentRepository assessmentRepository;
+    private AssessmentHistoryReader assessmentHistoryReader;
+
+    @Autowired
+    private ProgressSummaryAssembler progressSummaryAssembler;
 
     /**
      * Get all children for a parent
@@ -33,6 +45,7 @@ public class ParentService {
      * @param parentUserId The parent's user ID
      * @return List of children as PlayerDTO
      */
+    @Transactional(readOnly = true)
     public List<PlayerDTO> getMyChildren(Long parentUserId) {
         List<Player> children = playerRepository.findByParentIdWithGroup(parentUserId);
         return children.stream()
@@ -48,6 +61,7 @@ public class ParentService {
      * @return Child details as PlayerDTO
      * @throws ResourceNotFoundException if child not found or access denied
      */
+    @Transactional(readOnly = true)
     public PlayerDTO getChild(Long parentUserId, Long playerId) {
         Player player = playerRepository.findByIdAndParentIdWithGroup(playerId, parentUserId)
                 .orElseThrow(() -> new ResourceNotFoundException(
@@ -63,21 +77,47 @@ public class ParentService {
      * @return List of assessments for the child
      * @throws ResourceNotFoundException if child not found or access denied
      */
+    @Transactional(readOnly = true)
     public List<AssessmentResponse> getChildAssessments(Long parentUserId, Long playerId) {
         // Security check: verify parent owns this child
-        playerRepository.findByIdAndParentId(playerId, parentUserId)
+        Player child = playerRepository.findByIdAndParentId(playerId, parentUserId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Access denied - this player is not your child"));
 
-        // Fetch assessments
-        List<Assessment> assessments = assessmentRepository
-                .findByPlayerIdWithAllRelationsOrderByAssessmentDateDesc(playerId);
+        // Full history, including assessments moved to the archive tables
+        List<Assessment> assessments = assessmentHistoryReader.findAssessments(child);
 
         return assessments.stream()
                 .map(this::convertToAssessmentResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get a page of a child's assessment history as summary rows only
+     * (date, period, averages, assessor name). Skill scores are not loaded;
+     * use {@link #getChildAssessment} for the full detail of one assessment.
+     *
+     * @param parentUserId The parent's user ID
+     * @param playerId The child's player ID
+     * @param pageable Page request (ordering is fixed to newest first)
+     * @return Page of assessment summaries
+     * @throws ResourceNotFoundException if child not found or access denied
+     */
+    @Transactional(readOnly = true)
+    public Page<AssessmentHistoryItemDTO> getChildAssessmentHistory(Long parentUserId, Long playerId, Pageable pageable) {
+        // Security check: verify parent owns this child
+        playerRepository.findByIdAndParentId(playerId, parentUserId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Access denied - this player is not your child"));
+
+        Page<AssessmentAverageView> views = assessmentHistoryReader.findAverageViews(playerId, pageable);
+        Map<Long, Map<SkillCategory, Double>> categoryAveragesByAssessment =
+                progressSummaryAssembler.loadCategoryAverages(views.getContent());
+
+        return views.map(view -> progressSummaryAssembler.toHistoryItem(view,
+                categoryAveragesByAssessment.getOrDefault(view.getAssessmentId(), Collections.emptyMap())));
+    }
+
     /**
      * Get specific assessment for a child
      *
@@ -87,14 +127,15 @@ public class ParentService {
      * @return Assessment details
      * @throws ResourceNotFoundException if child or assessment not found or access denied
      */
+    @Transactional(readOnly = true)
     public AssessmentResponse getChildAssessment(Long parentUserId, Long playerId, Long assessmentId) {
         // Security check: verify parent owns this child
-        playerRepository.findByIdAndParentId(playerId, parentUserId)
+        Player child = playerRepository.findByIdAndParentId(playerId, parentUserId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Access denied - this player is not your child"));
 
-        // Fetch assessment
-        Assessment assessment = assessmentRepository.findByIdWithAllRelations(assessmentId)
+        // Fetch assessment, falling back to the archive tables for old history rows
+        Assessment assessment = assessmentHistoryReader.findAssessment(child, assessmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Assessment", assessmentId));
 
         // Verify assessment belongs to this player
@@ -106,6 +147,43 @@ public class ParentService {
         return convertToAssessmentResponse(assessment);
     }
 
+    /**
+     * Get the parent dashboard: every child with group, latest assessment summary,
+     * category averages and progress trend.
+     * Runs a fixed number of queries (children, per-assessment averages, per-category averages)
+     * regardless of how many children or assessments there are.
+     *
+     * @param parentUserId The parent's user ID
+     * @return One dashboard entry per child
+     */
+    @Transactional(readOnly = true)
+    public List<ChildDashboardDTO> getDashboard(Long parentUserId) {
+        List<Player> children = playerRepository.findByParentIdWithGroup(parentUserId);
+        if (children.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> playerIds = children.stream()
+                .map(Player::getId)
+                .collect(Collectors.toList());
+
+        // Rows (hot and archived) are ordered newest first, so each player's list keeps that order
+        List<AssessmentAverageView> averageViews = assessmentHistoryReader.findAverageViews(playerIds);
+        Map<Long, List<AssessmentAverageView>> viewsByPlayer = new HashMap<>();
+        for (AssessmentAverageView view : averageViews) {
+            viewsByPlayer.computeIfAbsent(view.getPlayerId(), id -> new ArrayList<>()).add(view);
+        }
+
+        Map<Long, Map<SkillCategory, Double>> categoryAveragesByAssessment =
+                progressSummaryAssembler.loadCategoryAverages(averageViews);
+
+        return children.stream()
+                .map(child -> progressSummaryAssembler.buildChildDashboard(child,
+                        viewsByPlayer.getOrDefault(child.getId(), Collections.emptyList()),
+                        categoryAveragesByAssessment))
+                .collect(Collectors.toList());
+    }
+
     // ========== CONVERSION METHODS ==========
 
     /**
@@ -0,0 +1,486 @@
+package com.batal.service;
+
+import com.batal.dto.AllocationResultDTO;
+import com.batal.entity.Group;
+import com.batal.entity.Player;
+import com.batal.entity.PlayerImportError;
+import com.batal.entity.PlayerImportJob;
+import com.batal.entity.enums.PlayerImportStatus;
+import com.batal.event.ChangeEvent;
+import com.batal.exception.BusinessRuleException;
+import com.batal.exception.ResourceNotFoundException;
+import com.batal.repository.GroupRepository;
+import com.batal.repository.PlayerImportErrorRepository;
+import com.batal.repository.PlayerImportJobRepository;
+import com.batal.repository.PlayerRepository;
+import com.batal.service.importer.CsvRecordReader;
+import com.batal.service.importer.PlayerImportRow;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Background bulk import of players from CSV.
+ *
+ * The upload is spooled to a temporary file and read record by record, so memory use depends on
+ * the chunk size, not the file size. Each chunk is one transaction: rows are validated, emails are
+ * checked against players and users with one query, players are written with one JDBC batch,
+ * and group allocation runs once for the whole chunk. Progress and rejected rows are stored on
+ * the {@link PlayerImportJob} after every chunk; a chunk that fails as a whole is recorded as
+ * failed rows and the import carries on with the next one.
+ */
+@Service
+public class PlayerImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(PlayerImportService.class);
+
+    private static final String EXISTING_EMAILS_SQL =
+            "SELECT lower(email) FROM players WHERE lower(email) IN (:emails) " +
+            "UNION SELECT lower(email) FROM users WHERE lower(email) IN (:emails)";
+
+    private static final String EXISTING_PLAYER_NUMBERS_SQL =
+            "SELECT player_number FROM players WHERE player_number IN (:numbers)";
+
+    private static final String PARENTS_SQL =
+            "SELECT id, lower(email) AS email FROM users WHERE user_type = 'PARENT' AND lower(email) IN (:emails)";
+
+    private static final String GROUPS_SQL = "SELECT id FROM groups WHERE id IN (:ids)";
+
+    private static final String INSERT_PLAYER_SQL =
+            "INSERT INTO players (first_name, last_name, email, phone, date_of_birth, gender, address, joining_date, " +
+            "level, basic_foot, emergency_contact_name, emergency_contact_phone, player_number, position, " +
+            "is_active, created_at, updated_at) " +
+            "VALUES (:firstName, :lastName, :email, :phone, :dateOfBirth, :gender, :address, :joiningDate, " +
+            ":level, :basicFoot, :emergencyContactName, :emergencyContactPhone, :playerNumber, :position, " +
+            "true, :now, :now)";
+
+    private static final String INSERTED_IDS_SQL =
+            "SELECT id, email FROM players WHERE lower(email) IN (:emails)";
+
+    private static final String INSERT_PLAYER_PARENT_SQL =
+            "INSERT INTO player_parents (player_id, parent_id, created_at) VALUES (:playerId, :parentId, :now)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate chunkTransaction;
+
+    @Autowired
+    private PlayerImportJobRepository jobRepository;
+
+    @Autowired
+    private PlayerImportErrorRepository errorRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private GroupAllocationService groupAllocationService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${batal.imports.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${batal.imports.max-stored-errors:1000}")
+    private int maxStoredErrors;
+
+    private ExecutorService launcher;
+
+    @Autowired
+    public PlayerImportService(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void init() {
+        launcher = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "player-import-job"));
+        // Jobs are not resumable: the spooled file is gone after a restart
+        int interrupted = jobRepository.failJobs(
+                List.of(PlayerImportStatus.QUEUED, PlayerImportStatus.RUNNING),
+                PlayerImportStatus.FAILED, "Interrupted by a server restart");
+        if (interrupted > 0) {
+            log.warn("Marked {} unfinished player imports as failed", interrupted);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        launcher.shutdownNow();
+    }
+
+    /**
+     * Queue an uploaded CSV file for import. Imports run one at a time in upload order.
+     *
+     * @param file       CSV with a header row; first_name, last_name and email columns are required
+     * @param autoAssign Place imported players without a group_id in a group of their level and age group
+     * @param userId     User who uploaded the file
+     * @return The queued job
+     */
+    public PlayerImportJob submit(MultipartFile file, boolean autoAssign, Long userId) {
+        if (file == null || file.isEmpty()) {
+            throw new BusinessRuleException("The uploaded file is empty");
+        }
+
+        Path spool;
+        try {
+            spool = Files.createTempFile("player-import-", ".csv");
+            file.transferTo(spool);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not store the uploaded file: " + e.getMessage(), e);
+        }
+
+        PlayerImportJob job = new PlayerImportJob();
+        job.setFileName(file.getOriginalFilename());
+        job.setAutoAssign(autoAssign);
+        job.setCreatedBy(userId);
+        job = jobRepository.save(job);
+
+        PlayerImportJob queuedJob = job;
+        launcher.execute(() -> {
+            try {
+                process(queuedJob, spool);
+            } finally {
+                try {
+                    Files.deleteIfExists(spool);
+                } catch (IOException e) {
+                    log.warn("Could not delete import file {}", spool, e);
+                }
+            }
+        });
+        return job;
+    }
+
+    /**
+     * Most recent imports, newest first
+     */
+    public List<PlayerImportJob> getRecentJobs() {
+        return jobRepository.findTop20ByOrderByCreatedAtDesc();
+    }
+
+    public PlayerImportJob getJob(Long id) {
+        return jobRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Player import", id));
+    }
+
+    /**
+     * Rejected rows of an import, in file order
+     */
+    public Page<PlayerImportError> getErrors(Long jobId, Pageable pageable) {
+        getJob(jobId);
+        return errorRepository.findByJobIdOrderByRowNumberAsc(jobId, pageable);
+    }
+
+    // ========== PROCESSING ==========
+
+    private void process(PlayerImportJob job, Path file) {
+        long start = System.currentTimeMillis();
+        job.setStatus(PlayerImportStatus.RUNNING);
+        job = jobRepository.save(job);
+        log.info("Player import {} ({}): started", job.getId(), job.getFileName());
+
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            CsvRecordReader csv = new CsvRecordReader(reader);
+            Map<String, Integer> columns = readHeader(csv.next());
+
+            List<PlayerImportRow> chunk = new ArrayList<>(chunkSize);
+            List<String> record;
+            while ((record = csv.next()) != null) {
+                chunk.add(new PlayerImportRow(csv.getRecordLine(), record, columns));
+                if (chunk.size() == chunkSize) {
+                    job = processChunk(job, chunk, start);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                job = processChunk(job, chunk, start);
+            }
+
+            job.setStatus(PlayerImportStatus.COMPLETED);
+            job.setCompletedAt(LocalDateTime.now());
+            job.setDurationMs(System.currentTimeMillis() - start);
+            job = jobRepository.save(job);
+
+            log.info("Player import {} completed: {} rows, {} imported, {} failed, {} assigned in {} ms ({} rows/s)",
+                    job.getId(), job.getRowsRead(), job.getRowsImported(), job.getRowsFailed(),
+                    job.getPlayersAssigned(), job.getDurationMs(), String.format("%.1f", job.getRowsPerSecond()));
+        } catch (IOException | RuntimeException e) {
+            log.error("Player import {} failed after {} rows", job.getId(), job.getRowsRead(), e);
+            job.setStatus(PlayerImportStatus.FAILED);
+            job.setLastError(e.getMessage());
+            job.setDurationMs(System.currentTimeMillis() - start);
+            jobRepository.save(job);
+        }
+    }
+
+    private Map<String, Integer> readHeader(List<String> header) {
+        if (header == null) {
+            throw new BusinessRuleException("The file is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : PlayerImportRow.REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                throw new BusinessRuleException("Missing required column: " + required);
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Import one chunk in its own transaction. If it fails as a whole, its rows are recorded
+     * as failed and the job continues.
+     */
+    private PlayerImportJob processChunk(PlayerImportJob job, List<PlayerImportRow> rows, long start) {
+        try {
+            return chunkTransaction.execute(status -> importChunk(job, rows, start));
+        } catch (RuntimeException e) {
+            log.warn("Player import {}: chunk starting on line {} failed", job.getId(), rows.get(0).getLine(), e);
+            List<PlayerImportError> errors = new ArrayList<>(rows.size());
+            for (PlayerImportRow row : rows) {
+                String message = row.isValid() ? "Not imported: " + e.getMessage() : row.getError();
+                errors.add(new PlayerImportError(job.getId(), row.getLine(), row.getEmail(), message));
+            }
+            return chunkTransaction.execute(status -> recordChunk(job, rows.size(), 0, 0, rows.size(), errors, start));
+        }
+    }
+
+    private PlayerImportJob importChunk(PlayerImportJob job, List<PlayerImportRow> rows, long start) {
+        rejectConflicts(rows);
+        List<PlayerImportRow> valid = rows.stream().filter(PlayerImportRow::isValid).collect(Collectors.toList());
+
+        List<PlayerImportError> errors = new ArrayList<>();
+        for (PlayerImportRow row : rows) {
+            if (!row.isValid()) {
+                errors.add(new PlayerImportError(job.getId(), row.getLine(), row.getEmail(), row.getError()));
+            }
+        }
+
+        int assigned = 0;
+        if (!valid.isEmpty()) {
+            Map<String, Long> playerIds = insertPlayers(valid);
+            assigned = assignGroups(job, valid, playerIds, errors);
+        }
+        return recordChunk(job, rows.size(), valid.size(), assigned, rows.size() - valid.size(), errors, start);
+    }
+
+    /**
+     * Reject rows that repeat an email or player number within the chunk, collide with an
+     * existing player or user, or point to a parent or group that does not exist.
+     * Earlier chunks are already committed, so the database checks also cover them.
+     */
+    private void rejectConflicts(List<PlayerImportRow> rows) {
+        Set<String> chunkEmails = new HashSet<>();
+        Set<String> chunkNumbers = new HashSet<>();
+        Set<String> parentEmails = new HashSet<>();
+        Set<Long> groupIds = new HashSet<>();
+        for (PlayerImportRow row : rows) {
+            if (!row.isValid()) {
+                continue;
+            }
+            if (!chunkEmails.add(row.getEmail())) {
+                row.reject("Duplicate email in file: " + row.getEmail());
+            } else if (row.getPlayerNumber() != null && !chunkNumbers.add(row.getPlayerNumber())) {
+                row.reject("Duplicate player_number in file: " + row.getPlayerNumber());
+            }
+            if (row.getParentEmail() != null) {
+                parentEmails.add(row.getParentEmail());
+            }
+            if (row.getGroupId() != null) {
+                groupIds.add(row.getGroupId());
+            }
+        }
+
+        Set<String> existingEmails = chunkEmails.isEmpty() ? Set.of() : new HashSet<>(jdbcTemplate.queryForList(
+                EXISTING_EMAILS_SQL, new MapSqlParameterSource("emails", chunkEmails), String.class));
+        Set<String> existingNumbers = chunkNumbers.isEmpty() ? Set.of() : new HashSet<>(jdbcTemplate.queryForList(
+                EXISTING_PLAYER_NUMBERS_SQL, new MapSqlParameterSource("numbers", chunkNumbers), String.class));
+        Set<String> knownParents = parentEmails.isEmpty() ? Set.of() : new HashSet<>(jdbcTemplate.query(
+                PARENTS_SQL, new MapSqlParameterSource("emails", parentEmails), (rs, rowNum) -> rs.getString("email")));
+        Set<Long> knownGroups = groupIds.isEmpty() ? Set.of() : new HashSet<>(jdbcTemplate.queryForList(
+                GROUPS_SQL, new MapSqlParameterSource("ids", groupIds), Long.class));
+
+        for (PlayerImportRow row : rows) {
+            if (!row.isValid()) {
+                continue;
+            }
+            if (existingEmails.contains(row.getEmail())) {
+                row.reject("Email already in use: " + row.getEmail());
+            } else if (row.getPlayerNumber() != null && existingNumbers.contains(row.getPlayerNumber())) {
+                row.reject("Player number already in use: " + row.getPlayerNumber());
+            } else if (row.getParentEmail() != null && !knownParents.contains(row.getParentEmail())) {
+                row.reject("No parent account with email: " + row.getParentEmail());
+            } else if (row.getGroupId() != null && !knownGroups.contains(row.getGroupId())) {
+                row.reject("Group not found: " + row.getGroupId());
+            }
+        }
+    }
+
+    /**
+     * Insert the chunk's players and parent links with JDBC batches. Players are inserted without
+     * a group so that group occupancy only ever changes through {@link GroupAllocationService}.
+     *
+     * @return Player id by (lower case) email
+     */
+    private Map<String, Long> insertPlayers(List<PlayerImportRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        SqlParameterSource[] players = new SqlParameterSource[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            PlayerImportRow row = rows.get(i);
+            players[i] = new MapSqlParameterSource()
+                    .addValue("firstName", row.getFirstName())
+                    .addValue("lastName", row.getLastName())
+                    .addValue("email", row.getEmail())
+                    .addValue("phone", row.getPhone())
+                    .addValue("dateOfBirth", row.getDateOfBirth())
+                    .addValue("gender", row.getGender() != null ? row.getGender().name() : null)
+                    .addValue("address", row.getAddress())
+                    .addValue("joiningDate", row.getJoiningDate())
+                    .addValue("level", row.getLevel() != null ? row.getLevel().name() : null)
+                    .addValue("basicFoot", row.getBasicFoot() != null ? row.getBasicFoot().name() : null)
+                    .addValue("emergencyContactName", row.getEmergencyContactName())
+                    .addValue("emergencyContactPhone", row.getEmergencyContactPhone())
+                    .addValue("playerNumber", row.getPlayerNumber())
+                    .addValue("position", row.getPosition())
+                    .addValue("now", now);
+        }
+        jdbcTemplate.batchUpdate(INSERT_PLAYER_SQL, players);
+
+        Set<String> emails = rows.stream().map(PlayerImportRow::getEmail).collect(Collectors.toSet());
+        Map<String, Long> playerIds = new HashMap<>();
+        jdbcTemplate.query(INSERTED_IDS_SQL, new MapSqlParameterSource("emails", emails),
+                rs -> {
+                    playerIds.put(rs.getString("email").toLowerCase(Locale.ROOT), rs.getLong("id"));
+                });
+
+        Set<String> parentEmails = rows.stream()
+                .map(PlayerImportRow::getParentEmail)
+                .filter(email -> email != null)
+                .collect(Collectors.toSet());
+        if (!parentEmails.isEmpty()) {
+            Map<String, Long> parentIds = new HashMap<>();
+            jdbcTemplate.query(PARENTS_SQL, new MapSqlParameterSource("emails", parentEmails),
+                    rs -> {
+                        parentIds.put(rs.getString("email"), rs.getLong("id"));
+                    });
+            List<SqlParameterSource> links = new ArrayList<>();
+            for (PlayerImportRow row : rows) {
+                if (row.getParentEmail() != null) {
+                    links.add(new MapSqlParameterSource()
+                            .addValue("playerId", playerIds.get(row.getEmail()))
+                            .addValue("parentId", parentIds.get(row.getParentEmail()))
+                            .addValue("now", now));
+                }
+            }
+            jdbcTemplate.batchUpdate(INSERT_PLAYER_PARENT_SQL, links.toArray(new SqlParameterSource[0]));
+        }
+        return playerIds;
+    }
+
+    /**
+     * Place the chunk's players: rows with a group_id go to that group, the rest are allocated
+     * together in one pass when the job auto-assigns. A full requested group falls back to
+     * auto-assignment and is reported on the row; the player stays imported either way.
+     *
+     * @return Number of players placed in a group
+     */
+    private int assignGroups(PlayerImportJob job, List<PlayerImportRow> rows, Map<String, Long> playerIds,
+                             List<PlayerImportError> errors) {
+        Map<Long, Player> players = playerRepository.findAllById(playerIds.values()).stream()
+                .collect(Collectors.toMap(Player::getId, Function.identity()));
+        Set<Long> groupIds = rows.stream()
+                .map(PlayerImportRow::getGroupId)
+                .filter(id -> id != null)
+                .collect(Collectors.toSet());
+        Map<Long, Group> groups = groupRepository.findAllById(groupIds).stream()
+                .collect(Collectors.toMap(Group::getId, Function.identity()));
+
+        int assigned = 0;
+        List<Player> toAllocate = new ArrayList<>();
+        Map<Long, PlayerImportRow> rowsByPlayer = new HashMap<>();
+        for (PlayerImportRow row : rows) {
+            Player player = players.get(playerIds.get(row.getEmail()));
+            rowsByPlayer.put(player.getId(), row);
+            if (row.getGroupId() != null) {
+                Group group = groups.get(row.getGroupId());
+                if (groupAllocationService.tryMovePlayer(player, group)) {
+                    eventPublisher.publishEvent(ChangeEvent.playerAssigned(player.getId(), group, null));
+                    assigned++;
+                    continue;
+                }
+                String message = "Imported, but group " + group.getName() + " is full"
+                        + (job.getAutoAssign() ? "; assigned automatically instead" : "; left unassigned");
+                errors.add(new PlayerImportError(job.getId(), row.getLine(), row.getEmail(), message));
+            }
+            if (job.getAutoAssign() && player.getDateOfBirth() != null && player.getLevel() != null) {
+                toAllocate.add(player);
+            }
+        }
+
+        if (!toAllocate.isEmpty()) {
+            AllocationResultDTO result = groupAllocationService.allocatePlayers(toAllocate);
+            assigned += result.getAssigned();
+            for (AllocationResultDTO.SkippedPlayer skipped : result.getSkipped()) {
+                PlayerImportRow row = rowsByPlayer.get(skipped.getPlayerId());
+                errors.add(new PlayerImportError(job.getId(), row.getLine(), row.getEmail(),
+                        "Imported without a group: " + skipped.getReason()));
+            }
+        }
+        return assigned;
+    }
+
+    private PlayerImportJob recordChunk(PlayerImportJob job, int read, int imported, int assigned, int failed,
+                                        List<PlayerImportError> errors, long start) {
+        // Only the first errors are kept; the failed counter stays exact
+        long stored = errorRepository.countByJobId(job.getId());
+        int room = (int) Math.max(0, maxStoredErrors - stored);
+        if (room > 0 && !errors.isEmpty()) {
+            errorRepository.saveAll(errors.subList(0, Math.min(room, errors.size())));
+        }
+
+        job.setRowsRead(job.getRowsRead() + read);
+        job.setRowsImported(job.getRowsImported() + imported);
+        job.setPlayersAssigned(job.getPlayersAssigned() + assigned);
+        job.setRowsFailed(job.getRowsFailed() + failed);
+        job.setDurationMs(System.currentTimeMillis() - start);
+        return jobRepository.save(job);
+    }
+}
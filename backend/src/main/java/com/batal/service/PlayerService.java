@@ -1,17 +1,26 @@
 package com.batal.service;
 
+import com.batal.dto.CursorPageDTO;
 import com.batal.dto.GroupCreateRequest;
 import com.batal.dto.PlayerDTO;
 import com.batal.entity.Player;
 import com.batal.entity.Group;
-import com.batal.entity.enums.AgeGroup;
 import com.batal.entity.enums.Gender;
 import com.batal.repository.PlayerRepository;
 import com.batal.repository.GroupRepository;
 import com.batal.repository.UserRepository;
 import com.batal.entity.User;
 import com.batal.entity.enums.UserType;
+import com.batal.event.ChangeEvent;
+import com.batal.service.paging.KeysetListing;
+import com.batal.service.paging.KeysetPager;
+import com.batal.service.paging.KeysetSlice;
+import com.batal.service.paging.TotalCount;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -20,13 +29,18 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class PlayerService {
 
+    private static final Logger log = LoggerFactory.getLogger(PlayerService.class);
+
     @Autowired
     private PlayerRepository playerRepository;
 
@@ -34,14 +48,21 @@ public class PlayerService {
     private GroupRepository groupRepository;
 
     @Autowired
-    private GroupService groupService;
+    private GroupAllocationService groupAllocationService;
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private KeysetPager keysetPager;
+
     /**
      * Create a new player with automatic group assignment if no group specified
      */
+    @Timed("batal.service")
     public PlayerDTO createPlayer(PlayerDTO playerDTO) {
         return createPlayer(playerDTO, true);
     }
@@ -49,6 +70,7 @@ public class PlayerService {
     /**
      * Create a new player with option for automatic group assignment
      */
+    @Timed("batal.service")
     public PlayerDTO createPlayer(PlayerDTO playerDTO, boolean autoAssignGroup) {
         // Check if email already exists
         if (playerRepository.existsByEmail(playerDTO.getEmail())) {
@@ -97,19 +119,21 @@ public class PlayerService {
         if (playerDTO.getGroupId() != null) {
             Group group = groupRepository.findById(playerDTO.getGroupId())
                     .orElseThrow(() -> new RuntimeException("Group not found with id: " + playerDTO.getGroupId()));
-            player.setGroup(group);
+            groupAllocationService.movePlayer(player, group);
         } else if (autoAssignGroup && player.getDateOfBirth() != null && player.getLevel() != null) {
-            try {
+            // Checked before allocating: a failed allocation would roll back the registration,
+            // so a player outside the supported ages is kept without a group instead
+            if (groupAllocationService.findAgeGroup(player).isPresent()) {
                 Player savedPlayer = playerRepository.save(player);
                 autoAssignPlayerToGroup(savedPlayer);
+                publishIfGroupChanged(savedPlayer, null);
                 return convertToDTO(savedPlayer);
-            } catch (Exception e) {
-                // If auto-assignment fails, we still keep the player but log the issue
-                System.out.println("Warning: Could not auto-assign player to group: " + e.getMessage());
             }
+            log.warn("Could not auto-assign player to a group: age is outside the supported range (4-16 years)");
         }
 
         Player savedPlayer = playerRepository.save(player);
+        publishIfGroupChanged(savedPlayer, null);
         return convertToDTO(savedPlayer);
     }
 
@@ -117,6 +141,7 @@ public class PlayerService {
      * Get all players with pagination and search
      */
     @Transactional(readOnly = true)
+    @Timed("batal.service")
     public Page<PlayerDTO> getAllPlayers(Pageable pageable, String search) {
         Page<Player> players;
         if (search != null && !search.trim().isEmpty()) {
@@ -135,6 +160,35 @@ public class PlayerService {
         return getAllPlayers(pageable, null);
     }
 
+    /**
+     * Get players by cursor: constant cost per page however deep, no COUNT unless asked for
+     *
+     * @param sortField  id, firstName, lastName or email
+     * @param cursor     nextCursor of the previous page, or null for the first page
+     * @param totalCount Total to report with the first page
+     */
+    @Transactional(readOnly = true)
+    @Timed("batal.service")
+    public CursorPageDTO<PlayerDTO> getPlayersByCursor(String sortField, boolean descending, String cursor,
+                                                       int size, String search, TotalCount totalCount) {
+        KeysetSlice slice = keysetPager.page(KeysetListing.PLAYERS, sortField, descending, cursor, size, search, totalCount);
+        Map<Long, Player> players = playerRepository.findAllWithGroupByIdIn(slice.getIds()).stream()
+                .collect(Collectors.toMap(Player::getId, Function.identity()));
+
+        CursorPageDTO<PlayerDTO> page = new CursorPageDTO<>();
+        page.setContent(slice.getIds().stream()
+                .map(players::get)
+                .filter(Objects::nonNull)
+                .map(this::convertToDTO)
+                .collect(Collectors.toList()));
+        page.setSize(page.getContent().size());
+        page.setNextCursor(slice.getNextCursor());
+        page.setHasNext(slice.getNextCursor() != null);
+        page.setTotalElements(slice.getTotalElements());
+        page.setTotalExact(slice.isTotalExact());
+        return page;
+    }
+
     /**
      * Get all active players
      */
@@ -150,6 +204,7 @@ public class PlayerService {
      * Get player by ID
      */
     @Transactional(readOnly = true)
+    @Timed("batal.service")
     public Optional<PlayerDTO> getPlayerById(Long id) {
         Optional<Player> player = playerRepository.findByIdWithGroup(id);
         return player.map(this::convertToDTO);
@@ -167,6 +222,7 @@ public class PlayerService {
     /**
      * Update player
      */
+    @Timed("batal.service")
     public PlayerDTO updatePlayer(Long id, PlayerDTO playerDTO) {
         Player existingPlayer = playerRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Player not found with id: " + id));
@@ -177,6 +233,8 @@ public class PlayerService {
             throw new RuntimeException("Player with email " + playerDTO.getEmail() + " already exists");
         }
 
+        Group previousGroup = existingPlayer.getGroup();
+
         // Update fields
         updatePlayerFields(existingPlayer, playerDTO);
 
@@ -184,12 +242,13 @@ public class PlayerService {
         if (playerDTO.getGroupId() != null) {
             Group group = groupRepository.findById(playerDTO.getGroupId())
                     .orElseThrow(() -> new RuntimeException("Group not found with id: " + playerDTO.getGroupId()));
-            existingPlayer.setGroup(group);
+            groupAllocationService.movePlayer(existingPlayer, group);
         } else {
-            existingPlayer.setGroup(null);
+            groupAllocationService.movePlayer(existingPlayer, null);
         }
 
         Player updatedPlayer = playerRepository.save(existingPlayer);
+        publishIfGroupChanged(updatedPlayer, previousGroup);
         return convertToDTO(updatedPlayer);
     }
 
@@ -229,11 +288,9 @@ public class PlayerService {
         Player player = playerRepository.findByIdWithGroup(id)
                 .orElseThrow(() -> new RuntimeException("Player not found with id: " + id));
 
-        // Remove player from their group if assigned
+        // Remove player from their group if assigned (frees the spot)
         if (player.getGroup() != null) {
-            Group group = player.getGroup();
-            group.getPlayers().remove(player);
-            groupRepository.save(group);
+            groupAllocationService.movePlayer(player, null);
         }
 
         // Delete the player record
@@ -280,8 +337,10 @@ public class PlayerService {
         Player player = playerRepository.findById(playerId)
                 .orElseThrow(() -> new RuntimeException("Player not found with id: " + playerId));
 
+        Group previousGroup = player.getGroup();
         autoAssignPlayerToGroup(player);
         Player updatedPlayer = playerRepository.save(player);
+        publishIfGroupChanged(updatedPlayer, previousGroup);
         return convertToDTO(updatedPlayer);
     }
 
@@ -289,56 +348,7 @@ public class PlayerService {
      * Internal method to auto-assign player to group
      */
     private void autoAssignPlayerToGroup(Player player) {
-        if (player.getDateOfBirth() == null || player.getLevel() == null) {
-            throw new RuntimeException("Player must have date of birth and level to be auto-assigned");
-        }
-
-        // Calculate player age
-        int playerAge = LocalDate.now().getYear() - player.getDateOfBirth().getYear();
-        AgeGroup ageGroup = AgeGroup.getByAge(playerAge);
-
-        if (ageGroup == null) {
-            throw new RuntimeException("Player age (" + playerAge + ") is not within supported age range (4-16 years)");
-        }
-
-        // Find available group with matching level and age group
-        List<Group> availableGroups = groupRepository.findAvailableGroupsByLevelAndAgeGroup(
-                player.getLevel(), ageGroup);
-
-        if (availableGroups.isEmpty()) {
-            // Create new group if none available
-            createNewGroupForPlayer(player, ageGroup);
-        } else {
-            // Assign to first available group
-            Group targetGroup = availableGroups.get(0);
-            player.setGroup(targetGroup);
-        }
-    }
-
-    /**
-     * Create a new group for the player when no available groups exist
-     */
-    private void createNewGroupForPlayer(Player player, AgeGroup ageGroup) {
-        // Find next group number for this level and age group
-        List<Group> existingGroups = groupRepository.findByLevelAndAgeGroup(player.getLevel(), ageGroup);
-        int nextGroupNumber = existingGroups.size() + 1;
-
-        // Create new group
-        Group newGroup = new Group();
-        newGroup.setLevel(player.getLevel());
-        newGroup.setAgeGroup(ageGroup);
-        newGroup.setCapacity(15); // Default capacity
-        newGroup.setMinAge(ageGroup.getMinAge());
-        newGroup.setMaxAge(ageGroup.getMaxAge());
-        newGroup.setIsActive(true);
-
-        // Generate group name
-        String suffix = nextGroupNumber > 1 ? " " + nextGroupNumber : "";
-        newGroup.setName(player.getLevel().getDisplayName() + " " +
-                ageGroup.getDisplayName() + suffix);
-
-        Group savedGroup = groupRepository.save(newGroup);
-        player.setGroup(savedGroup);
+        groupAllocationService.allocate(player);
     }
 
     /**
@@ -357,17 +367,31 @@ public class PlayerService {
         player.setUpdatedAt(LocalDateTime.now());
 
         // Remove from current group
-        if (player.getGroup() != null) {
-            player.setGroup(null);
+        Group previousGroup = player.getGroup();
+        if (previousGroup != null) {
+            groupAllocationService.movePlayer(player, null);
         }
 
         // Auto-assign to new Advanced group
         autoAssignPlayerToGroup(player);
 
         Player updatedPlayer = playerRepository.save(player);
+        publishIfGroupChanged(updatedPlayer, previousGroup);
         return convertToDTO(updatedPlayer);
     }
 
+    /**
+     * Publish a roster change for dashboards when the player's group changed;
+     * delivered only if the transaction commits
+     */
+    private void publishIfGroupChanged(Player player, Group previousGroup) {
+        Long previousGroupId = previousGroup != null ? previousGroup.getId() : null;
+        Long currentGroupId = player.getGroup() != null ? player.getGroup().getId() : null;
+        if (!Objects.equals(previousGroupId, currentGroupId)) {
+            eventPublisher.publishEvent(ChangeEvent.playerAssigned(player.getId(), player.getGroup(), previousGroup));
+        }
+    }
+
     /**
      * Convert Player entity to PlayerDTO
      */
@@ -0,0 +1,185 @@
+package com.batal.service;
+
+import com.batal.dto.PlayerStatsDTO;
+import com.batal.entity.enums.AgeGroup;
+import com.batal.entity.enums.Gender;
+import com.batal.entity.enums.Level;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Academy statistics computed with a single GROUP BY over players and groups.
+ *
+ * Results are cached for {@code batal.stats.cache-ttl-seconds}. When the cache expires only one
+ * caller recomputes; concurrent callers get the previous result meanwhile (or wait for the
+ * first computation when there is none yet).
+ */
+@Service
+public class PlayerStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(PlayerStatsService.class);
+
+    private static final String OTHER_AGE_GROUP = "other";
+
+    // One row per (group, active, gender, level, age) combination; groups without players appear once with a zero count.
+    // Age uses the same calendar-year difference as group assignment.
+    private static final String STATS_SQL =
+            "SELECT g.id AS group_id, g.name AS group_name, g.capacity, g.is_active AS group_active, " +
+            "p.is_active, p.gender, p.level, " +
+            "CAST(EXTRACT(YEAR FROM CURRENT_DATE) - EXTRACT(YEAR FROM p.date_of_birth) AS INTEGER) AS age, " +
+            "COUNT(p.id) AS player_count " +
+            "FROM players p FULL OUTER JOIN groups g ON g.id = p.group_id " +
+            "GROUP BY g.id, g.name, g.capacity, g.is_active, p.is_active, p.gender, p.level, " +
+            "CAST(EXTRACT(YEAR FROM CURRENT_DATE) - EXTRACT(YEAR FROM p.date_of_birth) AS INTEGER)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${batal.stats.cache-ttl-seconds:30}")
+    private long cacheTtlSeconds;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile CachedStats cached;
+
+    @Autowired
+    public PlayerStatsService(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public PlayerStatsDTO getPlayerStats() {
+        CachedStats current = cached;
+        if (current != null && !current.isExpired()) {
+            return current.stats;
+        }
+
+        // Someone else is refreshing: serve the previous result rather than piling onto the database
+        if (current != null && !refreshLock.tryLock()) {
+            return current.stats;
+        }
+        if (current == null) {
+            refreshLock.lock();
+        }
+
+        try {
+            current = cached;
+            if (current != null && !current.isExpired()) {
+                return current.stats;
+            }
+            PlayerStatsDTO stats = computeStats();
+            cached = new CachedStats(stats, System.currentTimeMillis() + cacheTtlSeconds * 1000);
+            return stats;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private PlayerStatsDTO computeStats() {
+        long start = System.currentTimeMillis();
+
+        PlayerStatsDTO stats = new PlayerStatsDTO();
+        for (Gender gender : Gender.values()) {
+            stats.getGenderDistribution().put(key(gender.name()), 0L);
+        }
+        for (Level level : Level.values()) {
+            stats.getLevelDistribution().put(key(level.name()), 0L);
+        }
+        for (AgeGroup ageGroup : AgeGroup.values()) {
+            stats.getAgeGroupDistribution().put(key(ageGroup.name()), 0L);
+        }
+        stats.getAgeGroupDistribution().put(OTHER_AGE_GROUP, 0L);
+
+        Map<Long, PlayerStatsDTO.GroupOccupancy> occupancyByGroup = new LinkedHashMap<>();
+
+        jdbcTemplate.query(STATS_SQL, rs -> {
+            long count = rs.getLong("player_count");
+            Long groupId = rs.getObject("group_id", Long.class);
+
+            if (groupId != null) {
+                PlayerStatsDTO.GroupOccupancy occupancy = occupancyByGroup.computeIfAbsent(groupId, id -> {
+                    PlayerStatsDTO.GroupOccupancy created = new PlayerStatsDTO.GroupOccupancy();
+                    created.setGroupId(id);
+                    return created;
+                });
+                occupancy.setName(rs.getString("group_name"));
+                occupancy.setCapacity(rs.getInt("capacity"));
+                occupancy.setIsActive(rs.getBoolean("group_active"));
+                occupancy.setPlayerCount(occupancy.getPlayerCount() + count);
+            }
+
+            if (count == 0) {
+                return;
+            }
+
+            stats.setTotalPlayers(stats.getTotalPlayers() + count);
+            if (!rs.getBoolean("is_active")) {
+                stats.setTotalInactivePlayers(stats.getTotalInactivePlayers() + count);
+                return;
+            }
+
+            stats.setTotalActivePlayers(stats.getTotalActivePlayers() + count);
+            if (groupId == null) {
+                stats.setUnassignedActivePlayers(stats.getUnassignedActivePlayers() + count);
+            }
+            increment(stats.getGenderDistribution(), rs.getString("gender"), count);
+            increment(stats.getLevelDistribution(), rs.getString("level"), count);
+
+            Integer age = rs.getObject("age", Integer.class);
+            AgeGroup ageGroup = age != null ? AgeGroup.getByAge(age) : null;
+            increment(stats.getAgeGroupDistribution(), ageGroup != null ? ageGroup.name() : OTHER_AGE_GROUP, count);
+        });
+
+        List<PlayerStatsDTO.GroupOccupancy> occupancy = new ArrayList<>(occupancyByGroup.values());
+        occupancy.sort(Comparator.comparing(PlayerStatsDTO.GroupOccupancy::getName, String.CASE_INSENSITIVE_ORDER));
+        for (PlayerStatsDTO.GroupOccupancy group : occupancy) {
+            group.setOccupancyRate(group.getCapacity() > 0
+                    ? Math.round(group.getPlayerCount() * 1000.0 / group.getCapacity()) / 10.0
+                    : 0.0);
+            stats.setTotalCapacity(stats.getTotalCapacity() + group.getCapacity());
+        }
+        stats.setGroupOccupancy(occupancy);
+        stats.setGeneratedAt(LocalDateTime.now());
+
+        log.debug("Computed player stats in {} ms", System.currentTimeMillis() - start);
+        return stats;
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private void increment(Map<String, Long> distribution, String name, long count) {
+        if (name != null) {
+            distribution.merge(key(name), count, Long::sum);
+        }
+    }
+
+    private String key(String enumName) {
+        return enumName.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class CachedStats {
+
+        private final PlayerStatsDTO stats;
+        private final long expiresAt;
+
+        CachedStats(PlayerStatsDTO stats, long expiresAt) {
+            this.stats = stats;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+    }
+}
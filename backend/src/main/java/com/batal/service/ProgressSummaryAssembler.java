@@ -0,0 +1,139 @@
+package com.batal.service;
+
+import com.batal.dto.AssessmentHistoryItemDTO;
+import com.batal.dto.ChildDashboardDTO;
+import com.batal.entity.Player;
+import com.batal.entity.enums.SkillCategory;
+import com.batal.repository.projection.AssessmentAverageView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Builds progress summaries (averages, category breakdown, trend) from the
+ * aggregate assessment projections. Shared by the parent dashboard and the PDF reports.
+ */
+@Component
+public class ProgressSummaryAssembler {
+
+    @Autowired
+    private AssessmentHistoryReader assessmentHistoryReader;
+
+    /**
+     * Load category averages for all given (hot or archived) assessments
+     */
+    public Map<Long, Map<SkillCategory, Double>> loadCategoryAverages(List<AssessmentAverageView> views) {
+        if (views.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<Long> assessmentIds = views.stream()
+                .map(AssessmentAverageView::getAssessmentId)
+                .collect(Collectors.toList());
+
+        return assessmentHistoryReader.findCategoryAverages(assessmentIds);
+    }
+
+    /**
+     * Build a dashboard entry from a child and their assessment rows (newest first).
+     * Averages and trend follow the same rules as the coach progress analytics.
+     */
+    public ChildDashboardDTO buildChildDashboard(Player child, List<AssessmentAverageView> views,
+                                                 Map<Long, Map<SkillCategory, Double>> categoryAveragesByAssessment) {
+        ChildDashboardDTO dto = new ChildDashboardDTO();
+        dto.setId(child.getId());
+        dto.setFirstName(child.getFirstName());
+        dto.setLastName(child.getLastName());
+        dto.setDateOfBirth(child.getDateOfBirth());
+        dto.setLevel(child.getLevel());
+        dto.setIsActive(child.getIsActive());
+
+        if (child.getGroup() != null) {
+            dto.setGroupId(child.getGroup().getId());
+            dto.setGroupName(child.getGroup().getName());
+        }
+
+        dto.setTotalAssessments(views.size());
+
+        if (views.isEmpty()) {
+            dto.setAverageScore(0.0);
+            dto.setCategoryAverages(new EnumMap<>(SkillCategory.class));
+            dto.setProgressTrend("No data available");
+            return dto;
+        }
+
+        AssessmentAverageView latest = views.get(0);
+        dto.setLatestAssessment(toHistoryItem(latest,
+                categoryAveragesByAssessment.getOrDefault(latest.getAssessmentId(), Collections.emptyMap())));
+
+        // Overall average across assessments
+        double overallAverage = views.stream()
+                .mapToDouble(view -> valueOrZero(view.getAverageScore()))
+                .average()
+                .orElse(0.0);
+        dto.setAverageScore(round(overallAverage));
+
+        // Category averages across assessments (ignoring assessments without scores in that category)
+        Map<SkillCategory, Double> categoryAverages = new EnumMap<>(SkillCategory.class);
+        for (SkillCategory category : SkillCategory.values()) {
+            double average = views.stream()
+                    .map(view -> categoryAveragesByAssessment.getOrDefault(view.getAssessmentId(), Collections.emptyMap()))
+                    .mapToDouble(averages -> valueOrZero(averages.get(category)))
+                    .filter(score -> score > 0)
+                    .average()
+                    .orElse(0.0);
+            categoryAverages.put(category, round(average));
+        }
+        dto.setCategoryAverages(categoryAverages);
+
+        // Trend: latest vs earliest assessment
+        String progressTrend = "Stable";
+        if (views.size() > 1) {
+            double improvement = valueOrZero(latest.getAverageScore())
+                    - valueOrZero(views.get(views.size() - 1).getAverageScore());
+            if (improvement > 0.5) {
+                progressTrend = "Improving";
+            } else if (improvement < -0.5) {
+                progressTrend = "Declining";
+            }
+        }
+        dto.setProgressTrend(progressTrend);
+
+        return dto;
+    }
+
+    /**
+     * Convert an aggregate assessment row to a history item
+     */
+    public AssessmentHistoryItemDTO toHistoryItem(AssessmentAverageView view, Map<SkillCategory, Double> categoryAverages) {
+        AssessmentHistoryItemDTO item = new AssessmentHistoryItemDTO();
+        item.setId(view.getAssessmentId());
+        item.setAssessmentDate(view.getAssessmentDate());
+        item.setPeriod(view.getPeriod());
+        item.setIsFinalized(view.getIsFinalized());
+        item.setAssessorName(view.getAssessorFirstName() + " " + view.getAssessorLastName());
+        item.setOverallAverage(round(valueOrZero(view.getAverageScore())));
+        item.setTotalSkillsAssessed(view.getSkillCount() != null ? view.getSkillCount().intValue() : 0);
+
+        Map<SkillCategory, Double> rounded = new LinkedHashMap<>();
+        for (SkillCategory category : SkillCategory.values()) {
+            rounded.put(category, round(valueOrZero(categoryAverages.get(category))));
+        }
+        item.setCategoryAverages(rounded);
+        return item;
+    }
+
+    private double valueOrZero(Double value) {
+        return value != null ? value : 0.0;
+    }
+
+    private double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,240 @@
+package com.batal.service;
+
+import com.batal.dto.ChildDashboardDTO;
+import com.batal.entity.Player;
+import com.batal.exception.ResourceNotFoundException;
+import com.batal.exception.ServiceBusyException;
+import com.batal.repository.PlayerRepository;
+import com.batal.repository.projection.AssessmentAverageView;
+import com.batal.repository.projection.ReportVersionView;
+import com.batal.service.report.PlayerReportData;
+import com.batal.service.report.PlayerReportRenderer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Generates player progress reports as PDF.
+ *
+ * Rendering runs on a small bounded pool so a burst of requests cannot take over the CPU.
+ * Finished reports are kept in memory per player together with the version they were built from
+ * (see {@link PlayerRepository#findReportVersion}); asking again for an unchanged report costs
+ * that one version query. Concurrent requests for the same version share one render.
+ */
+@Service
+public class ReportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportService.class);
+
+    private static final int COMMENT_LIMIT = 5;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private AssessmentHistoryReader assessmentHistoryReader;
+
+    @Autowired
+    private ProgressSummaryAssembler progressSummaryAssembler;
+
+    @Autowired
+    private PlayerReportRenderer playerReportRenderer;
+
+    @Value("${batal.reports.render-threads:2}")
+    private int renderThreads;
+
+    @Value("${batal.reports.render-queue-capacity:20}")
+    private int renderQueueCapacity;
+
+    @Value("${batal.reports.render-timeout-seconds:30}")
+    private long renderTimeoutSeconds;
+
+    @Value("${batal.reports.cache-size:200}")
+    private int cacheSize;
+
+    private ThreadPoolTaskExecutor renderExecutor;
+
+    // Access-ordered LRU of the latest report per player; guarded by its own monitor
+    private Map<Long, CachedReport> reportCache;
+
+    @PostConstruct
+    public void init() {
+        renderExecutor = new ThreadPoolTaskExecutor();
+        renderExecutor.setCorePoolSize(renderThreads);
+        renderExecutor.setMaxPoolSize(renderThreads);
+        renderExecutor.setQueueCapacity(renderQueueCapacity);
+        renderExecutor.setThreadNamePrefix("report-render-");
+        renderExecutor.initialize();
+
+        reportCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedReport> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renderExecutor.shutdown();
+    }
+
+    /**
+     * Progress report for staff.
+     *
+     * @param playerId The player's ID
+     * @param coachId When not null, the player must be in one of this coach's groups
+     * @return PDF bytes
+     */
+    public byte[] getPlayerReport(Long playerId, Long coachId) {
+        if (coachId != null && !playerRepository.existsByIdAndGroupCoachId(playerId, coachId)) {
+            throw new ResourceNotFoundException("Player not found in your groups with ID: " + playerId);
+        }
+        return getReport(playerId);
+    }
+
+    /**
+     * Progress report for a parent's own child
+     *
+     * @param parentUserId The parent's user ID
+     * @param playerId The child's player ID
+     * @return PDF bytes
+     * @throws ResourceNotFoundException if child not found or access denied
+     */
+    public byte[] getChildReport(Long parentUserId, Long playerId) {
+        playerRepository.findByIdAndParentId(playerId, parentUserId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Access denied - this player is not your child"));
+        return getReport(playerId);
+    }
+
+    // ========== CACHING AND RENDERING ==========
+
+    private byte[] getReport(Long playerId) {
+        ReportVersionView versionView = playerRepository.findReportVersion(playerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Player", playerId));
+        String version = versionKey(versionView);
+
+        CompletableFuture<byte[]> report;
+        boolean renderHere = false;
+        synchronized (reportCache) {
+            CachedReport cached = reportCache.get(playerId);
+            if (cached != null && cached.version.equals(version)) {
+                report = cached.report;
+            } else {
+                report = new CompletableFuture<>();
+                reportCache.put(playerId, new CachedReport(version, report));
+                renderHere = true;
+            }
+        }
+
+        if (renderHere) {
+            startRender(playerId, report);
+        }
+        return await(playerId, report);
+    }
+
+    /**
+     * Load the report data on the calling thread, then hand the PDF rendering to the pool
+     */
+    private void startRender(Long playerId, CompletableFuture<byte[]> report) {
+        // Failed renders are not cached, so the next request tries again
+        report.whenComplete((bytes, error) -> {
+            if (error != null) {
+                evict(playerId, report);
+            }
+        });
+
+        try {
+            PlayerReportData data = loadReportData(playerId);
+            renderExecutor.execute(() -> {
+                long start = System.currentTimeMillis();
+                try {
+                    byte[] pdf = playerReportRenderer.render(data);
+                    log.info("Rendered progress report for player {} ({} bytes) in {} ms",
+                            playerId, pdf.length, System.currentTimeMillis() - start);
+                    report.complete(pdf);
+                } catch (Throwable e) {
+                    report.completeExceptionally(e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            report.completeExceptionally(e);
+            throw new ServiceBusyException("Report generation is busy, please try again shortly", e);
+        } catch (RuntimeException e) {
+            report.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private byte[] await(Long playerId, CompletableFuture<byte[]> report) {
+        try {
+            return report.get(renderTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            throw new ServiceBusyException("Report generation is taking longer than expected, please try again shortly", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for report of player " + playerId, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed to render report for player " + playerId, e.getCause());
+        }
+    }
+
+    private PlayerReportData loadReportData(Long playerId) {
+        Player player = playerRepository.findByIdWithGroup(playerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Player", playerId));
+
+        List<AssessmentAverageView> views = assessmentHistoryReader.findAverageViews(List.of(playerId));
+        ChildDashboardDTO summary = progressSummaryAssembler.buildChildDashboard(player, views,
+                progressSummaryAssembler.loadCategoryAverages(views));
+
+        PlayerReportData data = new PlayerReportData();
+        data.setSummary(summary);
+        data.setComments(assessmentHistoryReader.findComments(playerId, COMMENT_LIMIT));
+        data.setGeneratedOn(LocalDate.now());
+        return data;
+    }
+
+    private void evict(Long playerId, CompletableFuture<byte[]> report) {
+        synchronized (reportCache) {
+            CachedReport cached = reportCache.get(playerId);
+            if (cached != null && cached.report == report) {
+                reportCache.remove(playerId);
+            }
+        }
+    }
+
+    private String versionKey(ReportVersionView view) {
+        return view.getPlayerUpdatedAt() + "|" + view.getAssessmentCount() + "|" + view.getLastAssessmentUpdate()
+                + "|" + view.getScoreCount() + "|" + view.getLastScoreUpdate();
+    }
+
+    private static final class CachedReport {
+
+        private final String version;
+        private final CompletableFuture<byte[]> report;
+
+        CachedReport(String version, CompletableFuture<byte[]> report) {
+            this.version = version;
+            this.report = report;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.batal.service;
+
+import com.batal.dto.SearchResultDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Unified, ranked search over players, staff and groups for the search box and typeahead.
+ *
+ * Matches use the trigram-indexed {@code search_name} columns (V45): substring matches
+ * ({@code LIKE '%term%'}) plus fuzzy matches (pg_trgm {@code %}, tolerant of typos).
+ * Prefix matches rank first, then by trigram similarity. Every branch is limited
+ * separately, so the cost depends on the limit and not on the size of the roster.
+ */
+@Service
+public class SearchService {
+
+    public static final int MIN_TERM_LENGTH = 2;
+    public static final int MAX_LIMIT = 20;
+
+    // Score: 2 for a name prefix, 1 for a word prefix, plus trigram similarity (0..1)
+    private static final String PLAYER_BRANCH =
+            "(SELECT 'PLAYER' AS type, p.id, p.first_name || ' ' || p.last_name AS label, " +
+            "COALESCE(g.name, 'Unassigned') AS detail, p.is_active, " +
+            rankExpression("p.search_name") + " AS score " +
+            "FROM players p LEFT JOIN groups g ON g.id = p.group_id " +
+            "WHERE p.search_name LIKE :contains OR p.search_name % :term OR lower(p.email) LIKE :contains " +
+            "ORDER BY score DESC LIMIT :limit)";
+
+    private static final String STAFF_BRANCH =
+            "(SELECT 'STAFF' AS type, u.id, u.first_name || ' ' || u.last_name AS label, " +
+            "u.user_type AS detail, u.is_active, " +
+            rankExpression("u.search_name") + " AS score " +
+            "FROM users u " +
+            "WHERE u.user_type IN ('COACH', 'ADMIN', 'MANAGER', 'PARENT') " +
+            "AND (u.search_name LIKE :contains OR u.search_name % :term OR lower(u.email) LIKE :contains) " +
+            "ORDER BY score DESC LIMIT :limit)";
+
+    private static final String GROUP_BRANCH =
+            "(SELECT 'GROUP' AS type, g.id, g.name AS label, " +
+            "g.level || ' ' || g.age_group AS detail, g.is_active, " +
+            rankExpression("g.search_name") + " AS score " +
+            "FROM groups g " +
+            "WHERE g.search_name LIKE :contains OR g.search_name % :term " +
+            "ORDER BY score DESC LIMIT :limit)";
+
+    private static final RowMapper<SearchResultDTO> ROW_MAPPER = (rs, rowNum) -> {
+        SearchResultDTO result = new SearchResultDTO();
+        result.setType(SearchResultDTO.Type.valueOf(rs.getString("type")));
+        result.setId(rs.getLong("id"));
+        result.setLabel(rs.getString("label"));
+        result.setDetail(rs.getString("detail"));
+        result.setIsActive(rs.getBoolean("is_active"));
+        result.setScore(Math.round(rs.getDouble("score") * 1000.0) / 1000.0);
+        return result;
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public SearchService(DataSource dataSource) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    /**
+     * Search the given entity types
+     *
+     * @param query Raw user input; fewer than {@value #MIN_TERM_LENGTH} characters returns nothing
+     * @param types Entity types to include (already filtered by the caller's role)
+     * @param limit Maximum number of results, capped at {@value #MAX_LIMIT}
+     * @return Best matches across all types, best first
+     */
+    @Transactional(readOnly = true)
+    public List<SearchResultDTO> search(String query, Set<SearchResultDTO.Type> types, int limit) {
+        String term = normalize(query);
+        if (term.length() < MIN_TERM_LENGTH || types.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        List<String> branches = new ArrayList<>();
+        if (types.contains(SearchResultDTO.Type.PLAYER)) {
+            branches.add(PLAYER_BRANCH);
+        }
+        if (types.contains(SearchResultDTO.Type.STAFF)) {
+            branches.add(STAFF_BRANCH);
+        }
+        if (types.contains(SearchResultDTO.Type.GROUP)) {
+            branches.add(GROUP_BRANCH);
+        }
+        String sql = String.join(" UNION ALL ", branches) + " ORDER BY score DESC, label LIMIT :limit";
+
+        String escaped = escapeLike(term);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("term", term)
+                .addValue("contains", "%" + escaped + "%")
+                .addValue("prefix", escaped + "%")
+                .addValue("wordPrefix", "% " + escaped + "%")
+                .addValue("limit", boundedLimit);
+
+        return jdbcTemplate.query(sql, params, ROW_MAPPER);
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private static String rankExpression(String column) {
+        return "(CASE WHEN " + column + " LIKE :prefix THEN 2 WHEN " + column + " LIKE :wordPrefix THEN 1 ELSE 0 END" +
+                " + similarity(" + column + ", :term))";
+    }
+
+    /**
+     * Same normalization as the generated search_name columns: trimmed, lower-cased, single spaces
+     */
+    private String normalize(String query) {
+        if (query == null) {
+            return "";
+        }
+        return query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,475 @@
+package com.batal.service;
+
+import com.batal.dto.SeasonRolloverDTO;
+import com.batal.entity.Group;
+import com.batal.entity.Player;
+import com.batal.entity.enums.AgeGroup;
+import com.batal.entity.enums.Level;
+import com.batal.event.ChangeEvent;
+import com.batal.exception.BusinessRuleException;
+import com.batal.repository.GroupRepository;
+import com.batal.repository.PlayerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+/**
+ * Start-of-season rollover: puts every active player back in a group matching their age group.
+ *
+ * Age groups are recomputed for all assigned players in one query. The plan first decides per
+ * group whether relabelling the whole group to the next age group needs fewer moves than moving
+ * the players who aged out, so groups that move up together stay together. Remaining players move
+ * in cohorts (same source group, level and age group) to the best-fitting group with space, or
+ * to new groups. Applying the plan commits in chunks; a move whose target filled up in the meantime
+ * is retried at the end and then falls back to regular auto-assignment.
+ */
+@Service
+public class SeasonRolloverService {
+
+    private static final Logger log = LoggerFactory.getLogger(SeasonRolloverService.class);
+
+    // Age uses the same calendar-year difference as group assignment
+    private static final String PLAYERS_SQL =
+            "SELECT r.player_id, r.first_name, r.last_name, r.level, r.group_id, " + targetAgeGroupCase() + " AS target_age_group " +
+            "FROM (SELECT p.id AS player_id, p.first_name, p.last_name, p.level, p.group_id, " +
+            "CAST(EXTRACT(YEAR FROM CURRENT_DATE) - EXTRACT(YEAR FROM p.date_of_birth) AS INTEGER) AS age " +
+            "FROM players p " +
+            "WHERE p.is_active = true AND p.group_id IS NOT NULL AND p.date_of_birth IS NOT NULL AND p.level IS NOT NULL) r " +
+            "ORDER BY r.group_id, r.player_id";
+
+    private static final String GROUPS_SQL =
+            "SELECT id, name, level, age_group, capacity, player_count, COALESCE(is_active, true) AS is_active FROM groups ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private GroupAllocationService groupAllocationService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${batal.rollover.enabled:false}")
+    private boolean enabled;
+
+    @Value("${batal.rollover.chunk-size:100}")
+    private int chunkSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Autowired
+    public SeasonRolloverService(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Roll over at the start of the calendar year
+     */
+    @Scheduled(cron = "${batal.rollover.cron:0 0 3 1 1 *}")
+    public void runScheduled() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            apply();
+        } catch (BusinessRuleException e) {
+            log.warn("Scheduled season rollover skipped: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Compute the rollover plan without changing anything
+     */
+    public SeasonRolloverDTO preview() {
+        SeasonRolloverDTO plan = buildPlan();
+        plan.setDryRun(true);
+        return plan;
+    }
+
+    /**
+     * Compute a fresh plan and apply it in chunked transactions
+     *
+     * @return The applied plan with what was actually done
+     * @throws BusinessRuleException if a rollover is already running
+     */
+    public SeasonRolloverDTO apply() {
+        if (!running.compareAndSet(false, true)) {
+            throw new BusinessRuleException("A season rollover is already in progress");
+        }
+
+        try {
+            long start = System.currentTimeMillis();
+            SeasonRolloverDTO plan = buildPlan();
+            plan.setDryRun(false);
+
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.executeWithoutResult(status -> applyRelabels(plan));
+
+            List<SeasonRolloverDTO.PlayerMove> deferred = new ArrayList<>();
+            List<SeasonRolloverDTO.PlayerMove> moves = plan.getMoves();
+            for (int from = 0; from < moves.size(); from += chunkSize) {
+                List<SeasonRolloverDTO.PlayerMove> chunk = moves.subList(from, Math.min(from + chunkSize, moves.size()));
+                transactionTemplate.executeWithoutResult(status -> applyMoves(plan, chunk, deferred));
+            }
+            if (!deferred.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> applyMoves(plan, new ArrayList<>(deferred), null));
+            }
+
+            plan.setDurationMs(System.currentTimeMillis() - start);
+            log.info("Season rollover applied in {} ms: {} groups relabelled, {} players moved, {} reallocated, {} skipped",
+                    plan.getDurationMs(), plan.getGroupsRelabelled(), plan.getPlayersMoved(),
+                    plan.getPlayersReallocated(), plan.getMovesSkipped());
+            return plan;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // ========== PLANNING ==========
+
+    private SeasonRolloverDTO buildPlan() {
+        SeasonRolloverDTO plan = new SeasonRolloverDTO();
+        plan.setGeneratedAt(LocalDateTime.now());
+
+        Map<Long, GroupSlot> groups = new LinkedHashMap<>();
+        // Current names plus the names given out by relabels of this plan; groups.name is not unique
+        Set<String> takenNames = new HashSet<>();
+        jdbcTemplate.query(GROUPS_SQL, rs -> {
+            GroupSlot slot = new GroupSlot(rs.getLong("id"), rs.getString("name"),
+                    Level.valueOf(rs.getString("level")), AgeGroup.valueOf(rs.getString("age_group")),
+                    rs.getInt("capacity"), rs.getInt("player_count"), rs.getBoolean("is_active"));
+            groups.put(slot.id, slot);
+            takenNames.add(slot.name);
+        });
+
+        Map<Long, List<PlayerRow>> rosters = new LinkedHashMap<>();
+        jdbcTemplate.query(PLAYERS_SQL, rs -> {
+            String target = rs.getString("target_age_group");
+            PlayerRow row = new PlayerRow(rs.getLong("player_id"),
+                    rs.getString("first_name") + " " + rs.getString("last_name"),
+                    Level.valueOf(rs.getString("level")), rs.getLong("group_id"),
+                    target != null ? AgeGroup.valueOf(target) : null);
+            rosters.computeIfAbsent(row.groupId, id -> new ArrayList<>()).add(row);
+        });
+
+        List<PlayerRow> movers = new ArrayList<>();
+        for (Map.Entry<Long, List<PlayerRow>> entry : rosters.entrySet()) {
+            GroupSlot group = groups.get(entry.getKey());
+            if (group == null) {
+                // Group created after the groups were read; picked up by the next rollover
+                continue;
+            }
+            List<PlayerRow> roster = entry.getValue();
+            plan.setPlayersChecked(plan.getPlayersChecked() + roster.size());
+            planGroup(plan, group, roster, movers, takenNames);
+        }
+
+        planMoves(plan, groups, movers);
+        return plan;
+    }
+
+    /**
+     * Decide between keeping the group's age group and relabelling it, whichever moves fewer players
+     */
+    private void planGroup(SeasonRolloverDTO plan, GroupSlot group, List<PlayerRow> roster, List<PlayerRow> movers,
+                           Set<String> takenNames) {
+        Map<AgeGroup, Integer> targets = new EnumMap<>(AgeGroup.class);
+        int placeable = 0;
+        for (PlayerRow row : roster) {
+            if (row.target == null) {
+                plan.getOutOfRange().add(toMove(row, group, null));
+            } else {
+                targets.merge(row.target, 1, Integer::sum);
+                placeable++;
+            }
+        }
+
+        int mismatched = placeable - targets.getOrDefault(group.ageGroup, 0);
+        if (mismatched == 0) {
+            return;
+        }
+        plan.setPlayersMismatched(plan.getPlayersMismatched() + mismatched);
+
+        AgeGroup best = group.ageGroup;
+        int bestMoves = mismatched;
+        for (Map.Entry<AgeGroup, Integer> target : targets.entrySet()) {
+            int moves = placeable - target.getValue();
+            if (target.getKey() != group.ageGroup && moves < bestMoves) {
+                best = target.getKey();
+                bestMoves = moves;
+            }
+        }
+
+        if (best != group.ageGroup) {
+            SeasonRolloverDTO.GroupRelabel relabel = new SeasonRolloverDTO.GroupRelabel();
+            relabel.setGroupId(group.id);
+            relabel.setGroupName(group.name);
+            relabel.setNewGroupName(relabelledName(group, best, takenNames));
+            relabel.setFromAgeGroup(group.ageGroup);
+            relabel.setToAgeGroup(best);
+            relabel.setPlayersKept(targets.get(best));
+            plan.getRelabels().add(relabel);
+            takenNames.add(relabel.getNewGroupName());
+            group.name = relabel.getNewGroupName();
+            group.ageGroup = best;
+        }
+
+        for (PlayerRow row : roster) {
+            if (row.target != null && row.target != group.ageGroup) {
+                movers.add(row);
+                group.count--;
+            }
+        }
+    }
+
+    /**
+     * Place movers cohort by cohort, largest first: whole cohort into the tightest group that fits it,
+     * otherwise spread over the groups with most space, then new groups
+     */
+    private void planMoves(SeasonRolloverDTO plan, Map<Long, GroupSlot> groups, List<PlayerRow> movers) {
+        Map<String, List<PlayerRow>> cohorts = new LinkedHashMap<>();
+        for (PlayerRow row : movers) {
+            cohorts.computeIfAbsent(row.groupId + ":" + row.level + ":" + row.target, key -> new ArrayList<>()).add(row);
+        }
+        List<List<PlayerRow>> ordered = new ArrayList<>(cohorts.values());
+        ordered.sort(Comparator.comparingInt((List<PlayerRow> cohort) -> cohort.size()).reversed());
+
+        List<GroupSlot> newGroups = new ArrayList<>();
+        for (List<PlayerRow> cohort : ordered) {
+            PlayerRow first = cohort.get(0);
+            GroupSlot source = groups.get(first.groupId);
+
+            List<GroupSlot> candidates = new ArrayList<>();
+            for (GroupSlot slot : groups.values()) {
+                if (slot.active && slot.level == first.level && slot.ageGroup == first.target
+                        && !slot.id.equals(first.groupId) && slot.free() > 0) {
+                    candidates.add(slot);
+                }
+            }
+            for (GroupSlot slot : newGroups) {
+                if (slot.level == first.level && slot.ageGroup == first.target && slot.free() > 0) {
+                    candidates.add(slot);
+                }
+            }
+
+            GroupSlot bestFit = candidates.stream()
+                    .filter(slot -> slot.free() >= cohort.size())
+                    .min(Comparator.comparingInt(GroupSlot::free))
+                    .orElse(null);
+            if (bestFit != null) {
+                for (PlayerRow row : cohort) {
+                    plan.getMoves().add(toMove(row, source, bestFit));
+                    bestFit.count++;
+                }
+                continue;
+            }
+
+            candidates.sort(Comparator.comparingInt(GroupSlot::free).reversed());
+            int next = 0;
+            for (PlayerRow row : cohort) {
+                while (next < candidates.size() && candidates.get(next).free() == 0) {
+                    next++;
+                }
+                GroupSlot target;
+                if (next < candidates.size()) {
+                    target = candidates.get(next);
+                } else {
+                    target = new GroupSlot(null, "New " + first.level.getDisplayName() + " " + first.target.getDisplayName()
+                            + " group", first.level, first.target, GroupAllocationService.DEFAULT_CAPACITY, 0, true);
+                    newGroups.add(target);
+                    candidates.add(target);
+                }
+                plan.getMoves().add(toMove(row, source, target));
+                target.count++;
+            }
+        }
+        plan.setNewGroupsNeeded(newGroups.size());
+    }
+
+    // ========== APPLYING ==========
+
+    private void applyRelabels(SeasonRolloverDTO plan) {
+        for (SeasonRolloverDTO.GroupRelabel relabel : plan.getRelabels()) {
+            Group group = groupRepository.findById(relabel.getGroupId()).orElse(null);
+            if (group == null || group.getAgeGroup() != relabel.getFromAgeGroup()) {
+                continue;
+            }
+            String name = relabel.getNewGroupName();
+            if (!name.equals(group.getName()) && groupRepository.existsByName(name)) {
+                // Taken by a group created or renamed since the plan was made
+                name = nextFreeName(group.getLevel().getDisplayName() + " " + relabel.getToAgeGroup().getDisplayName(),
+                        groupRepository::existsByName);
+                relabel.setNewGroupName(name);
+            }
+            group.setAgeGroup(relabel.getToAgeGroup());
+            group.setMinAge(relabel.getToAgeGroup().getMinAge());
+            group.setMaxAge(relabel.getToAgeGroup().getMaxAge());
+            group.setName(name);
+            group.setUpdatedAt(LocalDateTime.now());
+            groupRepository.save(group);
+            plan.setGroupsRelabelled(plan.getGroupsRelabelled() + 1);
+        }
+    }
+
+    /**
+     * Apply one chunk of moves. With a deferred list, moves into a group that is now full are
+     * postponed; without one (the final pass), they fall back to auto-assignment.
+     */
+    private void applyMoves(SeasonRolloverDTO plan, List<SeasonRolloverDTO.PlayerMove> moves,
+                            List<SeasonRolloverDTO.PlayerMove> deferred) {
+        for (SeasonRolloverDTO.PlayerMove move : moves) {
+            Player player = playerRepository.findById(move.getPlayerId()).orElse(null);
+            Long currentGroupId = player != null && player.getGroup() != null ? player.getGroup().getId() : null;
+            if (player == null || !Objects.equals(currentGroupId, move.getFromGroupId())) {
+                // Changed since the plan was made
+                plan.setMovesSkipped(plan.getMovesSkipped() + 1);
+                continue;
+            }
+
+            Group previousGroup = player.getGroup();
+            boolean moved = false;
+            if (move.getToGroupId() != null) {
+                Group target = groupRepository.findById(move.getToGroupId()).orElse(null);
+                moved = target != null && groupAllocationService.tryMovePlayer(player, target);
+                if (!moved && deferred != null) {
+                    deferred.add(move);
+                    continue;
+                }
+            }
+
+            if (moved) {
+                plan.setPlayersMoved(plan.getPlayersMoved() + 1);
+            } else {
+                groupAllocationService.allocate(player);
+                plan.setPlayersReallocated(plan.getPlayersReallocated() + 1);
+            }
+            eventPublisher.publishEvent(ChangeEvent.playerAssigned(player.getId(), player.getGroup(), previousGroup));
+        }
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private static String targetAgeGroupCase() {
+        StringBuilder sql = new StringBuilder("CASE");
+        for (AgeGroup ageGroup : AgeGroup.values()) {
+            sql.append(" WHEN r.age BETWEEN ").append(ageGroup.getMinAge()).append(" AND ").append(ageGroup.getMaxAge())
+                    .append(" THEN '").append(ageGroup.name()).append("'");
+        }
+        return sql.append(" END").toString();
+    }
+
+    /**
+     * "Development Cookies 2" becomes "Development Dolphins 2"; custom names are kept. When the new
+     * name is already taken, the group gets the next free number of its new bucket instead.
+     */
+    private String relabelledName(GroupSlot group, AgeGroup to, Set<String> takenNames) {
+        String prefix = group.level.getDisplayName() + " " + group.ageGroup.getDisplayName();
+        if (!group.name.startsWith(prefix)) {
+            return group.name;
+        }
+        String baseName = group.level.getDisplayName() + " " + to.getDisplayName();
+        String name = baseName + group.name.substring(prefix.length());
+        return takenNames.contains(name) ? nextFreeName(baseName, takenNames::contains) : name;
+    }
+
+    /**
+     * First free name of the "Development Dolphins", "Development Dolphins 2", ... sequence,
+     * numbered like the groups GroupAllocationService creates
+     */
+    private static String nextFreeName(String baseName, Predicate<String> taken) {
+        String name = baseName;
+        long number = 1;
+        while (taken.test(name)) {
+            number++;
+            name = baseName + " " + number;
+        }
+        return name;
+    }
+
+    private SeasonRolloverDTO.PlayerMove toMove(PlayerRow row, GroupSlot from, GroupSlot to) {
+        SeasonRolloverDTO.PlayerMove move = new SeasonRolloverDTO.PlayerMove();
+        move.setPlayerId(row.playerId);
+        move.setPlayerName(row.name);
+        move.setFromGroupId(row.groupId);
+        move.setFromGroupName(from != null ? from.name : null);
+        move.setToGroupId(to != null ? to.id : null);
+        move.setToGroupName(to != null ? to.name : null);
+        move.setLevel(row.level);
+        move.setTargetAgeGroup(row.target);
+        return move;
+    }
+
+    private static final class PlayerRow {
+
+        private final Long playerId;
+        private final String name;
+        private final Level level;
+        private final Long groupId;
+        private final AgeGroup target;
+
+        PlayerRow(Long playerId, String name, Level level, Long groupId, AgeGroup target) {
+            this.playerId = playerId;
+            this.name = name;
+            this.level = level;
+            this.groupId = groupId;
+            this.target = target;
+        }
+    }
+
+    /**
+     * A group as the plan sees it: age group after relabelling and projected player count
+     */
+    private static final class GroupSlot {
+
+        private final Long id;
+        private String name;
+        private final Level level;
+        private AgeGroup ageGroup;
+        private final int capacity;
+        private int count;
+        private final boolean active;
+
+        GroupSlot(Long id, String name, Level level, AgeGroup ageGroup, int capacity, int count, boolean active) {
+            this.id = id;
+            this.name = name;
+            this.level = level;
+            this.ageGroup = ageGroup;
+            this.capacity = capacity;
+            this.count = count;
+            this.active = active;
+        }
+
+        int free() {
+            return Math.max(0, capacity - count);
+        }
+    }
+}
@@ -15,6 +15,8 @@ import com.batal.exception.ResourceNotFoundException;
 import com.batal.exception.ValidationException;
 import com.batal.repository.SkillRepository;
 import com.batal.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -29,6 +31,8 @@ import java.util.stream.Collectors;
 @Transactional
 public class SkillService {
 
+    private static final Logger log = LoggerFactory.getLogger(SkillService.class);
+
     @Autowired
     private SkillRepository skillRepository;
 
@@ -206,7 +210,7 @@ public class SkillService {
                 results.add(createSkill(request, adminId));
             } catch (Exception e) {
                 // Log error but continue with other skills
-                System.err.println("Failed to create skill " + request.getName() + ": " + e.getMessage());
+                log.warn("Failed to create skill {}: {}", request.getName(), e.getMessage());
             }
         }
         return results;
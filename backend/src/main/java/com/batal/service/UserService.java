@@ -5,6 +5,7 @@ import com.batal.dto.UserResponse;
 import com.batal.dto.UserUpdateRequest;
 import com.batal.dto.UserStatusUpdateRequest;
 import com.batal.dto.ChildSummaryDTO;
+import com.batal.dto.CursorPageDTO;
 import com.batal.entity.User;
 import com.batal.entity.Role;
 import com.batal.entity.Player;
@@ -16,8 +17,16 @@ import com.batal.exception.BusinessRuleException;
 import com.batal.repository.UserRepository;
 import com.batal.repository.RoleRepository;
 import com.batal.repository.PlayerRepository;
+import com.batal.repository.projection.ParentChildView;
+import com.batal.service.paging.KeysetListing;
+import com.batal.service.paging.KeysetPager;
+import com.batal.service.paging.KeysetSlice;
+import com.batal.service.paging.TotalCount;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -26,16 +35,23 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class UserService {
 
+    private static final Logger log = LoggerFactory.getLogger(UserService.class);
+
     @Autowired
     private UserRepository userRepository;
 
@@ -51,34 +67,90 @@ public class UserService {
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private KeysetPager keysetPager;
+
 
-    // Get all staff users (excluding PLAYERs) with pagination and search
+    // Get all staff users (excluding PLAYERs) with pagination and search.
+    // Ids are paged in SQL first; roles and children are then loaded for the page with IN queries.
+    @Transactional(readOnly = true)
     public Page<UserResponse> getAllStaffUsers(Pageable pageable, String search) {
-        Page<User> users;
+        Page<Long> userIds;
         if (search != null && !search.trim().isEmpty()) {
-            users = userRepository.findStaffUsersWithSearch(search.trim(), pageable);
+            userIds = userRepository.findStaffUserIdsWithSearch(search.trim(), pageable);
         } else {
-            users = userRepository.findStaffUsers(pageable);
+            userIds = userRepository.findStaffUserIds(pageable);
         }
-        
-        return users.map(user -> {
-            List<String> roles = user.getRoles().stream()
-                    .map(role -> role.getName())
-                    .collect(Collectors.toList());
-            
-            UserResponse response = new UserResponse(user, roles);
-            
-            // If user is a parent, populate children
-            if (user.getUserType() == UserType.PARENT) {
-                List<Player> children = playerRepository.findByParentIdWithGroup(user.getId());
-                List<ChildSummaryDTO> childSummaries = children.stream()
-                        .map(this::mapPlayerToChildSummary)
-                        .collect(Collectors.toList());
-                response.setChildren(childSummaries);
+
+        return new PageImpl<>(mapToStaffResponses(userIds.getContent()), pageable, userIds.getTotalElements());
+    }
+
+    /**
+     * Get staff users by cursor: constant cost per page however deep, no COUNT unless asked for
+     *
+     * @param sortField  id, firstName, lastName or email
+     * @param cursor     nextCursor of the previous page, or null for the first page
+     * @param totalCount Total to report with the first page
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<UserResponse> getStaffUsersByCursor(String sortField, boolean descending, String cursor,
+                                                             int size, String search, TotalCount totalCount) {
+        KeysetSlice slice = keysetPager.page(KeysetListing.STAFF, sortField, descending, cursor, size, search, totalCount);
+
+        CursorPageDTO<UserResponse> page = new CursorPageDTO<>();
+        page.setContent(mapToStaffResponses(slice.getIds()));
+        page.setSize(page.getContent().size());
+        page.setNextCursor(slice.getNextCursor());
+        page.setHasNext(slice.getNextCursor() != null);
+        page.setTotalElements(slice.getTotalElements());
+        page.setTotalExact(slice.isTotalExact());
+        return page;
+    }
+
+    /**
+     * Build directory rows for a page of user ids, in the given order: one query for the users
+     * with their roles and one for the children of the parents among them
+     */
+    private List<UserResponse> mapToStaffResponses(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, User> users = userRepository.findAllWithRolesByIdIn(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<Long> parentIds = users.values().stream()
+                .filter(user -> user.getUserType() == UserType.PARENT)
+                .map(User::getId)
+                .collect(Collectors.toList());
+        Map<Long, List<ChildSummaryDTO>> childrenByParent = new HashMap<>();
+        if (!parentIds.isEmpty()) {
+            for (ParentChildView child : playerRepository.findChildrenByParentIds(parentIds)) {
+                childrenByParent.computeIfAbsent(child.getParentId(), id -> new ArrayList<>())
+                        .add(new ChildSummaryDTO(
+                                child.getId(),
+                                child.getFirstName(),
+                                child.getLastName(),
+                                child.getDateOfBirth(),
+                                child.getGroupName(),
+                                child.getLevel() != null ? child.getLevel().toString() : null,
+                                child.getIsActive()));
             }
-            
-            return response;
-        });
+        }
+
+        return userIds.stream()
+                .map(users::get)
+                .filter(Objects::nonNull)
+                .map(user -> {
+                    List<String> roles = user.getRoles().stream()
+                            .map(role -> role.getName())
+                            .collect(Collectors.toList());
+                    UserResponse response = new UserResponse(user, roles);
+                    if (user.getUserType() == UserType.PARENT) {
+                        response.setChildren(childrenByParent.getOrDefault(user.getId(), new ArrayList<>()));
+                    }
+                    return response;
+                })
+                .collect(Collectors.toList());
     }
     
     // Get all users (only authenticated users: COACH, ADMIN, MANAGER, PARENT)
@@ -185,7 +257,7 @@ public class UserService {
         } catch (Exception e) {
             // Log error but don't fail user creation
             // Admin can resend the email later
-            System.err.println("Failed to send password setup email to " + savedUser.getEmail() + ": " + e.getMessage());
+            log.error("Failed to send password setup email to user {}", savedUser.getId(), e);
         }
 
         List<String> roleNames = savedUser.getRoles().stream()
@@ -0,0 +1,152 @@
+package com.batal.service;
+
+import com.batal.dto.PinningReportDTO;
+import com.batal.dto.PinningSiteDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Records virtual threads pinned to their carrier thread, which happens when a virtual thread
+ * blocks inside a synchronized block or method (the JDBC driver, the mail transport, ...).
+ * A pinned virtual thread holds one of the few carrier threads for as long as it blocks, so a
+ * hot pinning site quietly turns the virtual-thread mode back into a small fixed pool.
+ *
+ * Listens to the JFR jdk.VirtualThreadPinned event in-process, groups the events by the first
+ * frame outside the JDK and logs each new site once. Only active in the virtual-thread mode.
+ */
+@Service
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    @Value("${batal.threads.pinning.threshold-ms:20}")
+    private long thresholdMs;
+
+    @Value("${batal.threads.pinning.stack-depth:12}")
+    private int stackDepth;
+
+    private final Map<String, Site> sites = new ConcurrentHashMap<>();
+    private final AtomicLong events = new AtomicLong();
+    private LocalDateTime since;
+    private RecordingStream stream;
+
+    @PostConstruct
+    public void start() {
+        since = LocalDateTime.now();
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdMs)).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::record);
+        stream.startAsync();
+        log.info("Watching for virtual threads pinned longer than {} ms", thresholdMs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    public PinningReportDTO getReport() {
+        PinningReportDTO report = new PinningReportDTO();
+        report.setVirtualThreads(true);
+        report.setThresholdMs(thresholdMs);
+        report.setSince(since);
+        report.setEvents(events.get());
+        report.setSites(sites.values().stream()
+                .map(Site::toDTO)
+                .sorted(Comparator.comparingLong(PinningSiteDTO::getCount).reversed())
+                .collect(Collectors.toList()));
+        return report;
+    }
+
+    private void record(RecordedEvent event) {
+        events.incrementAndGet();
+        List<String> stack = frames(event.getStackTrace());
+        String key = siteOf(stack);
+        long millis = event.getDuration().toMillis();
+
+        Site site = sites.computeIfAbsent(key, k -> {
+            log.warn("Virtual thread pinned for {} ms at {}:\n\t{}", millis, k, String.join("\n\t", stack));
+            return new Site(k, stack);
+        });
+        site.add(millis);
+    }
+
+    private List<String> frames(RecordedStackTrace stackTrace) {
+        List<String> frames = new ArrayList<>();
+        if (stackTrace == null) {
+            return frames;
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frames.size() == stackDepth) {
+                break;
+            }
+            if (frame.isJavaFrame()) {
+                frames.add(frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber());
+            }
+        }
+        return frames;
+    }
+
+    // The JDK frames (socket reads, lock waits) are the same everywhere; the caller is the site
+    private static String siteOf(List<String> stack) {
+        return stack.stream()
+                .filter(frame -> !frame.startsWith("java.") && !frame.startsWith("jdk.") && !frame.startsWith("sun."))
+                .findFirst()
+                .orElse(stack.isEmpty() ? "unknown" : stack.get(0));
+    }
+
+    private static class Site {
+        private final String name;
+        private final List<String> sampleStack;
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalMs = new AtomicLong();
+        private final AtomicLong maxMs = new AtomicLong();
+
+        Site(String name, List<String> sampleStack) {
+            this.name = name;
+            this.sampleStack = sampleStack;
+        }
+
+        void add(long millis) {
+            count.incrementAndGet();
+            totalMs.addAndGet(millis);
+            maxMs.accumulateAndGet(millis, Math::max);
+        }
+
+        PinningSiteDTO toDTO() {
+            PinningSiteDTO dto = new PinningSiteDTO();
+            dto.setSite(name);
+            dto.setCount(count.get());
+            dto.setTotalMs(totalMs.get());
+            dto.setMaxMs(maxMs.get());
+            dto.setSampleStack(sampleStack);
+            return dto;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.batal.service.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV writer streaming straight to the response
+ */
+public class CsvTabularWriter implements TabularWriter {
+
+    private final Writer writer;
+
+    public CsvTabularWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeHeader(List<String> columns) throws IOException {
+        writeRow(columns.toArray());
+    }
+
+    @Override
+    public void writeRow(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escape(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Flush only - the servlet container owns the underlying stream
+        writer.flush();
+    }
+
+    private String escape(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        // Neutralize spreadsheet formula injection
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0 && !(value instanceof Number)) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
@@ -0,0 +1,48 @@
+package com.batal.service.export;
+
+import com.batal.exception.ValidationException;
+
+import java.io.OutputStream;
+
+/**
+ * Supported export file formats
+ */
+public enum ExportFormat {
+    CSV("text/csv", "csv"),
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Open a row writer of this format over the given stream
+     */
+    public TabularWriter open(OutputStream out, String sheetName) {
+        return this == XLSX ? new XlsxTabularWriter(out, sheetName) : new CsvTabularWriter(out);
+    }
+
+    public static ExportFormat fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return CSV;
+        }
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value.trim())) {
+                return format;
+            }
+        }
+        throw new ValidationException("format", "Unsupported export format: " + value);
+    }
+}
@@ -0,0 +1,16 @@
+package com.batal.service.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Row-at-a-time writer for tabular exports.
+ * Implementations must not buffer more than a bounded number of rows in memory.
+ */
+public interface TabularWriter extends Closeable {
+
+    void writeHeader(List<String> columns) throws IOException;
+
+    void writeRow(Object[] values) throws IOException;
+}
@@ -0,0 +1,86 @@
+package com.batal.service.export;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Streaming XLSX writer. Only the last {@value #ROW_WINDOW} rows are kept in memory;
+ * older rows are flushed to a temporary file until the workbook is written on close.
+ * A sheet holds at most 1,048,576 rows, so larger exports continue on further sheets
+ * ("Name (2)", "Name (3)", ...), each starting with the header again.
+ */
+public class XlsxTabularWriter implements TabularWriter {
+
+    private static final int ROW_WINDOW = 100;
+
+    private static final int MAX_ROWS = SpreadsheetVersion.EXCEL2007.getMaxRows();
+
+    private final OutputStream out;
+    private final SXSSFWorkbook workbook;
+    private final String sheetName;
+    private Sheet sheet;
+    private Object[] header;
+    private int rowIndex = 0;
+
+    public XlsxTabularWriter(OutputStream out, String sheetName) {
+        this.out = out;
+        this.workbook = new SXSSFWorkbook(ROW_WINDOW);
+        this.workbook.setCompressTempFiles(true);
+        this.sheetName = sheetName;
+        this.sheet = workbook.createSheet(sheetName);
+    }
+
+    @Override
+    public void writeHeader(List<String> columns) throws IOException {
+        header = columns.toArray();
+        writeRow(header);
+    }
+
+    @Override
+    public void writeRow(Object[] values) throws IOException {
+        if (rowIndex == MAX_ROWS) {
+            sheet = workbook.createSheet(sheetName + " (" + (workbook.getNumberOfSheets() + 1) + ")");
+            rowIndex = 0;
+            if (header != null) {
+                createRow(header);
+            }
+        }
+        createRow(values);
+    }
+
+    private void createRow(Object[] values) {
+        Row row = sheet.createRow(rowIndex++);
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value == null) {
+                continue;
+            }
+            Cell cell = row.createCell(i);
+            if (value instanceof Number number) {
+                cell.setCellValue(number.doubleValue());
+            } else if (value instanceof Boolean bool) {
+                cell.setCellValue(bool);
+            } else {
+                cell.setCellValue(value.toString());
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            workbook.write(out);
+            out.flush();
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+}
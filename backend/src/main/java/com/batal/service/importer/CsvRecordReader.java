@@ -0,0 +1,110 @@
+package com.batal.service.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming RFC 4180 CSV reader: one record at a time, quoted fields may contain
+ * commas, doubled quotes and line breaks. A leading UTF-8 byte order mark is skipped.
+ */
+public class CsvRecordReader {
+
+    private final Reader reader;
+    private int lineNumber = 1;
+    private int recordLine;
+    private int pushedBack = -2;
+    private boolean started;
+
+    public CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Next record, or null at the end of the input
+     */
+    public List<String> next() throws IOException {
+        int c = read();
+        if (!started) {
+            started = true;
+            if (c == '\uFEFF') {
+                c = read();
+            }
+        }
+        // Skip blank lines between records
+        while (c == '\r' || c == '\n') {
+            if (c == '\n') {
+                lineNumber++;
+            }
+            c = read();
+        }
+        if (c == -1) {
+            return null;
+        }
+
+        recordLine = lineNumber;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unterminated quoted field starting on line " + recordLine);
+                }
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = following;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        pushedBack = following;
+                    }
+                }
+                if (c != -1) {
+                    lineNumber++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Line on which the record last returned by {@link #next()} starts (1-based)
+     */
+    public int getRecordLine() {
+        return recordLine;
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        return reader.read();
+    }
+}
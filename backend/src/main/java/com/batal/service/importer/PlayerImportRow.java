@@ -0,0 +1,248 @@
+package com.batal.service.importer;
+
+import com.batal.entity.enums.BasicFoot;
+import com.batal.entity.enums.Gender;
+import com.batal.entity.enums.Level;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * One data row of a player import file, parsed and checked against the players table limits.
+ * A row that fails a check keeps the reason in {@link #getError()} and is not imported.
+ *
+ * Columns use the player export names (first_name, date_of_birth, ...); dates are ISO
+ * (yyyy-MM-dd) and enum values may be given by name or display name, in any case.
+ */
+public class PlayerImportRow {
+
+    public static final String FIRST_NAME = "first_name";
+    public static final String LAST_NAME = "last_name";
+    public static final String EMAIL = "email";
+    public static final String PHONE = "phone";
+    public static final String DATE_OF_BIRTH = "date_of_birth";
+    public static final String GENDER = "gender";
+    public static final String LEVEL = "level";
+    public static final String BASIC_FOOT = "basic_foot";
+    public static final String JOINING_DATE = "joining_date";
+    public static final String PLAYER_NUMBER = "player_number";
+    public static final String POSITION = "position";
+    public static final String ADDRESS = "address";
+    public static final String EMERGENCY_CONTACT_NAME = "emergency_contact_name";
+    public static final String EMERGENCY_CONTACT_PHONE = "emergency_contact_phone";
+    public static final String PARENT_EMAIL = "parent_email";
+    public static final String GROUP_ID = "group_id";
+
+    public static final List<String> REQUIRED_COLUMNS = List.of(FIRST_NAME, LAST_NAME, EMAIL);
+
+    private final int line;
+    private String error;
+
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String phone;
+    private LocalDate dateOfBirth;
+    private Gender gender;
+    private Level level;
+    private BasicFoot basicFoot;
+    private LocalDate joiningDate;
+    private String playerNumber;
+    private String position;
+    private String address;
+    private String emergencyContactName;
+    private String emergencyContactPhone;
+    private String parentEmail;
+    private Long groupId;
+
+    /**
+     * @param line    Line of the file the record starts on
+     * @param record  Field values in file order
+     * @param columns Column name (lower case) to field index, from the header row
+     */
+    public PlayerImportRow(int line, List<String> record, Map<String, Integer> columns) {
+        this.line = line;
+        try {
+            firstName = text(record, columns, FIRST_NAME, 100);
+            lastName = text(record, columns, LAST_NAME, 100);
+            email = text(record, columns, EMAIL, 255);
+            if (email != null) {
+                email = email.toLowerCase(Locale.ROOT);
+            }
+            phone = text(record, columns, PHONE, 20);
+            dateOfBirth = date(record, columns, DATE_OF_BIRTH);
+            gender = enumValue(record, columns, GENDER, Gender.values(), Gender::getDisplayName);
+            level = enumValue(record, columns, LEVEL, Level.values(), Level::getDisplayName);
+            basicFoot = enumValue(record, columns, BASIC_FOOT, BasicFoot.values(), BasicFoot::getDisplayName);
+            // Defaults to today, like a player created through PlayerService.createPlayer
+            joiningDate = date(record, columns, JOINING_DATE);
+            if (joiningDate == null) {
+                joiningDate = LocalDate.now();
+            }
+            playerNumber = text(record, columns, PLAYER_NUMBER, 10);
+            position = text(record, columns, POSITION, 50);
+            address = text(record, columns, ADDRESS, 255);
+            emergencyContactName = text(record, columns, EMERGENCY_CONTACT_NAME, 255);
+            emergencyContactPhone = text(record, columns, EMERGENCY_CONTACT_PHONE, 20);
+            parentEmail = text(record, columns, PARENT_EMAIL, 255);
+            if (parentEmail != null) {
+                parentEmail = parentEmail.toLowerCase(Locale.ROOT);
+            }
+            groupId = number(record, columns, GROUP_ID);
+
+            if (firstName == null || lastName == null || email == null) {
+                reject("first_name, last_name and email are required");
+            } else if (!email.contains("@")) {
+                reject("Invalid email: " + email);
+            } else if (dateOfBirth != null && dateOfBirth.isAfter(LocalDate.now())) {
+                reject("date_of_birth is in the future");
+            }
+        } catch (IllegalArgumentException e) {
+            reject(e.getMessage());
+        }
+    }
+
+    /**
+     * Mark the row as not importable; the first reason given is kept
+     */
+    public void reject(String reason) {
+        if (error == null) {
+            error = reason;
+        }
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+
+    // ========== PARSING ==========
+
+    private static String text(List<String> record, Map<String, Integer> columns, String column, int maxLength) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        // The CSV export prefixes values starting with =+-@ with ' against formula injection
+        if (value.length() > 1 && value.charAt(0) == '\'' && "=+-@".indexOf(value.charAt(1)) >= 0) {
+            value = value.substring(1);
+        }
+        if (value.isEmpty()) {
+            return null;
+        }
+        if (value.length() > maxLength) {
+            throw new IllegalArgumentException(column + " is longer than " + maxLength + " characters");
+        }
+        return value;
+    }
+
+    private static LocalDate date(List<String> record, Map<String, Integer> columns, String column) {
+        String value = text(record, columns, column, 10);
+        try {
+            return value != null ? LocalDate.parse(value) : null;
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(column + " must be a date like 2015-04-30: " + value);
+        }
+    }
+
+    private static Long number(List<String> record, Map<String, Integer> columns, String column) {
+        String value = text(record, columns, column, 19);
+        try {
+            return value != null ? Long.valueOf(value) : null;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " must be a number: " + value);
+        }
+    }
+
+    private static <E extends Enum<E>> E enumValue(List<String> record, Map<String, Integer> columns, String column,
+                                                  E[] values, Function<E, String> displayName) {
+        String value = text(record, columns, column, 50);
+        if (value == null) {
+            return null;
+        }
+        for (E candidate : values) {
+            if (candidate.name().equalsIgnoreCase(value) || displayName.apply(candidate).equalsIgnoreCase(value)) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException("Unknown " + column + ": " + value);
+    }
+
+    // ========== GETTERS ==========
+
+    public int getLine() {
+        return line;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public LocalDate getDateOfBirth() {
+        return dateOfBirth;
+    }
+
+    public Gender getGender() {
+        return gender;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    public BasicFoot getBasicFoot() {
+        return basicFoot;
+    }
+
+    public LocalDate getJoiningDate() {
+        return joiningDate;
+    }
+
+    public String getPlayerNumber() {
+        return playerNumber;
+    }
+
+    public String getPosition() {
+        return position;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public String getEmergencyContactName() {
+        return emergencyContactName;
+    }
+
+    public String getEmergencyContactPhone() {
+        return emergencyContactPhone;
+    }
+
+    public String getParentEmail() {
+        return parentEmail;
+    }
+
+    public Long getGroupId() {
+        return groupId;
+    }
+}
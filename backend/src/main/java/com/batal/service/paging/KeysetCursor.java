@@ -0,0 +1,64 @@
+package com.batal.service.paging;
+
+import com.batal.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque position in a cursor-paged listing: the sort of the listing plus the sort value
+ * and id of the last row returned. A cursor only continues the sort it was issued for.
+ */
+final class KeysetCursor {
+
+    private static final String VERSION = "1";
+
+    private final String sortField;
+    private final boolean descending;
+    private final long lastId;
+    private final String lastValue;
+
+    KeysetCursor(String sortField, boolean descending, long lastId, String lastValue) {
+        this.sortField = sortField;
+        this.descending = descending;
+        this.lastId = lastId;
+        this.lastValue = lastValue;
+    }
+
+    String encode() {
+        String raw = VERSION + "|" + sortField + "|" + (descending ? "desc" : "asc") + "|" + lastId + "|"
+                + (lastValue != null ? lastValue : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws ValidationException if the cursor is malformed or was issued for another sort
+     */
+    static KeysetCursor decode(String cursor, String sortField, boolean descending) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 5);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("cursor", "Invalid cursor");
+        }
+        if (parts.length != 5 || !VERSION.equals(parts[0])) {
+            throw new ValidationException("cursor", "Invalid cursor");
+        }
+        if (!parts[1].equals(sortField) || !parts[2].equals(descending ? "desc" : "asc")) {
+            throw new ValidationException("cursor", "The cursor belongs to a different sort order; start again without a cursor");
+        }
+        try {
+            return new KeysetCursor(sortField, descending, Long.parseLong(parts[3]), parts[4]);
+        } catch (NumberFormatException e) {
+            throw new ValidationException("cursor", "Invalid cursor");
+        }
+    }
+
+    long getLastId() {
+        return lastId;
+    }
+
+    String getLastValue() {
+        return lastValue;
+    }
+}
@@ -0,0 +1,69 @@
+package com.batal.service.paging;
+
+import com.batal.exception.ValidationException;
+
+import java.util.Map;
+
+/**
+ * Listings that support cursor paging, with their whitelisted sort fields. Every sort column
+ * is paired with id as tie-breaker and backed by a (column, id) index (V49).
+ */
+public enum KeysetListing {
+
+    PLAYERS("players p", "p", null,
+            "p.search_name LIKE :contains OR lower(p.email) LIKE :contains",
+            Map.of("id", "p.id", "firstName", "p.first_name", "lastName", "p.last_name", "email", "p.email")),
+
+    STAFF("users u", "u", "u.user_type IN ('COACH', 'ADMIN', 'MANAGER', 'PARENT')",
+            "u.search_name LIKE :contains OR lower(u.email) LIKE :contains",
+            Map.of("id", "u.id", "firstName", "u.first_name", "lastName", "u.last_name", "email", "u.email"));
+
+    private final String from;
+    private final String alias;
+    private final String filter;
+    private final String searchFilter;
+    private final Map<String, String> sortColumns;
+
+    KeysetListing(String from, String alias, String filter, String searchFilter, Map<String, String> sortColumns) {
+        this.from = from;
+        this.alias = alias;
+        this.filter = filter;
+        this.searchFilter = searchFilter;
+        this.sortColumns = sortColumns;
+    }
+
+    String getFrom() {
+        return from;
+    }
+
+    String getIdColumn() {
+        return alias + ".id";
+    }
+
+    /**
+     * Fixed filter of the listing, or null
+     */
+    String getFilter() {
+        return filter;
+    }
+
+    /**
+     * Search condition over the :contains parameter ('%term%', lower case)
+     */
+    String getSearchFilter() {
+        return searchFilter;
+    }
+
+    /**
+     * SQL column of a sort field
+     *
+     * @throws ValidationException if the field cannot be used for cursor paging
+     */
+    String sortColumn(String sortField) {
+        String column = sortColumns.get(sortField);
+        if (column == null) {
+            throw new ValidationException("sortBy", "Cursor paging supports sorting by " + String.join(", ", sortColumns.keySet()));
+        }
+        return column;
+    }
+}
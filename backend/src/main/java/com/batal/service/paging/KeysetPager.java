@@ -0,0 +1,117 @@
+package com.batal.service.paging;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Cursor (keyset) paging over a {@link KeysetListing}.
+ *
+ * A page is read with {@code WHERE (sort_column, id) > (last value, last id) ORDER BY sort_column, id
+ * LIMIT size + 1}, which walks the (column, id) index from the last row seen, so every page costs
+ * the same however deep it is. Only ids are read here; callers load the rows with their usual
+ * fetch joins and keep this order.
+ */
+@Component
+public class KeysetPager {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final Pattern PLAN_ROWS = Pattern.compile("\"Plan Rows\"\\s*:\\s*(\\d+)");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public KeysetPager(DataSource dataSource) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    /**
+     * Read one page of ids
+     *
+     * @param sortField  Whitelisted sort field of the listing (id is always the tie-breaker)
+     * @param cursor     Cursor returned with the previous page, or null for the first page
+     * @param size       Page size, capped at {@value #MAX_PAGE_SIZE}
+     * @param search     Optional name or email fragment
+     * @param totalCount How to report the total; only done for the first page
+     */
+    public KeysetSlice page(KeysetListing listing, String sortField, boolean descending, String cursor,
+                            int size, String search, TotalCount totalCount) {
+        String sortColumn = listing.sortColumn(sortField);
+        String idColumn = listing.getIdColumn();
+        boolean sortById = sortColumn.equals(idColumn);
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        boolean firstPage = cursor == null || cursor.isBlank();
+
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit + 1);
+        List<String> conditions = new ArrayList<>();
+        if (listing.getFilter() != null) {
+            conditions.add(listing.getFilter());
+        }
+        if (search != null && !search.isBlank()) {
+            conditions.add("(" + listing.getSearchFilter() + ")");
+            params.addValue("contains", "%" + search.trim().toLowerCase(Locale.ROOT) + "%");
+        }
+        String listingFilter = where(conditions);
+
+        if (!firstPage) {
+            KeysetCursor position = KeysetCursor.decode(cursor, sortField, descending);
+            String comparison = descending ? " < " : " > ";
+            params.addValue("afterId", position.getLastId());
+            if (sortById) {
+                conditions.add(idColumn + comparison + ":afterId");
+            } else {
+                conditions.add("(" + sortColumn + ", " + idColumn + ")" + comparison + "(:afterValue, :afterId)");
+                params.addValue("afterValue", position.getLastValue());
+            }
+        }
+
+        String direction = descending ? " DESC" : " ASC";
+        String sql = "SELECT " + idColumn + " AS id, " + sortColumn + " AS sort_value FROM " + listing.getFrom()
+                + where(conditions)
+                + " ORDER BY " + sortColumn + direction + (sortById ? "" : ", " + idColumn + direction)
+                + " LIMIT :limit";
+
+        List<Long> ids = new ArrayList<>(limit + 1);
+        List<String> sortValues = new ArrayList<>(limit + 1);
+        jdbcTemplate.query(sql, params, rs -> {
+            ids.add(rs.getLong("id"));
+            sortValues.add(rs.getString("sort_value"));
+        });
+
+        String nextCursor = null;
+        if (ids.size() > limit) {
+            ids.remove(limit);
+            nextCursor = new KeysetCursor(sortField, descending, ids.get(limit - 1), sortValues.get(limit - 1)).encode();
+        }
+
+        Long total = null;
+        if (firstPage && totalCount == TotalCount.EXACT) {
+            total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + listing.getFrom() + listingFilter, params, Long.class);
+        } else if (firstPage && totalCount == TotalCount.ESTIMATE) {
+            total = estimateRows("SELECT 1 FROM " + listing.getFrom() + listingFilter, params);
+        }
+        return new KeysetSlice(ids, nextCursor, total, totalCount == TotalCount.EXACT);
+    }
+
+    /**
+     * Planner row estimate of a query (from table statistics, nothing is scanned)
+     */
+    private Long estimateRows(String sql, MapSqlParameterSource params) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, params, String.class);
+        Matcher matcher = PLAN_ROWS.matcher(plan != null ? plan : "");
+        return matcher.find() ? Long.valueOf(matcher.group(1)) : null;
+    }
+
+    private static String where(List<String> conditions) {
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+}
@@ -0,0 +1,43 @@
+package com.batal.service.paging;
+
+import java.util.List;
+
+/**
+ * Ids of one cursor page in listing order, and where the next page starts
+ */
+public class KeysetSlice {
+
+    private final List<Long> ids;
+    private final String nextCursor;
+    private final Long totalElements;
+    private final boolean totalExact;
+
+    KeysetSlice(List<Long> ids, String nextCursor, Long totalElements, boolean totalExact) {
+        this.ids = ids;
+        this.nextCursor = nextCursor;
+        this.totalElements = totalElements;
+        this.totalExact = totalExact;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    /**
+     * Cursor of the next page, or null on the last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Total rows of the listing, or null when not requested or not on the first page
+     */
+    public Long getTotalElements() {
+        return totalElements;
+    }
+
+    public boolean isTotalExact() {
+        return totalExact;
+    }
+}
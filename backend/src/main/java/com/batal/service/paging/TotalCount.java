@@ -0,0 +1,28 @@
+package com.batal.service.paging;
+
+import com.batal.exception.ValidationException;
+
+/**
+ * How the total of a cursor-paged listing is reported. Totals are only computed for the
+ * first page (no cursor); following pages cost the same however deep they are.
+ */
+public enum TotalCount {
+    /** No total */
+    NONE,
+    /** Planner row estimate, no table scan */
+    ESTIMATE,
+    /** COUNT(*) of the filtered listing */
+    EXACT;
+
+    public static TotalCount fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return ESTIMATE;
+        }
+        for (TotalCount mode : values()) {
+            if (mode.name().equalsIgnoreCase(value.trim())) {
+                return mode;
+            }
+        }
+        throw new ValidationException("count", "Unsupported count mode: " + value);
+    }
+}
@@ -0,0 +1,46 @@
+package com.batal.service.report;
+
+import com.batal.entity.enums.SkillCategory;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Monthly summary email for one parent, covering every child with a finalized
+ * assessment in the month. The HTML body is built by the report job's worker pool.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class MonthlyParentSummary {
+
+    private Long parentId;
+    private String parentEmail;
+    private String parentFirstName;
+    private YearMonth month;
+    private List<ChildEntry> children = new ArrayList<>();
+    private String htmlBody;
+
+    /**
+     * One finalized assessment of one child
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class ChildEntry {
+
+        private Long playerId;
+        private String playerName;
+        private LocalDate assessmentDate;
+        private String assessorName;
+        private Double averageScore;
+        private Map<SkillCategory, Double> categoryAverages;
+        private String comments;
+    }
+}
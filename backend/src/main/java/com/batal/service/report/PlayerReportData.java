@@ -0,0 +1,24 @@
+package com.batal.service.report;
+
+import com.batal.dto.ChildDashboardDTO;
+import com.batal.repository.projection.AssessmentCommentView;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Everything needed to render one player's progress report, loaded before
+ * rendering so the render workers never touch the database.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class PlayerReportData {
+
+    private ChildDashboardDTO summary;
+    private List<AssessmentCommentView> comments;
+    private LocalDate generatedOn;
+}
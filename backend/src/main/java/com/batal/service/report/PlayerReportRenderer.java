@@ -0,0 +1,397 @@
+package com.batal.service.report;
+
+import com.batal.dto.AssessmentHistoryItemDTO;
+import com.batal.dto.ChildDashboardDTO;
+import com.batal.entity.enums.SkillCategory;
+import com.batal.repository.projection.AssessmentCommentView;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.graphics.state.PDExtendedGraphicsState;
+import org.apache.pdfbox.util.Matrix;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.awt.Color;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Renders a player progress report to PDF: header, summary, radar chart of
+ * category averages, category table and the latest coach comments.
+ * Stateless; safe to call from several render workers at once.
+ */
+@Component
+public class PlayerReportRenderer {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("d MMM yyyy", Locale.ENGLISH);
+
+    private static final float MAX_SCORE = 10f;
+    private static final float CHART_RADIUS = 100f;
+    private static final float BODY_FONT_SIZE = 10f;
+    private static final float LINE_HEIGHT = 14f;
+    private static final float OBLIQUE_SKEW = 0.2f;
+
+    @Autowired
+    private ReportTemplate template;
+
+    public byte[] render(PlayerReportData data) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            PageWriter writer = new PageWriter(document, template.loadFonts(document));
+            try {
+                ChildDashboardDTO summary = data.getSummary();
+                drawHeader(writer, summary, data);
+                drawSummary(writer, summary);
+                drawCategorySection(writer, summary);
+                drawComments(writer, data.getComments());
+            } finally {
+                writer.close();
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+
+    // ========== SECTIONS ==========
+
+    private void drawHeader(PageWriter writer, ChildDashboardDTO summary, PlayerReportData data) throws IOException {
+        PDPageContentStream cs = writer.content();
+        ReportFonts fonts = writer.fonts();
+        float pageWidth = ReportTemplate.PAGE_SIZE.getWidth();
+        float pageHeight = ReportTemplate.PAGE_SIZE.getHeight();
+
+        cs.setNonStrokingColor(ReportTemplate.PRIMARY);
+        cs.addRect(0, pageHeight - 80, pageWidth, 80);
+        cs.fill();
+
+        text(cs, fonts.getBold(), 18, Color.WHITE, ReportTemplate.MARGIN, pageHeight - 40,
+                template.getAcademyName());
+        text(cs, fonts.getRegular(), 12, Color.WHITE, ReportTemplate.MARGIN, pageHeight - 60,
+                "Player Progress Report");
+
+        writer.y = pageHeight - 115;
+        text(cs, fonts.getBold(), 16, ReportTemplate.TEXT, ReportTemplate.MARGIN, writer.y,
+                summary.getFirstName() + " " + summary.getLastName());
+        writer.y -= 18;
+
+        String details = "Group: " + (summary.getGroupName() != null ? summary.getGroupName() : "Unassigned")
+                + "    Level: " + (summary.getLevel() != null ? summary.getLevel() : "-")
+                + "    Generated: " + data.getGeneratedOn().format(DATE_FORMAT);
+        text(cs, fonts.getRegular(), BODY_FONT_SIZE, ReportTemplate.MUTED, ReportTemplate.MARGIN, writer.y, details);
+        writer.y -= 30;
+    }
+
+    private void drawSummary(PageWriter writer, ChildDashboardDTO summary) throws IOException {
+        PDPageContentStream cs = writer.content();
+        ReportFonts fonts = writer.fonts();
+        AssessmentHistoryItemDTO latest = summary.getLatestAssessment();
+
+        String line = "Assessments: " + summary.getTotalAssessments()
+                + "    Overall average: " + score(summary.getAverageScore()) + " / 10"
+                + "    Trend: " + summary.getProgressTrend();
+        if (latest != null) {
+            line += "    Latest: " + latest.getAssessmentDate().format(DATE_FORMAT);
+        }
+        text(cs, fonts.getRegular(), 11, ReportTemplate.TEXT, ReportTemplate.MARGIN, writer.y, line);
+        writer.y -= 25;
+    }
+
+    private void drawCategorySection(PageWriter writer, ChildDashboardDTO summary) throws IOException {
+        sectionTitle(writer, "Category averages");
+        PDPageContentStream cs = writer.content();
+        ReportFonts fonts = writer.fonts();
+
+        Map<SkillCategory, Double> latestAverages = summary.getLatestAssessment() != null
+                ? summary.getLatestAssessment().getCategoryAverages()
+                : Collections.emptyMap();
+        Map<SkillCategory, Double> overallAverages = summary.getCategoryAverages() != null
+                ? summary.getCategoryAverages()
+                : Collections.emptyMap();
+
+        float centerX = ReportTemplate.MARGIN + CHART_RADIUS + 40;
+        float centerY = writer.y - CHART_RADIUS - 25;
+        drawRadarChart(cs, fonts, centerX, centerY, latestAverages, overallAverages);
+
+        // Legend under the chart
+        float legendY = centerY - CHART_RADIUS - 35;
+        legendEntry(cs, fonts, ReportTemplate.PRIMARY, false, ReportTemplate.MARGIN + 20, legendY, "Latest assessment");
+        legendEntry(cs, fonts, ReportTemplate.SECONDARY, true, ReportTemplate.MARGIN + 150, legendY, "All-time average");
+
+        // Table to the right of the chart
+        float tableX = centerX + CHART_RADIUS + 60;
+        float rowY = writer.y - 30;
+        text(cs, fonts.getBold(), BODY_FONT_SIZE, ReportTemplate.TEXT, tableX, rowY, "Category");
+        text(cs, fonts.getBold(), BODY_FONT_SIZE, ReportTemplate.TEXT, tableX + 90, rowY, "Latest");
+        text(cs, fonts.getBold(), BODY_FONT_SIZE, ReportTemplate.TEXT, tableX + 140, rowY, "All-time");
+        rowY -= 6;
+        line(cs, ReportTemplate.GRID, tableX, rowY, tableX + 190, rowY);
+
+        for (SkillCategory category : SkillCategory.values()) {
+            rowY -= LINE_HEIGHT + 2;
+            text(cs, fonts.getRegular(), BODY_FONT_SIZE, ReportTemplate.TEXT, tableX, rowY, category.toString());
+            text(cs, fonts.getRegular(), BODY_FONT_SIZE, ReportTemplate.TEXT, tableX + 90, rowY,
+                    score(latestAverages.get(category)));
+            text(cs, fonts.getRegular(), BODY_FONT_SIZE, ReportTemplate.TEXT, tableX + 140, rowY,
+                    score(overallAverages.get(category)));
+        }
+
+        writer.y = legendY - 35;
+    }
+
+    private void drawComments(PageWriter writer, List<AssessmentCommentView> comments) throws IOException {
+        sectionTitle(writer, "Coach comments");
+        ReportFonts fonts = writer.fonts();
+
+        if (comments == null || comments.isEmpty()) {
+            writer.ensureSpace(LINE_HEIGHT);
+            obliqueText(writer.content(), fonts.getRegular(), BODY_FONT_SIZE, ReportTemplate.MUTED,
+                    ReportTemplate.MARGIN, writer.y, "No comments yet.");
+            writer.y -= LINE_HEIGHT;
+            return;
+        }
+
+        float width = ReportTemplate.PAGE_SIZE.getWidth() - 2 * ReportTemplate.MARGIN;
+        for (AssessmentCommentView comment : comments) {
+            writer.ensureSpace(LINE_HEIGHT * 3);
+            String heading = comment.getAssessmentDate().format(DATE_FORMAT) + " - "
+                    + comment.getAssessorFirstName() + " " + comment.getAssessorLastName();
+            text(writer.content(), fonts.getBold(), BODY_FONT_SIZE, ReportTemplate.TEXT,
+                    ReportTemplate.MARGIN, writer.y, heading);
+            writer.y -= LINE_HEIGHT;
+
+            for (String wrapped : wrap(comment.getComments(), fonts.getRegular(), BODY_FONT_SIZE, width)) {
+                writer.ensureSpace(LINE_HEIGHT);
+                text(writer.content(), fonts.getRegular(), BODY_FONT_SIZE, ReportTemplate.TEXT,
+                        ReportTemplate.MARGIN, writer.y, wrapped);
+                writer.y -= LINE_HEIGHT;
+            }
+            writer.y -= 8;
+        }
+    }
+
+    // ========== RADAR CHART ==========
+
+    private void drawRadarChart(PDPageContentStream cs, ReportFonts fonts, float centerX, float centerY,
+                                Map<SkillCategory, Double> latest, Map<SkillCategory, Double> overall) throws IOException {
+        SkillCategory[] categories = SkillCategory.values();
+
+        // Grid rings every 2 points and one axis per category
+        cs.setStrokingColor(ReportTemplate.GRID);
+        cs.setLineWidth(0.5f);
+        for (int ring = 2; ring <= MAX_SCORE; ring += 2) {
+            double ringValue = ring;
+            polygon(cs, centerX, centerY, categories, category -> ringValue);
+            cs.stroke();
+        }
+        for (int i = 0; i < categories.length; i++) {
+            float[] end = point(centerX, centerY, i, categories.length, MAX_SCORE);
+            line(cs, ReportTemplate.GRID, centerX, centerY, end[0], end[1]);
+
+            float[] labelPoint = point(centerX, centerY, i, categories.length, MAX_SCORE + 1.5f);
+            String label = categories[i].toString();
+            float labelWidth = template.textWidth(fonts.getBold(), label, 9);
+            text(cs, fonts.getBold(), 9, ReportTemplate.TEXT, labelPoint[0] - labelWidth / 2, labelPoint[1] - 3, label);
+        }
+
+        // All-time average as a dashed outline
+        cs.setStrokingColor(ReportTemplate.SECONDARY);
+        cs.setLineWidth(1f);
+        cs.setLineDashPattern(new float[]{3, 3}, 0);
+        polygon(cs, centerX, centerY, categories, overall::get);
+        cs.stroke();
+        cs.setLineDashPattern(new float[]{}, 0);
+
+        // Latest assessment as a translucent filled shape
+        cs.saveGraphicsState();
+        PDExtendedGraphicsState translucent = new PDExtendedGraphicsState();
+        translucent.setNonStrokingAlphaConstant(0.3f);
+        cs.setGraphicsStateParameters(translucent);
+        cs.setNonStrokingColor(ReportTemplate.PRIMARY);
+        polygon(cs, centerX, centerY, categories, latest::get);
+        cs.fill();
+        cs.restoreGraphicsState();
+
+        cs.setStrokingColor(ReportTemplate.PRIMARY);
+        cs.setLineWidth(1.5f);
+        polygon(cs, centerX, centerY, categories, latest::get);
+        cs.stroke();
+    }
+
+    private void polygon(PDPageContentStream cs, float centerX, float centerY, SkillCategory[] categories,
+                         Function<SkillCategory, Double> valueOf) throws IOException {
+        for (int i = 0; i < categories.length; i++) {
+            Double value = valueOf.apply(categories[i]);
+            float clamped = value != null ? (float) Math.max(0, Math.min(MAX_SCORE, value)) : 0f;
+            float[] p = point(centerX, centerY, i, categories.length, clamped);
+            if (i == 0) {
+                cs.moveTo(p[0], p[1]);
+            } else {
+                cs.lineTo(p[0], p[1]);
+            }
+        }
+        cs.closePath();
+    }
+
+    /**
+     * Point on axis {@code index} (clockwise from the top) at the given score
+     */
+    private float[] point(float centerX, float centerY, int index, int axes, float value) {
+        double angle = Math.PI / 2 - 2 * Math.PI * index / axes;
+        float distance = CHART_RADIUS * value / MAX_SCORE;
+        return new float[]{
+                centerX + (float) (Math.cos(angle) * distance),
+                centerY + (float) (Math.sin(angle) * distance)
+        };
+    }
+
+    // ========== DRAWING HELPERS ==========
+
+    private void sectionTitle(PageWriter writer, String title) throws IOException {
+        writer.ensureSpace(LINE_HEIGHT * 3);
+        PDPageContentStream cs = writer.content();
+        text(cs, writer.fonts().getBold(), 13, ReportTemplate.SECONDARY, ReportTemplate.MARGIN, writer.y, title);
+        writer.y -= 6;
+        line(cs, ReportTemplate.GRID, ReportTemplate.MARGIN, writer.y,
+                ReportTemplate.PAGE_SIZE.getWidth() - ReportTemplate.MARGIN, writer.y);
+        writer.y -= LINE_HEIGHT + 4;
+    }
+
+    private void legendEntry(PDPageContentStream cs, ReportFonts fonts, Color color, boolean dashed, float x, float y, String label)
+            throws IOException {
+        cs.setStrokingColor(color);
+        cs.setLineWidth(1.5f);
+        if (dashed) {
+            cs.setLineDashPattern(new float[]{3, 3}, 0);
+        }
+        cs.moveTo(x, y + 3);
+        cs.lineTo(x + 20, y + 3);
+        cs.stroke();
+        cs.setLineDashPattern(new float[]{}, 0);
+        text(cs, fonts.getRegular(), 9, ReportTemplate.TEXT, x + 26, y, label);
+    }
+
+    private void text(PDPageContentStream cs, PDFont font, float size, Color color, float x, float y, String value)
+            throws IOException {
+        cs.beginText();
+        cs.setFont(font, size);
+        cs.setNonStrokingColor(color);
+        cs.newLineAtOffset(x, y);
+        cs.showText(template.displayText(value));
+        cs.endText();
+    }
+
+    /**
+     * Text slanted like an italic face, since only upright fonts are embedded
+     */
+    private void obliqueText(PDPageContentStream cs, PDFont font, float size, Color color, float x, float y, String value)
+            throws IOException {
+        cs.beginText();
+        cs.setFont(font, size);
+        cs.setNonStrokingColor(color);
+        cs.setTextMatrix(new Matrix(1, 0, OBLIQUE_SKEW, 1, x, y));
+        cs.showText(template.displayText(value));
+        cs.endText();
+    }
+
+    private void line(PDPageContentStream cs, Color color, float x1, float y1, float x2, float y2) throws IOException {
+        cs.setStrokingColor(color);
+        cs.setLineWidth(0.5f);
+        cs.moveTo(x1, y1);
+        cs.lineTo(x2, y2);
+        cs.stroke();
+    }
+
+    /**
+     * Greedy word wrap; words longer than a full line are split
+     */
+    private List<String> wrap(String text, PDFont font, float size, float maxWidth) {
+        List<String> lines = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String word : text.trim().split("\\s+")) {
+            while (template.textWidth(font, word, size) > maxWidth && word.length() > 1) {
+                int cut = word.length() - 1;
+                while (cut > 1 && template.textWidth(font, word.substring(0, cut), size) > maxWidth) {
+                    cut--;
+                }
+                if (current.length() > 0) {
+                    lines.add(current.toString());
+                    current.setLength(0);
+                }
+                lines.add(word.substring(0, cut));
+                word = word.substring(cut);
+            }
+            String candidate = current.length() == 0 ? word : current + " " + word;
+            if (template.textWidth(font, candidate, size) > maxWidth) {
+                lines.add(current.toString());
+                current = new StringBuilder(word);
+            } else {
+                current = new StringBuilder(candidate);
+            }
+        }
+        if (current.length() > 0) {
+            lines.add(current.toString());
+        }
+        return lines;
+    }
+
+    private String score(Double value) {
+        return value != null && value > 0 ? String.format(Locale.ROOT, "%.1f", value) : "-";
+    }
+
+    /**
+     * Tracks the current page, its content stream and the vertical cursor,
+     * starting a new page when a block would run into the bottom margin.
+     */
+    private static final class PageWriter {
+
+        private final PDDocument document;
+        private final ReportFonts fonts;
+        private PDPageContentStream content;
+        private float y;
+
+        PageWriter(PDDocument document, ReportFonts fonts) throws IOException {
+            this.document = document;
+            this.fonts = fonts;
+            newPage();
+        }
+
+        PDPageContentStream content() {
+            return content;
+        }
+
+        ReportFonts fonts() {
+            return fonts;
+        }
+
+        void ensureSpace(float height) throws IOException {
+            if (y - height < ReportTemplate.MARGIN) {
+                newPage();
+            }
+        }
+
+        void close() throws IOException {
+            if (content != null) {
+                content.close();
+                content = null;
+            }
+        }
+
+        private void newPage() throws IOException {
+            close();
+            PDPage page = new PDPage(ReportTemplate.PAGE_SIZE);
+            document.addPage(page);
+            content = new PDPageContentStream(document, page);
+            y = ReportTemplate.PAGE_SIZE.getHeight() - ReportTemplate.MARGIN;
+        }
+    }
+}
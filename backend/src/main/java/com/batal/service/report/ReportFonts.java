@@ -0,0 +1,26 @@
+package com.batal.service.report;
+
+import org.apache.pdfbox.pdmodel.font.PDFont;
+
+/**
+ * The fonts of one report document. PDFBox fonts keep mutable caches and subset state,
+ * so each document gets its own instances and never shares them with another render worker.
+ */
+public class ReportFonts {
+
+    private final PDFont regular;
+    private final PDFont bold;
+
+    ReportFonts(PDFont regular, PDFont bold) {
+        this.regular = regular;
+        this.bold = bold;
+    }
+
+    public PDFont getRegular() {
+        return regular;
+    }
+
+    public PDFont getBold() {
+        return bold;
+    }
+}
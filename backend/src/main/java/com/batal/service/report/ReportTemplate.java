@@ -0,0 +1,154 @@
+package com.batal.service.report;
+
+import com.ibm.icu.text.ArabicShaping;
+import com.ibm.icu.text.ArabicShapingException;
+import com.ibm.icu.text.Bidi;
+import jakarta.annotation.PostConstruct;
+import org.apache.fontbox.ttf.CmapLookup;
+import org.apache.fontbox.ttf.TTFParser;
+import org.apache.fontbox.ttf.TrueTypeFont;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType0Font;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.awt.Color;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.BitSet;
+
+/**
+ * Fonts, colours and page layout shared by all generated reports.
+ *
+ * The report fonts are DejaVu Sans (regular and bold, see fonts/DejaVu-LICENSE.txt), so names and
+ * comments in Arabic and other non-Latin scripts print as written. The font files are read once at
+ * startup; each document loads its own {@link ReportFonts} from those bytes and embeds only the
+ * glyphs it uses. Right-to-left text is shaped and reordered for display by {@link #displayText}.
+ */
+@Component
+public class ReportTemplate {
+
+    public static final PDRectangle PAGE_SIZE = PDRectangle.A4;
+    public static final float MARGIN = 50f;
+
+    public static final Color PRIMARY = new Color(0x66, 0x7E, 0xEA);
+    public static final Color SECONDARY = new Color(0x76, 0x4B, 0xA2);
+    public static final Color TEXT = new Color(0x33, 0x33, 0x33);
+    public static final Color MUTED = new Color(0x88, 0x88, 0x88);
+    public static final Color GRID = new Color(0xDD, 0xDD, 0xDD);
+
+    private static final String REGULAR_FONT = "fonts/DejaVuSans.ttf";
+    private static final String BOLD_FONT = "fonts/DejaVuSans-Bold.ttf";
+
+    // Code points below this are checked against the fonts' character maps (covers the BMP and the SMP)
+    private static final int MAX_CODE_POINT = 0x20000;
+
+    @Value("${batal.reports.academy-name:Batal Football Academy}")
+    private String academyName;
+
+    private byte[] regularFontData;
+    private byte[] boldFontData;
+
+    // Characters both fonts can draw; written once at startup, read-only afterwards
+    private final BitSet drawable = new BitSet(MAX_CODE_POINT);
+
+    @PostConstruct
+    public void readFonts() throws IOException {
+        regularFontData = readFont(REGULAR_FONT);
+        boldFontData = readFont(BOLD_FONT);
+
+        BitSet regular = characterMap(regularFontData);
+        regular.and(characterMap(boldFontData));
+        drawable.or(regular);
+    }
+
+    /**
+     * Fonts for one document, embedded as subsets when the document is saved
+     */
+    public ReportFonts loadFonts(PDDocument document) throws IOException {
+        return new ReportFonts(
+                PDType0Font.load(document, new ByteArrayInputStream(regularFontData), true),
+                PDType0Font.load(document, new ByteArrayInputStream(boldFontData), true));
+    }
+
+    public String getAcademyName() {
+        return academyName;
+    }
+
+    /**
+     * Text as it is drawn: whitespace becomes plain spaces, right-to-left runs (Arabic, Hebrew)
+     * are shaped into their joined forms and put in visual order, and characters the report fonts
+     * cannot draw (e.g. emoji, control characters) are replaced so they cannot fail the report.
+     */
+    public String displayText(String text) {
+        if (text == null) {
+            return "";
+        }
+        String visual = hasRightToLeft(text) ? toVisualOrder(text) : text;
+
+        StringBuilder result = new StringBuilder(visual.length());
+        visual.codePoints().forEach(codePoint -> {
+            if (Character.isWhitespace(codePoint)) {
+                result.append(' ');
+            } else if (codePoint < MAX_CODE_POINT && drawable.get(codePoint)) {
+                result.appendCodePoint(codePoint);
+            } else {
+                result.append('?');
+            }
+        });
+        return result.toString();
+    }
+
+    /**
+     * Width of the text, as displayed, in points at the given font size
+     */
+    public float textWidth(PDFont font, String text, float fontSize) {
+        try {
+            return font.getStringWidth(displayText(text)) / 1000f * fontSize;
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to measure report text", e);
+        }
+    }
+
+    private String toVisualOrder(String text) {
+        String shaped;
+        try {
+            shaped = new ArabicShaping(ArabicShaping.LETTERS_SHAPE | ArabicShaping.LENGTH_GROW_SHRINK).shape(text);
+        } catch (ArabicShapingException e) {
+            shaped = text;
+        }
+        return new Bidi(shaped, Bidi.DIRECTION_DEFAULT_LEFT_TO_RIGHT).writeReordered(Bidi.DO_MIRRORING);
+    }
+
+    private static boolean hasRightToLeft(String text) {
+        return text.codePoints().anyMatch(codePoint -> {
+            byte direction = Character.getDirectionality(codePoint);
+            return direction == Character.DIRECTIONALITY_RIGHT_TO_LEFT
+                    || direction == Character.DIRECTIONALITY_RIGHT_TO_LEFT_ARABIC;
+        });
+    }
+
+    private static byte[] readFont(String path) throws IOException {
+        try (InputStream in = new ClassPathResource(path).getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static BitSet characterMap(byte[] fontData) throws IOException {
+        BitSet characters = new BitSet(MAX_CODE_POINT);
+        try (TrueTypeFont font = new TTFParser().parse(new RandomAccessReadBuffer(fontData))) {
+            CmapLookup cmap = font.getUnicodeCmapLookup();
+            for (int codePoint = 0; codePoint < MAX_CODE_POINT; codePoint++) {
+                if (cmap.getGlyphId(codePoint) > 0) {
+                    characters.set(codePoint);
+                }
+            }
+        }
+        return characters;
+    }
+}
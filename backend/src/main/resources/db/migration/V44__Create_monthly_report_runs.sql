@@ -0,0 +1,29 @@
+-- =====================================================
+-- Migration: Create monthly report runs table
+-- Description: Checkpoints for the monthly parent report batch job
+-- Author: System
+-- Date: 2026-10-18
+-- =====================================================
+
+CREATE TABLE monthly_report_runs (
+    id BIGSERIAL PRIMARY KEY,
+    report_month DATE NOT NULL UNIQUE,
+    status VARCHAR(20) NOT NULL,
+    last_parent_id BIGINT NOT NULL DEFAULT 0,
+    parents_processed INTEGER NOT NULL DEFAULT 0,
+    emails_sent INTEGER NOT NULL DEFAULT 0,
+    emails_failed INTEGER NOT NULL DEFAULT 0,
+    duration_ms BIGINT NOT NULL DEFAULT 0,
+    last_error TEXT,
+    started_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP,
+
+    CONSTRAINT chk_monthly_report_run_status
+        CHECK (status IN ('RUNNING', 'COMPLETED', 'FAILED'))
+);
+
+COMMENT ON TABLE monthly_report_runs IS 'One row per report month; progress of the monthly parent report job';
+COMMENT ON COLUMN monthly_report_runs.report_month IS 'First day of the month the reports cover';
+COMMENT ON COLUMN monthly_report_runs.last_parent_id IS 'Checkpoint: parents are processed in id order, all ids up to this one are done';
+COMMENT ON COLUMN monthly_report_runs.duration_ms IS 'Accumulated processing time across all attempts of this run';
@@ -0,0 +1,31 @@
+-- =====================================================
+-- Migration: Trigram-indexed search
+-- Description: Normalized search_name columns with pg_trgm GIN indexes so
+--              substring (LIKE '%term%') and fuzzy (%) name searches use an index
+-- Author: System
+-- Date: 2026-10-18
+-- =====================================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Normalized "first last" name, maintained by the database
+ALTER TABLE players
+    ADD COLUMN search_name TEXT GENERATED ALWAYS AS (lower(btrim(first_name) || ' ' || btrim(last_name))) STORED;
+
+ALTER TABLE users
+    ADD COLUMN search_name TEXT GENERATED ALWAYS AS (lower(btrim(first_name) || ' ' || btrim(last_name))) STORED;
+
+ALTER TABLE groups
+    ADD COLUMN search_name TEXT GENERATED ALWAYS AS (lower(btrim(name))) STORED;
+
+CREATE INDEX idx_players_search_name_trgm ON players USING gin (search_name gin_trgm_ops);
+CREATE INDEX idx_players_email_trgm ON players USING gin (lower(email) gin_trgm_ops);
+
+CREATE INDEX idx_users_search_name_trgm ON users USING gin (search_name gin_trgm_ops);
+CREATE INDEX idx_users_email_trgm ON users USING gin (lower(email) gin_trgm_ops);
+
+CREATE INDEX idx_groups_search_name_trgm ON groups USING gin (search_name gin_trgm_ops);
+
+COMMENT ON COLUMN players.search_name IS 'Generated: lower-cased "first last" name for trigram search';
+COMMENT ON COLUMN users.search_name IS 'Generated: lower-cased "first last" name for trigram search';
+COMMENT ON COLUMN groups.search_name IS 'Generated: lower-cased group name for trigram search';
@@ -0,0 +1,21 @@
+-- =====================================================
+-- Migration: Denormalized group occupancy
+-- Description: groups.player_count maintained by the application with atomic
+--              conditional updates, guarded by a check against capacity
+-- Author: System
+-- Date: 2026-10-18
+-- =====================================================
+
+ALTER TABLE groups ADD COLUMN player_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE groups g
+SET player_count = (SELECT COUNT(*) FROM players p WHERE p.group_id = g.id);
+
+-- Groups that were already overfilled (forced assignments) keep their players;
+-- their capacity is raised to the current roster so the constraint below holds
+UPDATE groups SET capacity = player_count WHERE player_count > capacity;
+
+ALTER TABLE groups
+    ADD CONSTRAINT chk_group_player_count CHECK (player_count >= 0 AND player_count <= capacity);
+
+COMMENT ON COLUMN groups.player_count IS 'Number of players assigned to the group; kept in step with players.group_id';
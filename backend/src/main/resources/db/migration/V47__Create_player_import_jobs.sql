@@ -0,0 +1,48 @@
+-- =====================================================
+-- Migration: Create player import job tables
+-- Description: Progress and per-row errors of background CSV player imports
+-- Author: System
+-- Date: 2026-10-18
+-- =====================================================
+
+CREATE TABLE player_import_jobs (
+    id BIGSERIAL PRIMARY KEY,
+    file_name VARCHAR(255),
+    status VARCHAR(20) NOT NULL,
+    auto_assign BOOLEAN NOT NULL DEFAULT true,
+    created_by BIGINT,
+    rows_read INTEGER NOT NULL DEFAULT 0,
+    rows_imported INTEGER NOT NULL DEFAULT 0,
+    rows_failed INTEGER NOT NULL DEFAULT 0,
+    players_assigned INTEGER NOT NULL DEFAULT 0,
+    duration_ms BIGINT NOT NULL DEFAULT 0,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP,
+
+    CONSTRAINT fk_player_import_job_user
+        FOREIGN KEY (created_by) REFERENCES users(id) ON DELETE SET NULL,
+    CONSTRAINT chk_player_import_job_status
+        CHECK (status IN ('QUEUED', 'RUNNING', 'COMPLETED', 'FAILED'))
+);
+
+CREATE TABLE player_import_errors (
+    id BIGSERIAL PRIMARY KEY,
+    job_id BIGINT NOT NULL,
+    row_number INTEGER NOT NULL,
+    email VARCHAR(255),
+    message TEXT NOT NULL,
+
+    CONSTRAINT fk_player_import_error_job
+        FOREIGN KEY (job_id) REFERENCES player_import_jobs(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_player_import_errors_job ON player_import_errors(job_id, row_number);
+
+-- Case-insensitive email lookups of whole import chunks (the trigram indexes only serve LIKE searches)
+CREATE INDEX idx_players_email_lower ON players (lower(email));
+CREATE INDEX idx_users_email_lower ON users (lower(email));
+
+COMMENT ON TABLE player_import_jobs IS 'Background CSV player imports and their progress';
+COMMENT ON COLUMN player_import_errors.row_number IS 'Line of the record in the uploaded file (header is line 1)';
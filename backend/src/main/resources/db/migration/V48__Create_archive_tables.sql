@@ -0,0 +1,39 @@
+-- =====================================================
+-- Migration: Create archive tables
+-- Description: Cold tables for long-inactive players and old assessments,
+--              so listings, searches and aggregates only scan current data
+-- Author: System
+-- Date: 2026-10-18
+-- =====================================================
+
+-- Same columns as the hot tables (LIKE copies NOT NULL only: no foreign keys,
+-- unique constraints or sequence defaults), plus the time the row was archived.
+-- The generated players.search_name becomes a plain column here.
+
+CREATE TABLE players_archive (LIKE players);
+ALTER TABLE players_archive ADD PRIMARY KEY (id);
+ALTER TABLE players_archive ADD COLUMN archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+CREATE TABLE player_parents_archive (LIKE player_parents);
+ALTER TABLE player_parents_archive ADD PRIMARY KEY (player_id, parent_id);
+
+CREATE TABLE assessments_archive (LIKE assessments);
+ALTER TABLE assessments_archive ADD PRIMARY KEY (id);
+ALTER TABLE assessments_archive ADD COLUMN archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+CREATE TABLE skill_scores_archive (LIKE skill_scores);
+ALTER TABLE skill_scores_archive ADD PRIMARY KEY (id);
+
+CREATE INDEX idx_players_archive_archived_at ON players_archive(archived_at DESC, id DESC);
+-- The archived player search matches '%term%' fragments, so it needs pg_trgm GIN indexes as in V45
+CREATE INDEX idx_players_archive_search_name_trgm ON players_archive USING gin (search_name gin_trgm_ops);
+CREATE INDEX idx_players_archive_email_trgm ON players_archive USING gin (lower(email) gin_trgm_ops);
+CREATE INDEX idx_assessments_archive_player_date ON assessments_archive(player_id, assessment_date DESC);
+CREATE INDEX idx_skill_scores_archive_assessment ON skill_scores_archive(assessment_id);
+
+-- Candidate scans of the archival job
+CREATE INDEX idx_players_inactive_updated ON players(updated_at, id) WHERE is_active = false;
+CREATE INDEX idx_assessments_finalized_date ON assessments(assessment_date, id) WHERE is_finalized = true;
+
+COMMENT ON TABLE players_archive IS 'Inactive players moved out of players by the archival job; restorable';
+COMMENT ON TABLE assessments_archive IS 'Old finalized assessments moved out of assessments by the archival job; restorable';
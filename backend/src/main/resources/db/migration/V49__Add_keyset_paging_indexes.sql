@@ -0,0 +1,18 @@
+-- =====================================================
+-- Migration: Keyset paging indexes
+-- Description: (sort column, id) indexes for cursor-paged player and staff listings,
+--              so each page is an index range scan from the last row seen
+-- Author: System
+-- Date: 2026-10-18
+-- =====================================================
+
+CREATE INDEX idx_players_first_name_id ON players(first_name, id);
+CREATE INDEX idx_players_last_name_id ON players(last_name, id);
+CREATE INDEX idx_players_email_id ON players(email, id);
+
+CREATE INDEX idx_users_first_name_id ON users(first_name, id);
+CREATE INDEX idx_users_last_name_id ON users(last_name, id);
+CREATE INDEX idx_users_email_id ON users(email, id);
+
+-- Single-column first_name index is a prefix of idx_players_first_name_id
+DROP INDEX IF EXISTS idx_players_first_name;
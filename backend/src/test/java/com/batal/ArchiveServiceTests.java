@@ -0,0 +1,284 @@
+package com.batal;
+
+import com.batal.dto.ArchiveResultDTO;
+import com.batal.entity.Assessment;
+import com.batal.entity.Group;
+import com.batal.entity.Player;
+import com.batal.entity.Skill;
+import com.batal.entity.SkillScore;
+import com.batal.entity.User;
+import com.batal.entity.enums.AgeGroup;
+import com.batal.entity.enums.AssessmentPeriod;
+import com.batal.entity.enums.Gender;
+import com.batal.entity.enums.Level;
+import com.batal.entity.enums.SkillCategory;
+import com.batal.entity.enums.UserType;
+import com.batal.exception.BusinessRuleException;
+import com.batal.repository.AssessmentRepository;
+import com.batal.repository.GroupRepository;
+import com.batal.repository.PlayerRepository;
+import com.batal.repository.SkillRepository;
+import com.batal.repository.UserRepository;
+import com.batal.service.ArchiveService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Archive and restore round trips against the real schema: every row of an archived player moves
+ * to the *_archive tables and back, group occupancy is released, and rows whose parent or assessor
+ * is gone, or that conflict with a newer player, are handled without losing archived data.
+ */
+@SpringBootTest(properties = {
+		"batal.archive.enabled=true",
+		"batal.archive.cron=-",
+		// Only the fixtures below are old enough to be archived
+		"batal.archive.inactive-player-months=1200",
+		"batal.archive.assessment-horizon-months=1200",
+		// This context runs next to the shared one, which already holds the management port
+		"management.server.port=0"
+})
+class ArchiveServiceTests {
+
+	@Autowired
+	private ArchiveService archiveService;
+
+	@Autowired
+	private PlayerRepository playerRepository;
+
+	@Autowired
+	private AssessmentRepository assessmentRepository;
+
+	@Autowired
+	private GroupRepository groupRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private SkillRepository skillRepository;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private TransactionTemplate tx;
+	private NamedParameterJdbcTemplate jdbc;
+
+	private final List<Long> playerIds = new ArrayList<>();
+	private final List<Long> userIds = new ArrayList<>();
+	private final List<Long> skillIds = new ArrayList<>();
+	private final List<Long> groupIds = new ArrayList<>();
+
+	private Long groupId;
+	private Long parentId;
+	private Long assessorId;
+	private Long playerId;
+	private String playerEmail;
+
+	@BeforeEach
+	void setUp() {
+		tx = new TransactionTemplate(transactionManager);
+		jdbc = new NamedParameterJdbcTemplate(dataSource);
+
+		groupId = tx.execute(status -> groupRepository.save(
+				new Group(Level.DEVELOPMENT, AgeGroup.DOLPHINS, uniqueName("Archive group"))).getId());
+		groupIds.add(groupId);
+		parentId = createUser(UserType.PARENT);
+		assessorId = createUser(UserType.COACH);
+		Long firstSkillId = createSkill();
+		Long secondSkillId = createSkill();
+
+		playerEmail = "archive" + System.nanoTime() + "@batal.test";
+		playerId = tx.execute(status -> {
+			Player player = newPlayer(playerEmail);
+			player.setGroup(groupRepository.findById(groupId).orElseThrow());
+			player.addParent(userRepository.findById(parentId).orElseThrow());
+			Long id = playerRepository.save(player).getId();
+			groupRepository.reserveSpot(groupId);
+
+			User assessor = userRepository.findById(assessorId).orElseThrow();
+			Skill first = skillRepository.findById(firstSkillId).orElseThrow();
+			Skill second = skillRepository.findById(secondSkillId).orElseThrow();
+			for (int month = 1; month <= 2; month++) {
+				Assessment assessment = new Assessment(player, assessor, LocalDate.now().minusMonths(month), AssessmentPeriod.MONTHLY);
+				assessment.setIsFinalized(month == 2);
+				assessment.setComments("Month " + month);
+				assessment.addSkillScore(new SkillScore(assessment, first, 5 + month));
+				assessment.addSkillScore(new SkillScore(assessment, second, 3));
+				assessmentRepository.save(assessment);
+			}
+			return id;
+		});
+		playerIds.add(playerId);
+
+		// Inactive and untouched for longer than the configured 100 years
+		jdbc.update("UPDATE players SET is_active = false, updated_at = CURRENT_TIMESTAMP - INTERVAL '101 years' WHERE id = :id",
+				new MapSqlParameterSource("id", playerId));
+	}
+
+	@AfterEach
+	void cleanUp() {
+		MapSqlParameterSource params = new MapSqlParameterSource("ids", playerIds);
+		tx.executeWithoutResult(status -> {
+			jdbc.update("DELETE FROM skill_scores WHERE assessment_id IN (SELECT id FROM assessments WHERE player_id IN (:ids))", params);
+			jdbc.update("DELETE FROM assessments WHERE player_id IN (:ids)", params);
+			jdbc.update("DELETE FROM player_parents WHERE player_id IN (:ids)", params);
+			jdbc.update("DELETE FROM players WHERE id IN (:ids)", params);
+			jdbc.update("DELETE FROM skill_scores_archive WHERE assessment_id IN " +
+					"(SELECT id FROM assessments_archive WHERE player_id IN (:ids))", params);
+			jdbc.update("DELETE FROM assessments_archive WHERE player_id IN (:ids)", params);
+			jdbc.update("DELETE FROM player_parents_archive WHERE player_id IN (:ids)", params);
+			jdbc.update("DELETE FROM players_archive WHERE id IN (:ids)", params);
+		});
+		tx.executeWithoutResult(status -> {
+			userRepository.deleteAllById(userIds);
+			skillRepository.deleteAllById(skillIds);
+			groupRepository.deleteAllById(groupIds);
+		});
+	}
+
+	@Test
+	void archiveAndRestoreRoundTripKeepsRowsAndCounts() {
+		String scoreTotals = "SELECT COUNT(*) || '/' || SUM(ss.score) FROM skill_scores ss " +
+				"JOIN assessments a ON a.id = ss.assessment_id WHERE a.player_id = :id";
+		String hotScores = text(scoreTotals);
+		assertThat(playerCount()).isEqualTo(1);
+
+		archive();
+
+		assertThat(count("SELECT COUNT(*) FROM players WHERE id = :id")).isZero();
+		assertThat(count("SELECT COUNT(*) FROM players_archive WHERE id = :id")).isEqualTo(1);
+		assertThat(count("SELECT COUNT(*) FROM assessments WHERE player_id = :id")).isZero();
+		assertThat(count("SELECT COUNT(*) FROM assessments_archive WHERE player_id = :id")).isEqualTo(2);
+		assertThat(count("SELECT COUNT(*) FROM skill_scores_archive sa " +
+				"JOIN assessments_archive aa ON aa.id = sa.assessment_id WHERE aa.player_id = :id")).isEqualTo(4);
+		assertThat(count("SELECT COUNT(*) FROM player_parents WHERE player_id = :id")).isZero();
+		assertThat(count("SELECT COUNT(*) FROM player_parents_archive WHERE player_id = :id")).isEqualTo(1);
+		assertThat(playerCount()).isZero();
+
+		ArchiveResultDTO restored = archiveService.restorePlayer(playerId);
+
+		assertThat(restored.getPlayersRestored()).isEqualTo(1);
+		assertThat(restored.getAssessmentsRestored()).isEqualTo(2);
+		assertThat(restored.getSkillScoresRestored()).isEqualTo(4);
+		assertThat(restored.getAssessmentsKeptInArchive()).isZero();
+
+		assertThat(text("SELECT email FROM players WHERE id = :id")).isEqualTo(playerEmail);
+		assertThat(count("SELECT COUNT(*) FROM players WHERE id = :id AND group_id IS NULL AND is_active = false")).isEqualTo(1);
+		assertThat(count("SELECT COUNT(*) FROM assessments WHERE player_id = :id")).isEqualTo(2);
+		assertThat(text(scoreTotals)).isEqualTo(hotScores);
+		assertThat(count("SELECT COUNT(*) FROM player_parents WHERE player_id = :id AND parent_id = " + parentId)).isEqualTo(1);
+		assertThat(count("SELECT COUNT(*) FROM players_archive WHERE id = :id")).isZero();
+		assertThat(count("SELECT COUNT(*) FROM assessments_archive WHERE player_id = :id")).isZero();
+		assertThat(count("SELECT COUNT(*) FROM player_parents_archive WHERE player_id = :id")).isZero();
+		// Restored players come back unassigned, so the released spot stays free
+		assertThat(playerCount()).isZero();
+		assertThat(count("SELECT COUNT(*) FROM players WHERE group_id = " + groupId)).isZero();
+	}
+
+	@Test
+	void restoreLeavesRowsOfDeletedParentAndAssessorBehind() {
+		archive();
+		jdbc.update("DELETE FROM users WHERE id IN (:ids)",
+				new MapSqlParameterSource("ids", List.of(parentId, assessorId)));
+		userIds.removeAll(List.of(parentId, assessorId));
+
+		ArchiveResultDTO restored = archiveService.restorePlayer(playerId);
+
+		assertThat(restored.getPlayersRestored()).isEqualTo(1);
+		assertThat(restored.getAssessmentsRestored()).isZero();
+		assertThat(restored.getAssessmentsKeptInArchive()).isEqualTo(2);
+		assertThat(count("SELECT COUNT(*) FROM players WHERE id = :id")).isEqualTo(1);
+		assertThat(count("SELECT COUNT(*) FROM player_parents WHERE player_id = :id")).isZero();
+		// The link to the deleted parent is dropped rather than kept around in the archive
+		assertThat(count("SELECT COUNT(*) FROM player_parents_archive WHERE player_id = :id")).isZero();
+		assertThat(count("SELECT COUNT(*) FROM skill_scores_archive sa " +
+				"JOIN assessments_archive aa ON aa.id = sa.assessment_id WHERE aa.player_id = :id")).isEqualTo(4);
+	}
+
+	@Test
+	void restoreConflictingWithNewerPlayerKeepsEverythingArchived() {
+		archive();
+		Long newerId = tx.execute(status -> playerRepository.save(newPlayer(playerEmail)).getId());
+		playerIds.add(newerId);
+
+		assertThatThrownBy(() -> archiveService.restorePlayer(playerId))
+				.isInstanceOf(BusinessRuleException.class);
+
+		assertThat(count("SELECT COUNT(*) FROM players WHERE id = :id")).isZero();
+		assertThat(count("SELECT COUNT(*) FROM players_archive WHERE id = :id")).isEqualTo(1);
+		assertThat(count("SELECT COUNT(*) FROM assessments_archive WHERE player_id = :id")).isEqualTo(2);
+		assertThat(count("SELECT COUNT(*) FROM player_parents_archive WHERE player_id = :id")).isEqualTo(1);
+	}
+
+	private void archive() {
+		archiveService.runScheduled();
+		ArchiveResultDTO result = archiveService.getLastRun();
+		assertThat(result.isFailed()).isFalse();
+		assertThat(result.getPlayersArchived()).isEqualTo(1);
+	}
+
+	private Player newPlayer(String email) {
+		Player player = new Player();
+		player.setFirstName("Archive");
+		player.setLastName("Candidate");
+		player.setEmail(email);
+		player.setDateOfBirth(LocalDate.now().minusYears(8));
+		player.setGender(Gender.MALE);
+		player.setJoiningDate(LocalDate.now().minusYears(2));
+		player.setLevel(Level.DEVELOPMENT);
+		return player;
+	}
+
+	private Long createUser(UserType type) {
+		User user = new User();
+		user.setEmail("archive" + type.name().toLowerCase() + System.nanoTime() + "@batal.test");
+		user.setFirstName("Archive");
+		user.setLastName(type.getDisplayName());
+		user.setUserType(type);
+		Long id = tx.execute(status -> userRepository.save(user).getId());
+		userIds.add(id);
+		return id;
+	}
+
+	private Long createSkill() {
+		Skill skill = new Skill(uniqueName("Archive skill"), SkillCategory.TECHNICAL, EnumSet.of(Level.DEVELOPMENT));
+		Long id = tx.execute(status -> skillRepository.save(skill).getId());
+		skillIds.add(id);
+		return id;
+	}
+
+	private int playerCount() {
+		return count("SELECT player_count FROM groups WHERE id = " + groupId).intValue();
+	}
+
+	private Long count(String sql) {
+		return jdbc.queryForObject(sql, new MapSqlParameterSource("id", playerId), Long.class);
+	}
+
+	private String text(String sql) {
+		return jdbc.queryForObject(sql, new MapSqlParameterSource("id", playerId), String.class);
+	}
+
+	private static String uniqueName(String prefix) {
+		return prefix + " " + System.nanoTime();
+	}
+}
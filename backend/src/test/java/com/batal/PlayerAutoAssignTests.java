@@ -0,0 +1,94 @@
+package com.batal;
+
+import com.batal.dto.PlayerDTO;
+import com.batal.entity.Group;
+import com.batal.entity.Player;
+import com.batal.entity.enums.Level;
+import com.batal.repository.GroupRepository;
+import com.batal.repository.PlayerRepository;
+import com.batal.service.PlayerService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Registration with automatic group assignment: players the allocation cannot place are still
+ * registered, without a group, instead of the whole registration rolling back.
+ */
+@SpringBootTest
+class PlayerAutoAssignTests {
+
+	@Autowired
+	private PlayerService playerService;
+
+	@Autowired
+	private PlayerRepository playerRepository;
+
+	@Autowired
+	private GroupRepository groupRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private final List<Long> playerIds = new ArrayList<>();
+	private final List<Long> groupIds = new ArrayList<>();
+
+	@AfterEach
+	void cleanUp() {
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			for (Player player : playerRepository.findAllById(playerIds)) {
+				if (player.getGroup() != null) {
+					groupRepository.releaseSpot(player.getGroup().getId());
+				}
+			}
+			playerRepository.deleteAllById(playerIds);
+			groupRepository.deleteAllById(groupIds);
+		});
+	}
+
+	@Test
+	void playerOutsideSupportedAgesIsCreatedWithoutGroup() {
+		PlayerDTO created = register(20);
+
+		assertThat(created.getId()).isNotNull();
+		assertThat(created.getGroupId()).isNull();
+		Player stored = playerRepository.findById(created.getId()).orElseThrow();
+		assertThat(stored.getGroup()).isNull();
+	}
+
+	@Test
+	void playerWithinSupportedAgesIsAssignedToGroup() {
+		List<Long> existingGroupIds = groupRepository.findAll().stream().map(Group::getId).toList();
+
+		PlayerDTO created = register(10);
+
+		assertThat(created.getGroupId()).isNotNull();
+		// Only a group created for this player is removed afterwards
+		if (!existingGroupIds.contains(created.getGroupId())) {
+			groupIds.add(created.getGroupId());
+		}
+	}
+
+	private PlayerDTO register(int age) {
+		String email = "autoassign" + System.nanoTime() + "@batal.test";
+		PlayerDTO player = new PlayerDTO();
+		player.setFirstName("Auto");
+		player.setLastName("Assign");
+		player.setEmail(email);
+		player.setDateOfBirth(LocalDate.now().minusYears(age));
+		player.setLevel(Level.DEVELOPMENT);
+
+		PlayerDTO created = playerService.createPlayer(player, true);
+		playerIds.add(created.getId());
+		return created;
+	}
+}
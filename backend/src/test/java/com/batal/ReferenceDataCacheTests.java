@@ -0,0 +1,160 @@
+package com.batal;
+
+import com.batal.entity.Group;
+import com.batal.entity.Role;
+import com.batal.entity.Skill;
+import com.batal.entity.enums.AgeGroup;
+import com.batal.entity.enums.Level;
+import com.batal.entity.enums.SkillCategory;
+import com.batal.repository.GroupRepository;
+import com.batal.repository.RoleRepository;
+import com.batal.repository.SkillRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Second-level cache of the reference entities: reads are served from the cache, every kind
+ * of write (entity update, collection change, insert seen by a cached query) is visible to the
+ * next transaction, and native updates of the uncached groups table leave the cached regions alone.
+ */
+@SpringBootTest
+class ReferenceDataCacheTests {
+
+	@Autowired
+	private RoleRepository roleRepository;
+
+	@Autowired
+	private SkillRepository skillRepository;
+
+	@Autowired
+	private GroupRepository groupRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private TransactionTemplate tx;
+	private Statistics statistics;
+
+	private final List<Long> roleIds = new ArrayList<>();
+	private final List<Long> skillIds = new ArrayList<>();
+	private final List<Long> groupIds = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		tx = new TransactionTemplate(transactionManager);
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		entityManagerFactory.getCache().evictAll();
+		statistics.clear();
+	}
+
+	@AfterEach
+	void cleanUp() {
+		tx.executeWithoutResult(status -> {
+			groupRepository.deleteAllById(groupIds);
+			skillRepository.deleteAllById(skillIds);
+			roleRepository.deleteAllById(roleIds);
+		});
+	}
+
+	@Test
+	void roleIsReadFromCacheAndUpdatesAreVisible() {
+		Long id = tx.execute(status -> roleRepository.save(new Role(uniqueName("ROLE_CACHE"), "Before")).getId());
+		roleIds.add(id);
+
+		tx.executeWithoutResult(status -> roleRepository.findById(id).orElseThrow());
+		long hits = regionHits("role");
+		tx.executeWithoutResult(status -> roleRepository.findById(id).orElseThrow());
+		assertThat(regionHits("role")).isGreaterThan(hits);
+
+		tx.executeWithoutResult(status -> roleRepository.findById(id).orElseThrow().setDescription("After"));
+		String description = tx.execute(status -> roleRepository.findById(id).orElseThrow().getDescription());
+		assertThat(description).isEqualTo("After");
+	}
+
+	@Test
+	void cachedRoleQuerySeesRolesCreatedAfterIt() {
+		String name = uniqueName("ROLE_QUERY");
+		Optional<Role> before = tx.execute(status -> roleRepository.findByName(name));
+		assertThat(before).isEmpty();
+
+		roleIds.add(tx.execute(status -> roleRepository.save(new Role(name, null)).getId()));
+
+		Optional<Role> after = tx.execute(status -> roleRepository.findByName(name));
+		assertThat(after).isPresent();
+	}
+
+	@Test
+	void skillLevelChangesAreVisibleThroughCache() {
+		Skill skill = new Skill(uniqueName("Cache skill"), SkillCategory.TECHNICAL, EnumSet.of(Level.DEVELOPMENT));
+		Long id = tx.execute(status -> skillRepository.save(skill).getId());
+		skillIds.add(id);
+
+		Set<Level> before = tx.execute(status -> Set.copyOf(skillRepository.findById(id).orElseThrow().getApplicableLevels()));
+		assertThat(before).containsExactly(Level.DEVELOPMENT);
+
+		tx.executeWithoutResult(status -> skillRepository.findById(id).orElseThrow().getApplicableLevels().add(Level.ADVANCED));
+
+		Set<Level> after = tx.execute(status -> Set.copyOf(skillRepository.findById(id).orElseThrow().getApplicableLevels()));
+		assertThat(after).containsExactlyInAnyOrder(Level.DEVELOPMENT, Level.ADVANCED);
+	}
+
+	@Test
+	void cachedSkillQueryReflectsDeactivation() {
+		Skill skill = new Skill(uniqueName("Query skill"), SkillCategory.TECHNICAL, EnumSet.of(Level.DEVELOPMENT));
+		Long id = tx.execute(status -> skillRepository.save(skill).getId());
+		skillIds.add(id);
+
+		Boolean activeBefore = tx.execute(status -> skillRepository.findByIdIn(List.of(id)).get(0).getIsActive());
+		assertThat(activeBefore).isTrue();
+
+		tx.executeWithoutResult(status -> skillRepository.findById(id).orElseThrow().setIsActive(false));
+
+		Boolean activeAfter = tx.execute(status -> skillRepository.findByIdIn(List.of(id)).get(0).getIsActive());
+		assertThat(activeAfter).isFalse();
+	}
+
+	@Test
+	void nativeGroupUpdateKeepsReferenceRegions() {
+		Long roleId = tx.execute(status -> roleRepository.save(new Role(uniqueName("ROLE_SPACE"), null)).getId());
+		roleIds.add(roleId);
+		Long groupId = tx.execute(status -> groupRepository.save(
+				new Group(Level.DEVELOPMENT, AgeGroup.DOLPHINS, uniqueName("Space group"))).getId());
+		groupIds.add(groupId);
+		tx.executeWithoutResult(status -> roleRepository.findById(roleId).orElseThrow());
+
+		tx.execute(status -> groupRepository.reserveSpot(groupId));
+
+		long hits = regionHits("role");
+		tx.executeWithoutResult(status -> roleRepository.findById(roleId).orElseThrow());
+		assertThat(regionHits("role")).isGreaterThan(hits);
+
+		tx.execute(status -> groupRepository.releaseSpot(groupId));
+	}
+
+	private long regionHits(String region) {
+		return statistics.getDomainDataRegionStatistics(region).getHitCount();
+	}
+
+	private static String uniqueName(String prefix) {
+		return prefix + " " + System.nanoTime();
+	}
+}
@@ -0,0 +1,211 @@
+package com.batal;
+
+import com.batal.entity.Assessment;
+import com.batal.entity.Group;
+import com.batal.entity.Player;
+import com.batal.entity.Skill;
+import com.batal.entity.SkillScore;
+import com.batal.entity.User;
+import com.batal.entity.enums.AgeGroup;
+import com.batal.entity.enums.AssessmentPeriod;
+import com.batal.entity.enums.Level;
+import com.batal.entity.enums.SkillCategory;
+import com.batal.entity.enums.UserType;
+import com.batal.repository.AssessmentRepository;
+import com.batal.repository.GroupRepository;
+import com.batal.repository.PlayerRepository;
+import com.batal.repository.RoleRepository;
+import com.batal.repository.SkillRepository;
+import com.batal.repository.UserRepository;
+import com.batal.support.SqlStatements;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement counts of the listing and history endpoints on a seeded dataset: each stays within
+ * the request budget and does not grow with the number of rows returned (no N+1 queries).
+ */
+// This context runs next to the shared one, which already holds the management port
+@SpringBootTest(properties = "management.server.port=0")
+@AutoConfigureMockMvc
+class SqlBudgetTests {
+
+	private static final int GROUPS = 8;
+	private static final int PLAYERS_PER_GROUP = 2;
+	private static final int SKILLS = 3;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private RoleRepository roleRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private GroupRepository groupRepository;
+
+	@Autowired
+	private PlayerRepository playerRepository;
+
+	@Autowired
+	private SkillRepository skillRepository;
+
+	@Autowired
+	private AssessmentRepository assessmentRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Value("${batal.sql-budget.max-statements}")
+	private int maxStatements;
+
+	private TransactionTemplate tx;
+	private String prefix;
+	private String adminEmail;
+
+	private final List<Long> userIds = new ArrayList<>();
+	private final List<Long> groupIds = new ArrayList<>();
+	private final List<Long> playerIds = new ArrayList<>();
+	private final List<Long> skillIds = new ArrayList<>();
+	private final List<Long> assessmentIds = new ArrayList<>();
+
+	@BeforeEach
+	void seed() {
+		tx = new TransactionTemplate(transactionManager);
+		prefix = "sqlbudget" + System.nanoTime();
+		adminEmail = prefix + ".admin@batal.test";
+
+		tx.executeWithoutResult(status -> {
+			User admin = newUser(adminEmail, UserType.ADMIN);
+			admin.addRole(roleRepository.findByName("ADMIN").orElseThrow());
+			userIds.add(userRepository.save(admin).getId());
+			User parent = userRepository.save(newUser(prefix + ".parent@batal.test", UserType.PARENT));
+			userIds.add(parent.getId());
+
+			List<Skill> skills = new ArrayList<>();
+			for (int i = 0; i < SKILLS; i++) {
+				Skill skill = skillRepository.save(new Skill(prefix + " skill " + i, SkillCategory.TECHNICAL, EnumSet.of(Level.DEVELOPMENT)));
+				skills.add(skill);
+				skillIds.add(skill.getId());
+			}
+
+			for (int g = 0; g < GROUPS; g++) {
+				Group group = groupRepository.save(new Group(Level.DEVELOPMENT, AgeGroup.TIGERS, prefix + " group " + g));
+				groupIds.add(group.getId());
+				for (int p = 0; p < PLAYERS_PER_GROUP; p++) {
+					Player player = new Player();
+					player.setFirstName(prefix);
+					player.setLastName("Player " + g + "-" + p);
+					player.setEmail(prefix + "." + g + "." + p + "@batal.test");
+					player.setJoiningDate(LocalDate.now());
+					player.setLevel(Level.DEVELOPMENT);
+					player.setGroup(group);
+					playerIds.add(playerRepository.save(player).getId());
+				}
+			}
+
+			// First player: one assessment, second player: five, each scored on every skill
+			seedAssessments(playerRepository.getReferenceById(playerIds.get(0)), admin, skills, 1);
+			seedAssessments(playerRepository.getReferenceById(playerIds.get(1)), admin, skills, 5);
+		});
+
+		// Legacy single-parent column (read-only in the entity), shown in the player listing
+		for (Long playerId : playerIds) {
+			jdbcTemplate.update("UPDATE players SET parent_id = ? WHERE id = ?", userIds.get(1), playerId);
+		}
+	}
+
+	@AfterEach
+	void cleanUp() {
+		tx.executeWithoutResult(status -> {
+			assessmentRepository.deleteAllById(assessmentIds);
+			playerRepository.deleteAllById(playerIds);
+			groupRepository.deleteAllById(groupIds);
+			skillRepository.deleteAllById(skillIds);
+			userRepository.deleteAllById(userIds);
+		});
+	}
+
+	@Test
+	void groupListingDoesNotGrowWithPageSize() throws Exception {
+		String filter = "/groups?level=DEVELOPMENT&ageGroup=TIGERS";
+
+		int small = statements(filter + "&size=2");
+		int large = statements(filter + "&size=" + GROUPS);
+
+		assertThat(large).isEqualTo(small);
+	}
+
+	@Test
+	void playerListingDoesNotGrowWithPageSize() throws Exception {
+		String search = "/players?search=" + prefix;
+
+		int small = statements(search + "&size=2");
+		int large = statements(search + "&size=" + GROUPS * PLAYERS_PER_GROUP);
+
+		assertThat(large).isEqualTo(small);
+	}
+
+	@Test
+	void assessmentHistoryDoesNotGrowWithAssessments() throws Exception {
+		// The first request fills the skill caches, so both measured requests start warm
+		statements("/assessments/player/" + playerIds.get(0));
+		int one = statements("/assessments/player/" + playerIds.get(0));
+		int five = statements("/assessments/player/" + playerIds.get(1));
+
+		assertThat(five).isEqualTo(one);
+	}
+
+	private int statements(String uri) throws Exception {
+		MvcResult result = mockMvc.perform(get(uri).with(user(adminEmail).roles("ADMIN")))
+				.andExpect(status().isOk())
+				.andExpect(SqlStatements.atMost(maxStatements))
+				.andReturn();
+		return SqlStatements.of(result).getStatements();
+	}
+
+	private void seedAssessments(Player player, User assessor, List<Skill> skills, int count) {
+		for (int i = 0; i < count; i++) {
+			Assessment assessment = new Assessment(player, assessor, LocalDate.now().minusMonths(i), AssessmentPeriod.MONTHLY);
+			for (Skill skill : skills) {
+				assessment.addSkillScore(new SkillScore(assessment, skill, 5));
+			}
+			assessmentIds.add(assessmentRepository.save(assessment).getId());
+		}
+	}
+
+	private static User newUser(String email, UserType userType) {
+		User user = new User();
+		user.setEmail(email);
+		user.setPassword("not-a-real-hash");
+		user.setFirstName("Sql");
+		user.setLastName("Budget");
+		user.setUserType(userType);
+		return user;
+	}
+}
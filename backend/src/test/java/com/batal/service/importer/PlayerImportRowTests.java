@@ -0,0 +1,58 @@
+package com.batal.service.importer;
+
+import com.batal.service.export.CsvTabularWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rows written by the CSV export read back unchanged by the import
+ */
+class PlayerImportRowTests {
+
+	@Test
+	void exportedRowImportsWithOriginalValues() throws Exception {
+		// 20 characters, the phone column limit
+		String phone = "+2126123456789012345";
+		List<String> header = List.of(PlayerImportRow.FIRST_NAME, PlayerImportRow.LAST_NAME, PlayerImportRow.EMAIL,
+				PlayerImportRow.PHONE, PlayerImportRow.ADDRESS, PlayerImportRow.EMERGENCY_CONTACT_PHONE);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		CsvTabularWriter writer = new CsvTabularWriter(out);
+		writer.writeHeader(header);
+		writer.writeRow(new Object[]{"Sara", "-Amrani", "sara@batal.test", phone, "12 Rue Atlas, Rabat", "+212600000000"});
+		writer.close();
+
+		CsvRecordReader reader = new CsvRecordReader(new StringReader(out.toString(StandardCharsets.UTF_8)));
+		Map<String, Integer> columns = new HashMap<>();
+		List<String> headerRecord = reader.next();
+		for (int i = 0; i < headerRecord.size(); i++) {
+			columns.put(headerRecord.get(i).toLowerCase(Locale.ROOT), i);
+		}
+		List<String> record = reader.next();
+		PlayerImportRow row = new PlayerImportRow(reader.getRecordLine(), record, columns);
+
+		assertThat(row.isValid()).isTrue();
+		assertThat(row.getLastName()).isEqualTo("-Amrani");
+		assertThat(row.getPhone()).isEqualTo(phone);
+		assertThat(row.getAddress()).isEqualTo("12 Rue Atlas, Rabat");
+		assertThat(row.getEmergencyContactPhone()).isEqualTo("+212600000000");
+	}
+
+	@Test
+	void apostropheBeforeOtherCharactersIsKept() {
+		Map<String, Integer> columns = Map.of(PlayerImportRow.FIRST_NAME, 0, PlayerImportRow.LAST_NAME, 1, PlayerImportRow.EMAIL, 2);
+
+		PlayerImportRow row = new PlayerImportRow(2, List.of("Ali", "'Ouarzazi", "ali@batal.test"), columns);
+
+		assertThat(row.getLastName()).isEqualTo("'Ouarzazi");
+	}
+}
@@ -0,0 +1,38 @@
+package com.batal.support;
+
+import com.batal.config.SqlBudgetFilter;
+import com.batal.config.SqlStatementStats;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statement counts of MockMvc requests, as recorded by {@link SqlBudgetFilter}.
+ *
+ * <pre>
+ * mockMvc.perform(get("/players")).andExpect(SqlStatements.atMost(6));
+ * int statements = SqlStatements.of(mockMvc.perform(get("/players")).andReturn()).getStatements();
+ * </pre>
+ */
+public final class SqlStatements {
+
+	private SqlStatements() {
+	}
+
+	public static SqlStatementStats of(MvcResult result) {
+		Object stats = result.getRequest().getAttribute(SqlBudgetFilter.STATS_ATTRIBUTE);
+		assertThat(stats).as("SQL statement stats (is batal.sql-budget.enabled set?)").isInstanceOf(SqlStatementStats.class);
+		return (SqlStatementStats) stats;
+	}
+
+	public static ResultMatcher atMost(int max) {
+		return result -> {
+			SqlStatementStats stats = of(result);
+			assertThat(stats.getStatements())
+					.as("SQL statements of %s %s%n%s", result.getRequest().getMethod(),
+							result.getRequest().getRequestURI(), stats.describe(2))
+					.isLessThanOrEqualTo(max);
+		};
+	}
+}
@@ -0,0 +1,6 @@
+#!/bin/sh
+# Runs once when the dev primary's data directory is initialized: lets the streaming
+# standby in docker-compose.dev.yml (profile "replica") connect for replication.
+# On an existing volume, append the same line to pg_hba.conf and run SELECT pg_reload_conf().
+set -e
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"